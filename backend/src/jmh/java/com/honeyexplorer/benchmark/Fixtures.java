@@ -0,0 +1,155 @@
+package com.honeyexplorer.benchmark;
+
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.entity.enums.EventType;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.entity.enums.SourceType;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.support.SimpleTransactionStatus;
+
+import java.lang.reflect.Proxy;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.function.Supplier;
+
+/**
+ * Deterministic synthetic entities and in-memory stand-ins for repositories,
+ * so benchmarks measure application code rather than the database.
+ */
+public final class Fixtures {
+
+    private static final LocalDateTime UPDATED_AT = LocalDateTime.of(2026, 1, 15, 12, 0);
+
+    private Fixtures() {}
+
+    public static List<Honey> honeys(int count) {
+        Random random = new Random(42);
+        FloralSource[] floralSources = FloralSource.values();
+        HoneyType[] types = HoneyType.values();
+        HoneyOrigin[] origins = HoneyOrigin.values();
+        List<Honey> honeys = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Honey honey = new Honey();
+            honey.setId(new UUID(random.nextLong(), random.nextLong()));
+            honey.setName("Synthetic Honey " + i);
+            honey.setDescription("A synthetic honey used for benchmarking, batch " + (i % 17));
+            honey.setFloralSource(floralSources[random.nextInt(floralSources.length)]);
+            honey.setType(types[random.nextInt(types.length)]);
+            honey.setOrigin(origins[random.nextInt(origins.length)]);
+            honey.setRegion("Region " + (i % 50));
+            honey.setFlavorProfiles("floral,fruity");
+            honey.setImageUrl("https://cdn.example.com/honey/" + i + ".jpg");
+            honey.setBrand("Brand " + (i % 40));
+            honey.setPriceMin(BigDecimal.valueOf(800 + random.nextInt(2000), 2));
+            honey.setPriceMax(BigDecimal.valueOf(3000 + random.nextInt(6000), 2));
+            honey.setSlug("synthetic-honey-" + i);
+            honey.setFeatured(i % 25 == 0);
+            honey.setUpdatedAt(UPDATED_AT);
+            honeys.add(honey);
+        }
+        return honeys;
+    }
+
+    /**
+     * Local sources spread uniformly over the continental US.
+     */
+    public static List<LocalSource> localSources(int count) {
+        Random random = new Random(7);
+        SourceType[] sourceTypes = SourceType.values();
+        List<LocalSource> sources = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalSource source = new LocalSource();
+            source.setId(new UUID(random.nextLong(), random.nextLong()));
+            source.setName("Synthetic Apiary " + i);
+            source.setSourceType(sourceTypes[random.nextInt(sourceTypes.length)]);
+            source.setAddress(i + " Hive Lane");
+            source.setCity("City " + (i % 300));
+            source.setState("TX");
+            source.setLatitude(25.0 + random.nextDouble() * 24.0);
+            source.setLongitude(-124.0 + random.nextDouble() * 57.0);
+            source.setSlug("synthetic-apiary-" + i);
+            source.setIsActive(true);
+            source.setUpdatedAt(UPDATED_AT);
+            sources.add(source);
+        }
+        return sources;
+    }
+
+    public static List<Event> events(int count) {
+        List<Event> events = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            Event event = new Event();
+            event.setId(new UUID(0, i));
+            event.setName("Synthetic Market " + i);
+            event.setEventType(EventType.values()[i % EventType.values().length]);
+            event.setStartDate(LocalDate.of(2026, 6, 1).plusDays(i % 120));
+            event.setAddress(i + " Market Street");
+            event.setSlug("synthetic-market-" + i);
+            event.setUpdatedAt(UPDATED_AT);
+            events.add(event);
+        }
+        return events;
+    }
+
+    public static List<CityContent> cities(int count) {
+        List<CityContent> cities = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            CityContent city = new CityContent();
+            city.setId(new UUID(1, i));
+            city.setCity("City " + i);
+            city.setState("TX");
+            city.setSlug("city-" + i + "-tx");
+            city.setValidated(true);
+            city.setUpdatedAt(UPDATED_AT);
+            cities.add(city);
+        }
+        return cities;
+    }
+
+    /**
+     * A repository proxy answering the named methods from suppliers; any other call fails.
+     */
+    @SuppressWarnings("unchecked")
+    public static <R> R repository(Class<R> type, Map<String, Supplier<?>> answers) {
+        return (R) Proxy.newProxyInstance(type.getClassLoader(), new Class<?>[] {type}, (proxy, method, args) -> {
+            Supplier<?> answer = answers.get(method.getName());
+            if (answer == null) {
+                throw new UnsupportedOperationException(type.getSimpleName() + "." + method.getName());
+            }
+            return answer.get();
+        });
+    }
+
+    /**
+     * Transaction manager that does nothing, for services that open read-only transactions.
+     */
+    public static PlatformTransactionManager noopTransactionManager() {
+        return new PlatformTransactionManager() {
+            @Override
+            public TransactionStatus getTransaction(TransactionDefinition definition) {
+                return new SimpleTransactionStatus();
+            }
+
+            @Override
+            public void commit(TransactionStatus status) {
+            }
+
+            @Override
+            public void rollback(TransactionStatus status) {
+            }
+        };
+    }
+}
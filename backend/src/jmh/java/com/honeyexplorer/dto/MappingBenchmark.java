@@ -0,0 +1,56 @@
+package com.honeyexplorer.dto;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.benchmark.Fixtures;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Entity-to-DTO mapping and JSON serialization of a browse page (20 honeys).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class MappingBenchmark {
+
+    private static final int PAGE_SIZE = 20;
+
+    private List<Honey> honeys;
+    private List<LocalSource> localSources;
+    private PageImpl<HoneyDTO> page;
+    private ObjectMapper objectMapper;
+
+    @Setup
+    public void setUp() {
+        honeys = Fixtures.honeys(PAGE_SIZE);
+        localSources = Fixtures.localSources(PAGE_SIZE);
+        page = new PageImpl<>(honeys.stream().map(HoneyDTO::from).toList(), PageRequest.of(0, PAGE_SIZE), 210);
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+    }
+
+    @Benchmark
+    public List<HoneyDTO> honeyDtoFrom() {
+        return honeys.stream().map(HoneyDTO::from).toList();
+    }
+
+    @Benchmark
+    public List<LocalSourceDTO> localSourceDtoFrom() {
+        return localSources.stream().map(LocalSourceDTO::from).toList();
+    }
+
+    @Benchmark
+    public byte[] serializeHoneyPage() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(page);
+    }
+}
@@ -0,0 +1,77 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.Honey;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.beans.factory.support.DefaultListableBeanFactory;
+import org.springframework.orm.hibernate5.SpringBeanContainer;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Criteria predicate building for honey browse, against a Hibernate metamodel
+ * booted without a database connection.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class HoneySpecificationBenchmark {
+
+    private StandardServiceRegistry registry;
+    private SessionFactory sessionFactory;
+
+    @Setup
+    public void setUp() {
+        registry = new StandardServiceRegistryBuilder()
+            .applySetting(AvailableSettings.DIALECT, PostgreSQLDialect.class.getName())
+            .applySetting(AvailableSettings.ALLOW_METADATA_ON_BOOT, false)
+            .applySetting(AvailableSettings.USE_SECOND_LEVEL_CACHE, false)
+            // Entity listeners take Spring-injected constructor arguments
+            .applySetting(AvailableSettings.BEAN_CONTAINER, new SpringBeanContainer(new DefaultListableBeanFactory()))
+            .build();
+        sessionFactory = new MetadataSources(registry)
+            .addAnnotatedClass(Honey.class)
+            .buildMetadata()
+            .buildSessionFactory();
+    }
+
+    @TearDown
+    public void tearDown() {
+        sessionFactory.close();
+        StandardServiceRegistryBuilder.destroy(registry);
+    }
+
+    @Benchmark
+    public Predicate searchOnly() {
+        return toPredicate("clover", null, null, null, null, null);
+    }
+
+    @Benchmark
+    public Predicate allFilters() {
+        return toPredicate("wild", List.of("USA", "NEW_ZEALAND"), List.of("CLOVER", "MANUKA", "WILDFLOWER"),
+            List.of("RAW"), new BigDecimal("10.00"), new BigDecimal("40.00"));
+    }
+
+    private Predicate toPredicate(String search, List<String> origins, List<String> floralSources,
+                                  List<String> types, BigDecimal priceMin, BigDecimal priceMax) {
+        CriteriaBuilder cb = sessionFactory.getCriteriaBuilder();
+        CriteriaQuery<Honey> query = cb.createQuery(Honey.class);
+        Root<Honey> root = query.from(Honey.class);
+        return HoneySpecification.withFilters(search, origins, floralSources, types, priceMin, priceMax)
+            .toPredicate(root, query, cb);
+    }
+}
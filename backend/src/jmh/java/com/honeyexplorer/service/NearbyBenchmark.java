@@ -0,0 +1,61 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.benchmark.Fixtures;
+import com.honeyexplorer.concurrent.QueryCoalescer;
+import com.honeyexplorer.dto.LocalSourceDTO;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.data.domain.Page;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Haversine distance and the in-memory findNearby pipeline (distance, radius
+ * filter, sort, page) over synthetic sources spread across the US.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class NearbyBenchmark {
+
+    // Austin, TX; non-final so the JIT cannot constant-fold the distance
+    private double latitude = 30.2672;
+    private double longitude = -97.7431;
+
+    @State(Scope.Benchmark)
+    public static class Catalog {
+
+        @Param({"1000", "10000", "100000"})
+        int sources;
+
+        LocalSourceService service;
+
+        @Setup
+        public void setUp() {
+            List<LocalSource> all = Fixtures.localSources(sources);
+            LocalSourceRepository repository = Fixtures.repository(LocalSourceRepository.class,
+                Map.of("findAll", () -> all));
+            service = new LocalSourceService(repository,
+                new QueryCoalescer(new SimpleMeterRegistry(), Fixtures.noopTransactionManager()),
+                new SimpleMeterRegistry());
+        }
+    }
+
+    @Benchmark
+    @OutputTimeUnit(TimeUnit.NANOSECONDS)
+    public double haversineDistance() {
+        return LocalSourceService.haversineDistance(latitude, longitude, 29.7604, -95.3698);
+    }
+
+    @Benchmark
+    public Page<LocalSourceDTO> findNearby(Catalog catalog) {
+        return catalog.service.findNearby(latitude, longitude, 100, null, 0, 20);
+    }
+}
@@ -0,0 +1,51 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.benchmark.Fixtures;
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.repository.CityContentRepository;
+import com.honeyexplorer.repository.EventRepository;
+import com.honeyexplorer.repository.HoneyRepository;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Sitemap XML string building at the current catalog size and at 25x.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Benchmark)
+public class SitemapBenchmark {
+
+    @Param({"1", "25"})
+    int scale;
+
+    private SitemapService sitemapService;
+
+    @Setup
+    public void setUp() {
+        List<Honey> honeys = Fixtures.honeys(210 * scale);
+        List<LocalSource> sources = Fixtures.localSources(62 * scale);
+        List<Event> events = Fixtures.events(15 * scale);
+        List<CityContent> cities = Fixtures.cities(40 * scale);
+        sitemapService = new SitemapService(
+            Fixtures.repository(HoneyRepository.class, Map.of("findAll", () -> honeys)),
+            Fixtures.repository(LocalSourceRepository.class, Map.of("findByIsActiveTrue", () -> sources)),
+            Fixtures.repository(EventRepository.class, Map.of("findAll", () -> events)),
+            Fixtures.repository(CityContentRepository.class, Map.of("findByValidatedTrue", () -> cities)));
+    }
+
+    @Benchmark
+    public String generateSitemap() {
+        return sitemapService.generateSitemap();
+    }
+}
@@ -0,0 +1,52 @@
+package com.honeyexplorer.loadtest;
+
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Minimal {@code --name value} argument parsing; arguments after a bare
+ * {@code --} are kept verbatim for the in-process application.
+ */
+final class Args {
+
+    private final Map<String, String> options = new HashMap<>();
+    private final List<String> passThrough;
+
+    Args(String[] args) {
+        int i = 0;
+        for (; i < args.length && !args[i].equals("--"); i++) {
+            if (!args[i].startsWith("--") || i + 1 >= args.length) {
+                throw new IllegalArgumentException("Expected --name value but got " + args[i]);
+            }
+            options.put(args[i].substring(2), args[++i]);
+        }
+        passThrough = i < args.length ? Arrays.asList(args).subList(i + 1, args.length) : List.of();
+    }
+
+    String get(String name, String defaultValue) {
+        return options.getOrDefault(name, defaultValue);
+    }
+
+    String require(String name) {
+        String value = options.get(name);
+        if (value == null) {
+            throw new IllegalArgumentException("Missing --" + name);
+        }
+        return value;
+    }
+
+    int getInt(String name, int defaultValue) {
+        String value = options.get(name);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+
+    boolean has(String name) {
+        return options.containsKey(name);
+    }
+
+    List<String> passThrough() {
+        return passThrough;
+    }
+}
@@ -0,0 +1,297 @@
+package com.honeyexplorer.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.honeyexplorer.HoneyExplorerApplication;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.Function;
+
+/**
+ * Closed-loop HTTP load harness replaying a weighted traffic mix.
+ *
+ * Each worker (a virtual thread) picks an endpoint by weight, sends the request
+ * and records its latency, until the duration is up. Requests made during the
+ * warm-up are not recorded. Honey and city slugs are discovered from the API
+ * before the run, so any catalog (seeded or generated) works.
+ *
+ * Without --base the application is started in this JVM on a random port with
+ * the arguments after "--"; client and server then share CPUs, which matters
+ * on small machines.
+ */
+final class LoadHarness {
+
+    private static final String DEFAULT_MIX = "browse=35,nearby=25,city=15,similar=20,sitemap=5";
+    private static final String[] ORIGINS = {"USA", "NEW_ZEALAND", "CANADA", "MEXICO"};
+    private static final String[] FLORAL_SOURCES = {"CLOVER", "WILDFLOWER", "MANUKA", "ORANGE_BLOSSOM", "BUCKWHEAT"};
+    private static final String[] SORTS = {"name", "priceMin", "createdAt"};
+    private static final int[] RADII = {10, 25, 50, 100};
+
+    private record Endpoint(String name, int weight, Function<Random, HttpRequest.Builder> request) {}
+
+    /**
+     * Latencies (ns) and error count for one endpoint, owned by a single worker.
+     */
+    private static final class Samples {
+        long[] latencies = new long[1024];
+        int count;
+        int errors;
+
+        void add(long nanos) {
+            if (count == latencies.length) {
+                latencies = Arrays.copyOf(latencies, count * 2);
+            }
+            latencies[count++] = nanos;
+        }
+    }
+
+    private final HttpClient client = HttpClient.newBuilder()
+        .executor(Executors.newVirtualThreadPerTaskExecutor())
+        .connectTimeout(Duration.ofSeconds(5))
+        .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final String base;
+    private List<String> honeySlugs = List.of();
+    private List<String> citySlugs = List.of();
+
+    private LoadHarness(String base) {
+        this.base = base;
+    }
+
+    static void run(Args args) throws Exception {
+        ConfigurableApplicationContext app = null;
+        String base = args.get("base", null);
+        if (base == null) {
+            List<String> appArgs = new ArrayList<>(args.passThrough());
+            appArgs.add("--server.port=0");
+            app = SpringApplication.run(HoneyExplorerApplication.class, appArgs.toArray(String[]::new));
+            base = "http://localhost:" + ((WebServerApplicationContext) app).getWebServer().getPort();
+        }
+        try {
+            LoadHarness harness = new LoadHarness(base);
+            harness.discover();
+            harness.execute(args);
+        } finally {
+            if (app != null) {
+                app.close();
+            }
+        }
+    }
+
+    private void discover() throws IOException, InterruptedException {
+        JsonNode honeys = getJson("/api/honeys?page=0&size=500&sort=name");
+        List<String> slugs = new ArrayList<>();
+        honeys.path("content").forEach(honey -> slugs.add(honey.path("slug").asText()));
+        honeySlugs = slugs;
+
+        List<String> cities = new ArrayList<>();
+        getJson("/api/cities").forEach(city -> cities.add(city.path("slug").asText()));
+        citySlugs = cities;
+        System.out.printf("Target %s: %d honey slugs, %d city slugs%n", base, honeySlugs.size(), citySlugs.size());
+    }
+
+    private void execute(Args args) throws Exception {
+        int concurrency = args.getInt("concurrency", 32);
+        Duration warmup = Duration.ofSeconds(args.getInt("warmup", 10));
+        Duration duration = Duration.ofSeconds(args.getInt("duration", 60));
+        List<Endpoint> endpoints = endpoints(args.get("mix", DEFAULT_MIX));
+        int totalWeight = endpoints.stream().mapToInt(Endpoint::weight).sum();
+
+        long measureFrom = System.nanoTime() + warmup.toNanos();
+        long end = measureFrom + duration.toNanos();
+        List<Future<Map<String, Samples>>> workers = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (int w = 0; w < concurrency; w++) {
+                long seed = 1000L + w;
+                workers.add(executor.submit(() -> work(endpoints, totalWeight, new Random(seed), measureFrom, end)));
+            }
+        }
+
+        Map<String, Samples> merged = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> merged.put(endpoint.name(), new Samples()));
+        for (Future<Map<String, Samples>> worker : workers) {
+            worker.get().forEach((name, samples) -> {
+                Samples target = merged.get(name);
+                for (int i = 0; i < samples.count; i++) {
+                    target.add(samples.latencies[i]);
+                }
+                target.errors += samples.errors;
+            });
+        }
+        report(merged, duration, concurrency, args);
+    }
+
+    private Map<String, Samples> work(List<Endpoint> endpoints, int totalWeight, Random random,
+                                      long measureFrom, long end) {
+        Map<String, Samples> samples = new LinkedHashMap<>();
+        endpoints.forEach(endpoint -> samples.put(endpoint.name(), new Samples()));
+        long now;
+        while ((now = System.nanoTime()) < end) {
+            Endpoint endpoint = pick(endpoints, totalWeight, random);
+            HttpRequest request = endpoint.request().apply(random).timeout(Duration.ofSeconds(30)).build();
+            boolean ok;
+            try {
+                ok = client.send(request, HttpResponse.BodyHandlers.discarding()).statusCode() < 400;
+            } catch (IOException e) {
+                ok = false;
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                break;
+            }
+            if (now >= measureFrom) {
+                Samples endpointSamples = samples.get(endpoint.name());
+                endpointSamples.add(System.nanoTime() - now);
+                if (!ok) {
+                    endpointSamples.errors++;
+                }
+            }
+        }
+        return samples;
+    }
+
+    private List<Endpoint> endpoints(String mix) {
+        UsGeography geography = new UsGeography(new Random(99));
+        List<Endpoint> endpoints = new ArrayList<>();
+        for (String entry : mix.split(",")) {
+            String[] parts = entry.split("=");
+            String name = parts[0].trim();
+            int weight = Integer.parseInt(parts[1].trim());
+            Function<Random, HttpRequest.Builder> request = switch (name) {
+                case "browse" -> random -> get(browsePath(random));
+                case "nearby" -> random -> {
+                    UsGeography.Location location;
+                    synchronized (geography) {
+                        location = geography.location();
+                    }
+                    return get(String.format(Locale.ROOT, "/api/local-sources/nearby?lat=%.4f&lng=%.4f&radius=%d",
+                        location.latitude(), location.longitude(), RADII[random.nextInt(RADII.length)]));
+                };
+                case "city" -> random -> get("/api/cities/" + pick(citySlugs, random));
+                case "similar" -> random -> get("/api/honeys/" + pick(honeySlugs, random) + "/similar");
+                case "sitemap" -> random -> get("/sitemap.xml").header("Accept-Encoding", "gzip");
+                default -> throw new IllegalArgumentException("Unknown endpoint in mix: " + name);
+            };
+            boolean missingSlugs = (name.equals("city") && citySlugs.isEmpty())
+                || (name.equals("similar") && honeySlugs.isEmpty());
+            if (missingSlugs) {
+                System.out.printf("Skipping %s: no slugs discovered%n", name);
+            } else if (weight > 0) {
+                endpoints.add(new Endpoint(name, weight, request));
+            }
+        }
+        return endpoints;
+    }
+
+    private static String browsePath(Random random) {
+        StringBuilder path = new StringBuilder("/api/honeys?size=24&page=").append(random.nextInt(5))
+            .append("&sort=").append(SORTS[random.nextInt(SORTS.length)]);
+        if (random.nextInt(3) == 0) {
+            path.append("&origin=").append(ORIGINS[random.nextInt(ORIGINS.length)]);
+        }
+        if (random.nextInt(3) == 0) {
+            path.append("&floralSource=").append(FLORAL_SOURCES[random.nextInt(FLORAL_SOURCES.length)]);
+        }
+        if (random.nextInt(8) == 0) {
+            path.append("&search=wild");
+        }
+        return path.toString();
+    }
+
+    private HttpRequest.Builder get(String path) {
+        return HttpRequest.newBuilder(URI.create(base + path)).GET();
+    }
+
+    private JsonNode getJson(String path) throws IOException, InterruptedException {
+        HttpResponse<String> response = client.send(get(path).build(), HttpResponse.BodyHandlers.ofString());
+        if (response.statusCode() != 200) {
+            throw new IOException("GET " + path + " returned " + response.statusCode());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private static Endpoint pick(List<Endpoint> endpoints, int totalWeight, Random random) {
+        int target = random.nextInt(totalWeight);
+        for (Endpoint endpoint : endpoints) {
+            target -= endpoint.weight();
+            if (target < 0) {
+                return endpoint;
+            }
+        }
+        return endpoints.get(endpoints.size() - 1);
+    }
+
+    private static String pick(List<String> values, Random random) {
+        return values.get(random.nextInt(values.size()));
+    }
+
+    private void report(Map<String, Samples> results, Duration duration, int concurrency, Args args) throws IOException {
+        double seconds = duration.toMillis() / 1000.0;
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("timestamp", Instant.now().toString());
+        json.put("base", base);
+        json.put("concurrency", concurrency);
+        json.put("durationSeconds", seconds);
+        Map<String, Object> endpointsJson = new LinkedHashMap<>();
+
+        System.out.printf("%n%-10s %9s %7s %9s %9s %9s %9s %9s%n",
+            "endpoint", "requests", "errors", "req/s", "p50 ms", "p90 ms", "p99 ms", "max ms");
+        long totalRequests = 0;
+        for (Map.Entry<String, Samples> entry : results.entrySet()) {
+            Samples samples = entry.getValue();
+            long[] sorted = Arrays.copyOf(samples.latencies, samples.count);
+            Arrays.sort(sorted);
+            totalRequests += samples.count;
+
+            Map<String, Object> stats = new LinkedHashMap<>();
+            stats.put("requests", samples.count);
+            stats.put("errors", samples.errors);
+            stats.put("throughput", samples.count / seconds);
+            stats.put("p50Ms", percentile(sorted, 0.50));
+            stats.put("p90Ms", percentile(sorted, 0.90));
+            stats.put("p99Ms", percentile(sorted, 0.99));
+            stats.put("maxMs", percentile(sorted, 1.0));
+            endpointsJson.put(entry.getKey(), stats);
+
+            System.out.printf(Locale.ROOT, "%-10s %9d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                entry.getKey(), samples.count, samples.errors, samples.count / seconds,
+                percentile(sorted, 0.50), percentile(sorted, 0.90), percentile(sorted, 0.99), percentile(sorted, 1.0));
+        }
+        System.out.printf(Locale.ROOT, "%-10s %9d %7s %9.1f%n", "total", totalRequests, "", totalRequests / seconds);
+
+        json.put("endpoints", endpointsJson);
+        Path out = Path.of(args.get("out", "target/loadtest-result.json"));
+        Files.createDirectories(out.toAbsolutePath().getParent());
+        objectMapper.enable(SerializationFeature.INDENT_OUTPUT).writeValue(out.toFile(), json);
+        System.out.println("Results written to " + out);
+    }
+
+    private static double percentile(long[] sorted, double quantile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int index = (int) Math.ceil(quantile * sorted.length) - 1;
+        return sorted[Math.max(0, index)] / 1_000_000.0;
+    }
+}
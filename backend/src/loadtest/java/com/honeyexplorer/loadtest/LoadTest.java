@@ -0,0 +1,31 @@
+package com.honeyexplorer.loadtest;
+
+import java.util.Arrays;
+
+/**
+ * Entry point for the load-test tooling (run with the loadtest Maven profile):
+ * <pre>
+ * generate --url jdbc:postgresql://localhost/honey --user u --password p
+ *          [--honeys 5000] [--sources 50000] [--events 5000] [--cities 400] [--seed 42]
+ * run      [--base http://localhost:8080] [--duration 60] [--warmup 10] [--concurrency 32]
+ *          [--mix browse=35,nearby=25,city=15,similar=20,sitemap=5] [--out target/loadtest-result.json]
+ *          [-- application args, when --base is omitted and the app is started in-process]
+ * </pre>
+ */
+public final class LoadTest {
+
+    private LoadTest() {}
+
+    public static void main(String[] args) throws Exception {
+        if (args.length == 0) {
+            System.err.println("Usage: LoadTest generate|run [options] (see LoadTest javadoc)");
+            System.exit(2);
+        }
+        Args options = new Args(Arrays.copyOfRange(args, 1, args.length));
+        switch (args[0]) {
+            case "generate" -> SyntheticCatalogGenerator.run(options);
+            case "run" -> LoadHarness.run(options);
+            default -> throw new IllegalArgumentException("Unknown command " + args[0]);
+        }
+    }
+}
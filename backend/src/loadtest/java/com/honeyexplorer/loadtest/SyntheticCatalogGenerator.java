@@ -0,0 +1,347 @@
+package com.honeyexplorer.loadtest;
+
+import com.honeyexplorer.entity.enums.EventType;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.entity.enums.SourceType;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Connection;
+import java.sql.Date;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.UUID;
+
+/**
+ * Writes a synthetic catalog straight into a migrated H2 or PostgreSQL schema
+ * with batched JDBC inserts. All generated slugs start with "syn-"; rows from a
+ * previous run are deleted first, so the generator can be re-run at a new scale.
+ *
+ * Honeys skew towards US origin and common floral sources, local sources and
+ * events cluster around population-weighted metros (see {@link UsGeography}),
+ * and event dates lean towards the spring/summer season.
+ */
+final class SyntheticCatalogGenerator {
+
+    private static final String PREFIX = "syn-";
+    private static final int BATCH_SIZE = 1000;
+
+    private static final String[] BRANDS = {
+        "Golden Hive", "Meadow Gold", "Wild Comb Co", "Prairie Bee", "Blue Ridge Apiaries",
+        "Coastal Nectar", "Honey Hollow", "Sunflower Farms", "Bee Happy", "Old Mill Honey"
+    };
+    private static final String[] FLAVORS = {"SWEET", "FLORAL", "FRUITY", "EARTHY", "BOLD", "SPICY", "MILD", "COMPLEX"};
+    private static final String[] CERTIFICATIONS = {null, null, null, "NON_GMO", "USDA_ORGANIC", "TRUE_SOURCE", "USDA_ORGANIC,NON_GMO"};
+    private static final String[] SOURCE_NAMES = {"Apiaries", "Honey Farm", "Bee Co", "Hives", "Meadery", "Bee Yard", "Market"};
+    private static final String[] TOWN_SUFFIXES = {"Heights", "Springs", "Valley", "Park", "Grove", "Falls", "Ridge"};
+
+    private final Random random;
+    private final UsGeography geography;
+    private final LocalDateTime now = LocalDateTime.now();
+
+    private SyntheticCatalogGenerator(long seed) {
+        this.random = new Random(seed);
+        this.geography = new UsGeography(random);
+    }
+
+    static void run(Args args) throws SQLException {
+        int honeys = args.getInt("honeys", 5_000);
+        int sources = args.getInt("sources", 50_000);
+        int events = args.getInt("events", 5_000);
+        int cities = args.getInt("cities", 400);
+        SyntheticCatalogGenerator generator = new SyntheticCatalogGenerator(args.getInt("seed", 42));
+
+        try (Connection connection = DriverManager.getConnection(
+                args.require("url"), args.get("user", null), args.get("password", ""))) {
+            connection.setAutoCommit(false);
+            boolean postgres = connection.getMetaData().getDatabaseProductName().toLowerCase(Locale.ROOT).contains("postgres");
+
+            long started = System.nanoTime();
+            generator.clear(connection);
+            generator.insertHoneys(connection, honeys);
+            List<UUID> sourceIds = generator.insertLocalSources(connection, sources);
+            generator.insertEvents(connection, events, sourceIds);
+            generator.insertCities(connection, cities, postgres);
+            connection.commit();
+            bumpDataVersions(connection);
+            System.out.printf("Generated %d honeys, %d local sources, %d events, %d cities in %d ms%n",
+                honeys, sources, events, cities, (System.nanoTime() - started) / 1_000_000);
+        }
+    }
+
+    private void clear(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("DELETE FROM events WHERE slug LIKE '" + PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM local_sources WHERE slug LIKE '" + PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM honeys WHERE slug LIKE '" + PREFIX + "%'");
+            statement.executeUpdate("DELETE FROM city_content WHERE slug LIKE '" + PREFIX + "%'");
+        }
+        connection.commit();
+    }
+
+    private void insertHoneys(Connection connection, int count) throws SQLException {
+        String sql = """
+            INSERT INTO honeys (id, name, description, floral_source, type, origin, region, flavor_profiles,
+                image_url, thumbnail_url, brand, price_min, price_max, certifications, umf_rating, mgo_rating,
+                slug, featured, purchase_url, created_at, updated_at, is_verified)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)""";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                FloralSource floralSource = floralSource();
+                HoneyOrigin origin = floralSource == FloralSource.MANUKA ? HoneyOrigin.NEW_ZEALAND : origin();
+                HoneyType type = random.nextInt(10) < 6 ? HoneyType.RAW : pick(HoneyType.values());
+                String brand = pick(BRANDS);
+                String name = title(type.name()) + " " + title(floralSource.name()) + " Honey";
+                String slug = PREFIX + slugify(brand + " " + name) + "-" + i;
+                BigDecimal priceMin = BigDecimal.valueOf(Math.exp(2.2 + random.nextGaussian() * 0.4))
+                    .setScale(2, RoundingMode.HALF_UP);
+                boolean manuka = floralSource == FloralSource.MANUKA;
+                int umf = 5 + random.nextInt(21);
+
+                insert.setObject(1, UUID.randomUUID());
+                insert.setString(2, name);
+                insert.setString(3, "A " + title(floralSource.name()).toLowerCase(Locale.ROOT)
+                    + " honey from " + brand + ", harvested in small batches.");
+                insert.setString(4, floralSource.name());
+                insert.setString(5, type.name());
+                insert.setString(6, origin.name());
+                insert.setString(7, origin == HoneyOrigin.USA ? geography.metro().state() : null);
+                insert.setString(8, pick(FLAVORS) + "," + pick(FLAVORS));
+                insert.setString(9, "https://cdn.example.com/honeys/" + slug + ".webp");
+                insert.setString(10, "https://cdn.example.com/honeys/thumbnails/" + slug + ".webp");
+                insert.setString(11, brand);
+                insert.setBigDecimal(12, priceMin);
+                insert.setBigDecimal(13, priceMin.multiply(BigDecimal.valueOf(1.2 + random.nextDouble()))
+                    .setScale(2, RoundingMode.HALF_UP));
+                insert.setString(14, manuka ? "UMF_" + umf + "_PLUS" : pick(CERTIFICATIONS));
+                setInteger(insert, 15, manuka ? umf : null);
+                setInteger(insert, 16, manuka ? umf * 35 : null);
+                insert.setString(17, slug);
+                insert.setBoolean(18, random.nextInt(50) == 0);
+                insert.setString(19, "https://www.example.com/buy/" + slug);
+                insert.setTimestamp(20, Timestamp.valueOf(now));
+                insert.setTimestamp(21, Timestamp.valueOf(now));
+                addBatch(connection, insert, i);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private List<UUID> insertLocalSources(Connection connection, int count) throws SQLException {
+        String sql = """
+            INSERT INTO local_sources (id, name, source_type, description, address, city, state, zip_code,
+                latitude, longitude, phone, email, website, hours_json, thumbnail_url, slug, is_active,
+                created_at, updated_at, is_verified)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, false)""";
+        List<UUID> ids = new ArrayList<>(count);
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                UsGeography.Location location = geography.location();
+                UUID id = UUID.randomUUID();
+                String name = lastName() + " " + pick(SOURCE_NAMES);
+                String slug = PREFIX + slugify(name) + "-" + i;
+
+                insert.setObject(1, id);
+                insert.setString(2, name);
+                insert.setString(3, sourceType().name());
+                insert.setString(4, "Family-run producer near " + location.metro().city() + ".");
+                insert.setString(5, (100 + random.nextInt(9900)) + " County Road " + (1 + random.nextInt(400)));
+                insert.setString(6, location.metro().city());
+                insert.setString(7, location.metro().state());
+                insert.setString(8, String.format("%05d", random.nextInt(99_999)));
+                insert.setDouble(9, location.latitude());
+                insert.setDouble(10, location.longitude());
+                insert.setString(11, String.format("(555) %03d-%04d", random.nextInt(1000), random.nextInt(10_000)));
+                insert.setString(12, "hello@" + slugify(name) + ".example.com");
+                insert.setString(13, "https://" + slugify(name) + ".example.com");
+                insert.setString(14, "{\"sat\":\"8am-12pm\",\"sun\":\"Closed\"}");
+                insert.setString(15, "https://cdn.example.com/sources/thumbnails/" + slug + ".webp");
+                insert.setString(16, slug);
+                insert.setBoolean(17, random.nextInt(20) != 0);
+                insert.setTimestamp(18, Timestamp.valueOf(now));
+                insert.setTimestamp(19, Timestamp.valueOf(now));
+                addBatch(connection, insert, i);
+                ids.add(id);
+            }
+            insert.executeBatch();
+        }
+        return ids;
+    }
+
+    private void insertEvents(Connection connection, int count, List<UUID> sources) throws SQLException {
+        String sql = """
+            INSERT INTO events (id, name, description, event_type, start_date, end_date, address, city, state,
+                latitude, longitude, link, local_source_id, slug, is_active, created_at, updated_at, is_verified)
+            VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, ?, true, ?, ?, false)""";
+        LocalDate today = LocalDate.now();
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                UsGeography.Location location = geography.location();
+                EventType eventType = pick(EventType.values());
+                String name = location.metro().city() + " Honey " + title(eventType.name());
+                LocalDate start = eventDate(today);
+                UUID host = !sources.isEmpty() && random.nextBoolean()
+                    ? sources.get(random.nextInt(sources.size())) : null;
+
+                insert.setObject(1, UUID.randomUUID());
+                insert.setString(2, name);
+                insert.setString(3, "Tastings, vendors and demonstrations from local beekeepers.");
+                insert.setString(4, eventType.name());
+                insert.setDate(5, Date.valueOf(start));
+                insert.setDate(6, random.nextInt(3) == 0 ? Date.valueOf(start.plusDays(1 + random.nextInt(3))) : null);
+                insert.setString(7, location.metro().city() + " Fairgrounds");
+                insert.setString(8, location.metro().city());
+                insert.setString(9, location.metro().state());
+                insert.setDouble(10, location.latitude());
+                insert.setDouble(11, location.longitude());
+                insert.setString(12, "https://events.example.com/" + i);
+                if (host != null) {
+                    insert.setObject(13, host);
+                } else {
+                    insert.setNull(13, Types.OTHER);
+                }
+                insert.setString(14, PREFIX + slugify(name) + "-" + i);
+                insert.setTimestamp(15, Timestamp.valueOf(now));
+                insert.setTimestamp(16, Timestamp.valueOf(now));
+                addBatch(connection, insert, i);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    private void insertCities(Connection connection, int count, boolean postgres) throws SQLException {
+        String sql = "INSERT INTO city_content (id, city, state, slug, latitude, longitude, intro_text, honey_facts, "
+            + "buying_tips, best_seasons, faq_json, validated, validation_score, created_at, updated_at) "
+            + "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?, " + (postgres ? "CAST(? AS jsonb)" : "?") + ", ?, ?, ?, ?)";
+        try (PreparedStatement insert = connection.prepareStatement(sql)) {
+            for (int i = 0; i < count; i++) {
+                UsGeography.Metro metro = UsGeography.METROS.get(i % UsGeography.METROS.size());
+                boolean suburb = i >= UsGeography.METROS.size();
+                String city = suburb ? metro.city() + " " + pick(TOWN_SUFFIXES) : metro.city();
+                double latitude = metro.latitude() + (suburb ? random.nextGaussian() * 0.2 : 0);
+                double longitude = metro.longitude() + (suburb ? random.nextGaussian() * 0.2 : 0);
+
+                insert.setObject(1, UUID.randomUUID());
+                insert.setString(2, city);
+                insert.setString(3, metro.state());
+                insert.setString(4, PREFIX + slugify(city + " " + metro.state()) + "-" + i);
+                insert.setBigDecimal(5, BigDecimal.valueOf(latitude).setScale(6, RoundingMode.HALF_UP));
+                insert.setBigDecimal(6, BigDecimal.valueOf(longitude).setScale(6, RoundingMode.HALF_UP));
+                insert.setString(7, paragraph("Local honey in " + city, 6));
+                insert.setString(8, paragraph("Beekeeping around " + city, 5));
+                insert.setString(9, paragraph("Buying tips for " + city, 4));
+                insert.setString(10, "Spring and early summer");
+                insert.setString(11, "[{\"question\":\"Where can I buy raw honey in " + city
+                    + "?\",\"answer\":\"Farmers markets and local apiaries.\"}]");
+                insert.setBoolean(12, random.nextInt(10) != 0);
+                insert.setInt(13, 70 + random.nextInt(31));
+                insert.setTimestamp(14, Timestamp.valueOf(now));
+                insert.setTimestamp(15, Timestamp.valueOf(now));
+                addBatch(connection, insert, i);
+            }
+            insert.executeBatch();
+        }
+    }
+
+    /**
+     * Bump every data version so running instances drop cached responses. Runs in its own
+     * transaction after the inserts are committed: a failure (e.g. no data_versions table)
+     * aborts the transaction on PostgreSQL, and must not take generated rows with it.
+     */
+    private static void bumpDataVersions(Connection connection) throws SQLException {
+        try (Statement statement = connection.createStatement()) {
+            statement.executeUpdate("UPDATE data_versions SET version = version + 1, updated_at = CURRENT_TIMESTAMP");
+            connection.commit();
+        } catch (SQLException e) {
+            connection.rollback();
+            System.err.println("Skipping data version bump: " + e.getMessage());
+        }
+    }
+
+    private static void addBatch(Connection connection, PreparedStatement insert, int index) throws SQLException {
+        insert.addBatch();
+        if ((index + 1) % BATCH_SIZE == 0) {
+            insert.executeBatch();
+            connection.commit();
+        }
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value != null) {
+            statement.setInt(index, value);
+        } else {
+            statement.setNull(index, Types.INTEGER);
+        }
+    }
+
+    private FloralSource floralSource() {
+        // Clover and wildflower dominate retail shelves
+        int roll = random.nextInt(100);
+        if (roll < 25) {
+            return FloralSource.WILDFLOWER;
+        }
+        if (roll < 40) {
+            return FloralSource.CLOVER;
+        }
+        return pick(FloralSource.values());
+    }
+
+    private HoneyOrigin origin() {
+        return random.nextInt(100) < 55 ? HoneyOrigin.USA : pick(HoneyOrigin.values());
+    }
+
+    private SourceType sourceType() {
+        return random.nextInt(100) < 45 ? SourceType.BEEKEEPER : pick(SourceType.values());
+    }
+
+    /**
+     * Dates over the coming year, with roughly two thirds between April and September.
+     */
+    private LocalDate eventDate(LocalDate today) {
+        for (int attempt = 0; attempt < 3; attempt++) {
+            LocalDate date = today.plusDays(random.nextInt(365));
+            if (date.getMonthValue() >= 4 && date.getMonthValue() <= 9) {
+                return date;
+            }
+        }
+        return today.plusDays(random.nextInt(365));
+    }
+
+    private String lastName() {
+        String[] names = {"Miller", "Hartley", "Nguyen", "Garcia", "Okafor", "Lindqvist", "Patel", "Brooks", "Keller", "Alvarez"};
+        return pick(names);
+    }
+
+    private String paragraph(String topic, int sentences) {
+        StringBuilder text = new StringBuilder(topic).append('.');
+        for (int i = 0; i < sentences; i++) {
+            text.append(" Beekeepers in the area tend hives through the season and sell raw honey directly.");
+        }
+        return text.toString();
+    }
+
+    private <T> T pick(T[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    private static String title(String enumName) {
+        String lower = enumName.replace('_', ' ').toLowerCase(Locale.ROOT);
+        return Character.toUpperCase(lower.charAt(0)) + lower.substring(1);
+    }
+
+    private static String slugify(String value) {
+        return value.toLowerCase(Locale.ROOT).replaceAll("[^a-z0-9]+", "-").replaceAll("(^-|-$)", "");
+    }
+}
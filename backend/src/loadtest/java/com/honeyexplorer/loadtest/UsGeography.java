@@ -0,0 +1,115 @@
+package com.honeyexplorer.loadtest;
+
+import java.util.List;
+import java.util.Random;
+
+/**
+ * Population-weighted US metro areas for placing synthetic locations.
+ * Most points cluster around metros with a Gaussian spread; the rest fall
+ * anywhere in the continental US to model rural producers.
+ */
+final class UsGeography {
+
+    record Metro(String city, String state, double latitude, double longitude, double weight) {}
+
+    record Location(Metro metro, double latitude, double longitude) {}
+
+    static final List<Metro> METROS = List.of(
+        new Metro("New York", "New York", 40.7128, -74.0060, 19.5),
+        new Metro("Los Angeles", "California", 34.0522, -118.2437, 13.0),
+        new Metro("Chicago", "Illinois", 41.8781, -87.6298, 9.4),
+        new Metro("Dallas", "Texas", 32.7767, -96.7970, 7.6),
+        new Metro("Houston", "Texas", 29.7604, -95.3698, 7.1),
+        new Metro("Washington", "District of Columbia", 38.9072, -77.0369, 6.3),
+        new Metro("Philadelphia", "Pennsylvania", 39.9526, -75.1652, 6.2),
+        new Metro("Miami", "Florida", 25.7617, -80.1918, 6.1),
+        new Metro("Atlanta", "Georgia", 33.7490, -84.3880, 6.1),
+        new Metro("Boston", "Massachusetts", 42.3601, -71.0589, 4.9),
+        new Metro("Phoenix", "Arizona", 33.4484, -112.0740, 4.9),
+        new Metro("San Francisco", "California", 37.7749, -122.4194, 4.7),
+        new Metro("Riverside", "California", 33.9533, -117.3962, 4.6),
+        new Metro("Detroit", "Michigan", 42.3314, -83.0458, 4.3),
+        new Metro("Seattle", "Washington", 47.6062, -122.3321, 4.0),
+        new Metro("Minneapolis", "Minnesota", 44.9778, -93.2650, 3.7),
+        new Metro("San Diego", "California", 32.7157, -117.1611, 3.3),
+        new Metro("Tampa", "Florida", 27.9506, -82.4572, 3.2),
+        new Metro("Denver", "Colorado", 39.7392, -104.9903, 3.0),
+        new Metro("Baltimore", "Maryland", 39.2904, -76.6122, 2.8),
+        new Metro("St. Louis", "Missouri", 38.6270, -90.1994, 2.8),
+        new Metro("Orlando", "Florida", 28.5383, -81.3792, 2.7),
+        new Metro("Charlotte", "North Carolina", 35.2271, -80.8431, 2.7),
+        new Metro("San Antonio", "Texas", 29.4241, -98.4936, 2.6),
+        new Metro("Portland", "Oregon", 45.5152, -122.6784, 2.5),
+        new Metro("Sacramento", "California", 38.5816, -121.4944, 2.4),
+        new Metro("Pittsburgh", "Pennsylvania", 40.4406, -79.9959, 2.4),
+        new Metro("Austin", "Texas", 30.2672, -97.7431, 2.4),
+        new Metro("Las Vegas", "Nevada", 36.1699, -115.1398, 2.3),
+        new Metro("Cincinnati", "Ohio", 39.1031, -84.5120, 2.3),
+        new Metro("Kansas City", "Missouri", 39.0997, -94.5786, 2.2),
+        new Metro("Columbus", "Ohio", 39.9612, -82.9988, 2.1),
+        new Metro("Indianapolis", "Indiana", 39.7684, -86.1581, 2.1),
+        new Metro("Nashville", "Tennessee", 36.1627, -86.7816, 2.0),
+        new Metro("Raleigh", "North Carolina", 35.7796, -78.6382, 1.4),
+        new Metro("Salt Lake City", "Utah", 40.7608, -111.8910, 1.3),
+        new Metro("Asheville", "North Carolina", 35.5951, -82.5515, 0.5),
+        new Metro("Burlington", "Vermont", 44.4759, -73.2121, 0.2),
+        new Metro("Boise", "Idaho", 43.6150, -116.2023, 0.8),
+        new Metro("Albuquerque", "New Mexico", 35.0844, -106.6504, 0.9)
+    );
+
+    private static final double RURAL_SHARE = 0.2;
+
+    private final Random random;
+    private final double[] cumulativeWeights;
+
+    UsGeography(Random random) {
+        this.random = random;
+        this.cumulativeWeights = new double[METROS.size()];
+        double total = 0;
+        for (int i = 0; i < METROS.size(); i++) {
+            total += METROS.get(i).weight();
+            cumulativeWeights[i] = total;
+        }
+    }
+
+    Metro metro() {
+        double target = random.nextDouble() * cumulativeWeights[cumulativeWeights.length - 1];
+        for (int i = 0; i < cumulativeWeights.length; i++) {
+            if (target < cumulativeWeights[i]) {
+                return METROS.get(i);
+            }
+        }
+        return METROS.get(METROS.size() - 1);
+    }
+
+    /**
+     * A location near a weighted metro (sigma about 25 miles), or occasionally
+     * a rural point within the continental US attributed to the nearest metro's state.
+     */
+    Location location() {
+        if (random.nextDouble() < RURAL_SHARE) {
+            double latitude = 26.0 + random.nextDouble() * 22.0;
+            double longitude = -123.0 + random.nextDouble() * 54.0;
+            return new Location(nearest(latitude, longitude), latitude, longitude);
+        }
+        Metro metro = metro();
+        return new Location(metro,
+            metro.latitude() + random.nextGaussian() * 0.36,
+            metro.longitude() + random.nextGaussian() * 0.45);
+    }
+
+    private static Metro nearest(double latitude, double longitude) {
+        Metro best = METROS.get(0);
+        double bestDistance = Double.MAX_VALUE;
+        for (Metro metro : METROS) {
+            double dLat = metro.latitude() - latitude;
+            double dLon = (metro.longitude() - longitude) * Math.cos(Math.toRadians(latitude));
+            double distance = dLat * dLat + dLon * dLon;
+            if (distance < bestDistance) {
+                bestDistance = distance;
+                best = metro;
+            }
+        }
+        return best;
+    }
+}
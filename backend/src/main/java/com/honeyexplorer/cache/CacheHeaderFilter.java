@@ -0,0 +1,112 @@
+package com.honeyexplorer.cache;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.ServletOutputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpServletResponseWrapper;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.WebUtils;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+
+/**
+ * Holds back the ETag and Cache-Control chosen by {@link ConditionalRequestInterceptor} until
+ * the response is committed, and writes them only if the status is then 2xx. The interceptor
+ * runs before the handler decides the outcome, and a 404 for an unknown slug or a 503 from
+ * the database limiter must not be cached by browsers or the CDN.
+ */
+@Component
+public class CacheHeaderFilter extends OncePerRequestFilter {
+
+    /**
+     * Cache the response under these headers if it succeeds. Without this filter in the chain
+     * (standalone MockMvc) the response is simply left uncached.
+     */
+    static void cacheOnSuccess(HttpServletResponse response, String etag, String cacheControl) {
+        SuccessOnlyResponse deferred = WebUtils.getNativeResponse(response, SuccessOnlyResponse.class);
+        if (deferred != null) {
+            deferred.etag = etag;
+            deferred.cacheControl = cacheControl;
+        }
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        SuccessOnlyResponse deferred = new SuccessOnlyResponse(response);
+        chain.doFilter(request, deferred);
+        if (!request.isAsyncStarted()) {
+            // Handlers that finished without writing a body
+            deferred.apply();
+        }
+    }
+
+    /**
+     * Applies the pending headers when the body is first written or flushed. Until then, ETag
+     * reads and writes go to the pending value, so a handler can still adjust it
+     * (SerializedResponseCache weakens it for gzipped bytes).
+     */
+    private static final class SuccessOnlyResponse extends HttpServletResponseWrapper {
+
+        private String etag;
+        private String cacheControl;
+
+        SuccessOnlyResponse(HttpServletResponse response) {
+            super(response);
+        }
+
+        @Override
+        public String getHeader(String name) {
+            return etag != null && HttpHeaders.ETAG.equalsIgnoreCase(name) ? etag : super.getHeader(name);
+        }
+
+        @Override
+        public void setHeader(String name, String value) {
+            if (etag != null && HttpHeaders.ETAG.equalsIgnoreCase(name)) {
+                etag = value;
+            } else {
+                super.setHeader(name, value);
+            }
+        }
+
+        @Override
+        public ServletOutputStream getOutputStream() throws IOException {
+            apply();
+            return super.getOutputStream();
+        }
+
+        @Override
+        public PrintWriter getWriter() throws IOException {
+            apply();
+            return super.getWriter();
+        }
+
+        @Override
+        public void flushBuffer() throws IOException {
+            apply();
+            super.flushBuffer();
+        }
+
+        private void apply() {
+            if (etag == null) {
+                return;
+            }
+            String pendingEtag = etag;
+            etag = null;
+            if (getStatus() >= 200 && getStatus() < 300 && !isCommitted()) {
+                super.setHeader(HttpHeaders.ETAG, pendingEtag);
+                super.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl);
+            }
+        }
+    }
+}
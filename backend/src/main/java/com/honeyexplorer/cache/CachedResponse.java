@@ -0,0 +1,39 @@
+package com.honeyexplorer.cache;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a GET handler as cacheable by clients and proxies.
+ * The response gets a strong ETag derived from the request and the versions of the
+ * listed data types, plus a Cache-Control policy; a matching If-None-Match is
+ * answered with 304 before the handler runs.
+ */
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+public @interface CachedResponse {
+
+    /**
+     * Data types the response is built from. Empty for responses that only change on deploy.
+     */
+    DataType[] value() default {};
+
+    /**
+     * Seconds the response may be reused without revalidation.
+     */
+    long maxAge() default 60;
+
+    /**
+     * Seconds a stale response may still be served while it is revalidated in the background.
+     */
+    long staleWhileRevalidate() default 0;
+
+    /**
+     * Whether the response depends on the current date (e.g. "upcoming" events).
+     */
+    boolean dateSensitive() default false;
+}
@@ -0,0 +1,123 @@
+package com.honeyexplorer.cache;
+
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.snapshot.CatalogSnapshotService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpHeaders;
+import org.springframework.stereotype.Component;
+import org.springframework.web.method.HandlerMethod;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDate;
+import java.util.HexFormat;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Applies {@link CachedResponse} policies: short-circuits with 304 Not Modified when the client
+ * already has the current version, and otherwise leaves ETag and Cache-Control to
+ * {@link CacheHeaderFilter}, which only sends them if the handler succeeds.
+ * The ETag depends only on the request, the negotiated {@link WireFormat}, data versions and
+ * whether reads are still answered from the catalog snapshot, so no query runs for a 304.
+ */
+@Component
+public class ConditionalRequestInterceptor implements HandlerInterceptor {
+
+    private final DataVersionRegistry dataVersionRegistry;
+    private final ObjectProvider<CatalogSnapshotService> catalogSnapshotService;
+
+    public ConditionalRequestInterceptor(DataVersionRegistry dataVersionRegistry,
+                                         ObjectProvider<CatalogSnapshotService> catalogSnapshotService) {
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.catalogSnapshotService = catalogSnapshotService;
+    }
+
+    @Override
+    public boolean preHandle(HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (!(handler instanceof HandlerMethod handlerMethod)) {
+            return true;
+        }
+        CachedResponse policy = handlerMethod.getMethodAnnotation(CachedResponse.class);
+        if (policy == null || !("GET".equals(request.getMethod()) || "HEAD".equals(request.getMethod()))) {
+            return true;
+        }
+
+        String etag = etag(request, policy);
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT);
+
+        if (matches(request.getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+            response.setHeader(HttpHeaders.ETAG, etag);
+            response.setHeader(HttpHeaders.CACHE_CONTROL, cacheControl(policy));
+            response.setStatus(HttpServletResponse.SC_NOT_MODIFIED);
+            return false;
+        }
+        CacheHeaderFilter.cacheOnSuccess(response, etag, cacheControl(policy));
+        return true;
+    }
+
+    private String etag(HttpServletRequest request, CachedResponse policy) {
+        StringBuilder key = new StringBuilder(request.getRequestURI());
+        if (request.getQueryString() != null) {
+            key.append('?').append(request.getQueryString());
+        }
+        WireFormat format = WireFormat.negotiate(request.getHeader(HttpHeaders.ACCEPT));
+        if (format != WireFormat.JSON) {
+            // Each encoding is its own representation; JSON keeps the tags it always had
+            key.append('|').append(format);
+        }
+        key.append('|').append(dataVersionRegistry.epoch());
+        CatalogSnapshotService snapshots = catalogSnapshotService.getIfAvailable();
+        if (snapshots != null) {
+            // Snapshot responses may predate the versions; their tags must not match database responses
+            snapshots.serving().ifPresent(snapshot -> key.append("|snapshot=").append(snapshot.createdAt()));
+        }
+        for (DataType type : policy.value()) {
+            key.append('|').append(type).append('=').append(dataVersionRegistry.version(type));
+        }
+        if (policy.dateSensitive()) {
+            key.append('|').append(LocalDate.now());
+        }
+        return "\"" + hash(key.toString()) + "\"";
+    }
+
+    private static String cacheControl(CachedResponse policy) {
+        CacheControl cacheControl = CacheControl.maxAge(policy.maxAge(), TimeUnit.SECONDS).cachePublic();
+        if (policy.staleWhileRevalidate() > 0) {
+            cacheControl = cacheControl.staleWhileRevalidate(policy.staleWhileRevalidate(), TimeUnit.SECONDS);
+        }
+        return cacheControl.getHeaderValue();
+    }
+
+    /**
+     * Weak comparison as required for If-None-Match; nginx weakens ETags when it gzips.
+     */
+    private static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch == null) {
+            return false;
+        }
+        for (String candidate : ifNoneMatch.split(",")) {
+            String tag = candidate.trim();
+            if (tag.startsWith("W/")) {
+                tag = tag.substring(2);
+            }
+            if (tag.equals("*") || tag.equals(etag)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static String hash(String key) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(key.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, 16);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.honeyexplorer.cache;
+
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+
+import java.util.Optional;
+
+/**
+ * Kinds of catalog data that carry an independent version for cache validation.
+ */
+public enum DataType {
+    HONEY,
+    LOCAL_SOURCE,
+    EVENT,
+    CITY_CONTENT;
+
+    /**
+     * The data type an entity instance belongs to, if it is versioned.
+     */
+    public static Optional<DataType> forEntity(Object entity) {
+        return Optional.ofNullable(switch (entity) {
+            case Honey h -> HONEY;
+            case LocalSource s -> LOCAL_SOURCE;
+            case Event e -> EVENT;
+            case CityContent c -> CITY_CONTENT;
+            default -> null;
+        });
+    }
+}
@@ -0,0 +1,9 @@
+package com.honeyexplorer.cache;
+
+/**
+ * Published when a data type's version advances, locally or on another node.
+ *
+ * @param throughHibernate true when the change was written through this node's JPA
+ *                         session, so Hibernate's own caches already reflect it
+ */
+public record DataVersionChangedEvent(DataType type, long version, boolean throughHibernate) {}
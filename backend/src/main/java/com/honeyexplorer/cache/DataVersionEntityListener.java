@@ -0,0 +1,29 @@
+package com.honeyexplorer.cache;
+
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.beans.factory.ObjectProvider;
+
+/**
+ * JPA entity listener that marks an entity's data type as changed whenever a row is
+ * inserted, updated or deleted. Instantiated by Hibernate through Spring's bean container.
+ */
+public class DataVersionEntityListener {
+
+    private final ObjectProvider<DataVersionRegistry> dataVersionRegistry;
+
+    public DataVersionEntityListener(ObjectProvider<DataVersionRegistry> dataVersionRegistry) {
+        this.dataVersionRegistry = dataVersionRegistry;
+    }
+
+    @PostPersist
+    @PostUpdate
+    @PostRemove
+    void onChange(Object entity) {
+        DataVersionRegistry registry = dataVersionRegistry.getIfAvailable();
+        if (registry != null) {
+            DataType.forEntity(entity).ifPresent(registry::markChanged);
+        }
+    }
+}
@@ -0,0 +1,202 @@
+package com.honeyexplorer.cache;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataAccessException;
+import org.springframework.orm.jpa.EntityManagerHolder;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.TransactionException;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.EnumMap;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Monotonic version counter per data type.
+ * Writers bump the counter for the data they change; caches and ETags are derived
+ * from the current versions, so any change invalidates them without TTL guesswork.
+ *
+ * JPA writes are picked up by {@link DataVersionEntityListener} and bumped once per
+ * type after their transaction commits. When a {@link DataVersionStore} is present the
+ * counters are persisted and periodically re-read, so restarts and other nodes see the
+ * same versions; otherwise they live in memory and the epoch (creation time) keeps
+ * derived keys distinct across restarts.
+ *
+ * A transactional change is persisted just before commit on the writer's own connection,
+ * so it never needs a second connection (the writer keeps its own until after completion)
+ * and commits or rolls back with the data. A version that can't be persisted is bumped
+ * locally and written back by the next {@link #sync()}.
+ */
+@Component
+public class DataVersionRegistry {
+
+    private static final Logger log = LoggerFactory.getLogger(DataVersionRegistry.class);
+
+    private final Map<DataType, AtomicLong> versions = new EnumMap<>(DataType.class);
+    private final Set<DataType> unpersisted = ConcurrentHashMap.newKeySet();
+    private final DataVersionStore store;
+    private final ApplicationEventPublisher eventPublisher;
+    private final long epoch;
+
+    public DataVersionRegistry(ObjectProvider<DataVersionStore> store, ApplicationEventPublisher eventPublisher) {
+        this.store = store.getIfAvailable();
+        this.eventPublisher = eventPublisher;
+        this.epoch = this.store != null ? 0L : System.currentTimeMillis();
+        for (DataType type : DataType.values()) {
+            versions.put(type, new AtomicLong());
+        }
+    }
+
+    @PostConstruct
+    void load() {
+        if (store != null) {
+            store.loadAll().forEach((type, version) -> versions.get(type).set(version));
+        }
+    }
+
+    public long epoch() {
+        return epoch;
+    }
+
+    public long version(DataType type) {
+        return versions.get(type).get();
+    }
+
+    /**
+     * Record a change to the given data type made outside JPA (e.g. plain JDBC),
+     * returning the new version.
+     */
+    public long bump(DataType type) {
+        return bump(type, false);
+    }
+
+    private long bump(DataType type, boolean throughHibernate) {
+        if (store == null) {
+            return bumpLocally(type, throughHibernate);
+        }
+        long version;
+        try {
+            version = advanceTo(type, store.increment(type, version(type) + 1));
+        } catch (DataAccessException | TransactionException e) {
+            log.warn("Could not persist {} data version, bumping locally: {}", type, e.getMessage());
+            return bumpLocally(type, throughHibernate);
+        }
+        eventPublisher.publishEvent(new DataVersionChangedEvent(type, version, throughHibernate));
+        return version;
+    }
+
+    private long bumpLocally(DataType type, boolean throughHibernate) {
+        long version = versions.get(type).incrementAndGet();
+        if (store != null) {
+            unpersisted.add(type);
+        }
+        eventPublisher.publishEvent(new DataVersionChangedEvent(type, version, throughHibernate));
+        return version;
+    }
+
+    /**
+     * Record a change made inside the current transaction. The version is bumped once per
+     * type after commit (so readers never see a version for uncommitted data), or right away
+     * when there is no transaction. With a store, the increment itself is written in
+     * beforeCommit, after flushing the persistence context so JPA changes still pending
+     * are marked too.
+     */
+    public void markChanged(DataType type) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            bump(type, true);
+            return;
+        }
+        @SuppressWarnings("unchecked")
+        Set<DataType> pending = (Set<DataType>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            Set<DataType> changed = EnumSet.noneOf(DataType.class);
+            TransactionSynchronizationManager.bindResource(this, changed);
+            Map<DataType, Long> persisted = new EnumMap<>(DataType.class);
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void beforeCommit(boolean readOnly) {
+                    if (store == null || readOnly) {
+                        return;
+                    }
+                    flushPersistenceContexts();
+                    for (DataType changedType : List.copyOf(changed)) {
+                        persisted.put(changedType, store.incrementInCurrentTransaction(changedType,
+                            version(changedType) + 1));
+                    }
+                }
+
+                @Override
+                public void afterCompletion(int status) {
+                    TransactionSynchronizationManager.unbindResourceIfPossible(DataVersionRegistry.this);
+                    if (status != STATUS_COMMITTED) {
+                        return;
+                    }
+                    for (DataType changedType : changed) {
+                        Long stored = persisted.get(changedType);
+                        if (stored != null) {
+                            long version = advanceTo(changedType, stored);
+                            eventPublisher.publishEvent(new DataVersionChangedEvent(changedType, version, true));
+                        } else {
+                            // Marked after beforeCommit; the writer still holds its connection here
+                            bumpLocally(changedType, true);
+                        }
+                    }
+                }
+            });
+            pending = changed;
+        }
+        pending.add(type);
+    }
+
+    /**
+     * Write back versions that were only bumped locally, then pick up versions advanced by
+     * other nodes.
+     */
+    @Scheduled(fixedDelayString = "${data-versions.poll-interval-ms:5000}")
+    public void sync() {
+        if (store == null) {
+            return;
+        }
+        for (DataType type : List.copyOf(unpersisted)) {
+            try {
+                unpersisted.remove(type);
+                advanceTo(type, store.increment(type, version(type)));
+            } catch (DataAccessException | TransactionException e) {
+                unpersisted.add(type);
+                log.debug("Could not persist {} data version: {}", type, e.getMessage());
+            }
+        }
+        try {
+            store.loadAll().forEach((type, stored) -> {
+                long previous = versions.get(type).get();
+                if (advanceTo(type, stored) > previous) {
+                    eventPublisher.publishEvent(new DataVersionChangedEvent(type, stored, false));
+                }
+            });
+        } catch (DataAccessException e) {
+            log.debug("Could not read data versions: {}", e.getMessage());
+        }
+    }
+
+    private static void flushPersistenceContexts() {
+        for (Object resource : TransactionSynchronizationManager.getResourceMap().values()) {
+            if (resource instanceof EntityManagerHolder holder && holder.getEntityManager().isJoinedToTransaction()) {
+                holder.getEntityManager().flush();
+            }
+        }
+    }
+
+    private long advanceTo(DataType type, long version) {
+        return versions.get(type).accumulateAndGet(version, Math::max);
+    }
+}
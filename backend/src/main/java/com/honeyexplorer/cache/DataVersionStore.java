@@ -0,0 +1,79 @@
+package com.honeyexplorer.cache;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * Persists data versions in the data_versions table so restarts and multiple nodes agree.
+ * Enabled with data-versions.persistent=true.
+ */
+@Component
+@ConditionalOnProperty(name = "data-versions.persistent", havingValue = "true")
+public class DataVersionStore {
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    public DataVersionStore(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager) {
+        this.jdbcTemplate = jdbcTemplate;
+        // For increments made outside any transaction (seeding, write-back of local bumps)
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.transactionTemplate.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Current stored version of every known data type.
+     */
+    public Map<DataType, Long> loadAll() {
+        Map<DataType, Long> versions = new EnumMap<>(DataType.class);
+        jdbcTemplate.query("SELECT data_type, version FROM data_versions", rs -> {
+            try {
+                versions.put(DataType.valueOf(rs.getString(1)), rs.getLong(2));
+            } catch (IllegalArgumentException e) {
+                // Row for a type this build doesn't know about
+            }
+        });
+        return versions;
+    }
+
+    /**
+     * Atomically increment a data type's version in a transaction of its own, returning the
+     * stored value afterwards. The stored version is raised to at least atLeast, so it never
+     * falls behind a version that was bumped locally.
+     */
+    public long increment(DataType type, long atLeast) {
+        Long version = transactionTemplate.execute(status -> incrementInCurrentTransaction(type, atLeast));
+        return version != null ? version : atLeast;
+    }
+
+    /**
+     * Same as {@link #increment}, but on the current transaction's connection: the row stays
+     * locked and the increment commits or rolls back with that transaction.
+     */
+    public long incrementInCurrentTransaction(DataType type, long atLeast) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+            "UPDATE data_versions SET version = GREATEST(version + 1, ?), updated_at = ? WHERE data_type = ?",
+            atLeast, now, type.name()
+        );
+        if (updated == 0) {
+            jdbcTemplate.update(
+                "INSERT INTO data_versions (data_type, version, updated_at) VALUES (?, ?, ?)",
+                type.name(), Math.max(1L, atLeast), now
+            );
+        }
+        Long version = jdbcTemplate.queryForObject(
+            "SELECT version FROM data_versions WHERE data_type = ?", Long.class, type.name()
+        );
+        return version != null ? version : atLeast;
+    }
+}
@@ -0,0 +1,44 @@
+package com.honeyexplorer.cache;
+
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+/**
+ * Evicts Hibernate second-level cache regions for changes Hibernate didn't see:
+ * JDBC imports on this node and any write made on another node.
+ */
+@Component
+public class SecondLevelCacheInvalidator {
+
+    private final EntityManagerFactory entityManagerFactory;
+
+    public SecondLevelCacheInvalidator(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @EventListener
+    public void onDataVersionChanged(DataVersionChangedEvent event) {
+        if (event.throughHibernate()) {
+            return;
+        }
+        Class<?> entityType = switch (event.type()) {
+            case HONEY -> Honey.class;
+            case LOCAL_SOURCE -> LocalSource.class;
+            case CITY_CONTENT -> CityContent.class;
+            default -> null;
+        };
+        if (entityType == null) {
+            return;
+        }
+        Cache cache = entityManagerFactory.unwrap(SessionFactory.class).getCache();
+        cache.evictEntityData(entityType);
+        cache.evictNaturalIdData(entityType);
+        cache.evictQueryRegions();
+    }
+}
@@ -0,0 +1,57 @@
+package com.honeyexplorer.cache;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+/**
+ * Periodically logs second-level, natural-id and query cache hit rates.
+ * Requires hibernate.generate_statistics=true.
+ */
+@Component
+public class SecondLevelCacheStatistics {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheStatistics.class);
+
+    private final EntityManagerFactory entityManagerFactory;
+    private long lastRequests;
+
+    public SecondLevelCacheStatistics(EntityManagerFactory entityManagerFactory) {
+        this.entityManagerFactory = entityManagerFactory;
+    }
+
+    @Scheduled(fixedDelayString = "${hibernate-cache.stats-interval-ms:300000}")
+    public void report() {
+        Statistics stats = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        if (!stats.isStatisticsEnabled()) {
+            return;
+        }
+        long requests = stats.getSecondLevelCacheHitCount() + stats.getSecondLevelCacheMissCount()
+            + stats.getQueryCacheHitCount() + stats.getQueryCacheMissCount();
+        if (requests == lastRequests) {
+            return;
+        }
+        lastRequests = requests;
+
+        log.info("L2 cache: entity {} / natural-id {} / query {}",
+            ratio(stats.getSecondLevelCacheHitCount(), stats.getSecondLevelCacheMissCount()),
+            ratio(stats.getNaturalIdCacheHitCount(), stats.getNaturalIdCacheMissCount()),
+            ratio(stats.getQueryCacheHitCount(), stats.getQueryCacheMissCount()));
+        for (String region : stats.getSecondLevelCacheRegionNames()) {
+            CacheRegionStatistics regionStats = stats.getCacheRegionStatistics(region);
+            if (regionStats != null) {
+                log.debug("L2 region {}: {}", region, ratio(regionStats.getHitCount(), regionStats.getMissCount()));
+            }
+        }
+    }
+
+    private static String ratio(long hits, long misses) {
+        long total = hits + misses;
+        return total == 0 ? "n/a" : String.format("%.1f%% of %d", 100.0 * hits / total, total);
+    }
+}
@@ -0,0 +1,134 @@
+package com.honeyexplorer.cache;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.config.WireFormatMappers;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Fully serialized detail responses, keyed by data type, slug and wire format.
+ *
+ * Each entry holds the encoded bytes (and a gzipped copy for larger payloads) together
+ * with the data version it was built at. A hit whose version is still current is written
+ * to the response as-is, with no query, DTO mapping or Jackson pass; once the type's
+ * version moves on the entry is rebuilt on next use, and the type's entries are dropped
+ * as soon as the change is announced.
+ */
+@Component
+public class SerializedResponseCache {
+
+    /**
+     * Cached body of one response; gzip is null when the payload is too small to bother.
+     */
+    public record SerializedBody(long version, WireFormat format, byte[] body, byte[] gzip) {}
+
+    private record Key(DataType type, String slug, WireFormat format) {}
+
+    private final DataVersionRegistry dataVersionRegistry;
+    private final WireFormatMappers mappers;
+    private final int gzipMinBytes;
+    private final Map<Key, SerializedBody> entries;
+
+    public SerializedResponseCache(DataVersionRegistry dataVersionRegistry,
+                                   WireFormatMappers mappers,
+                                   @Value("${serialized-cache.max-entries:5000}") int maxEntries,
+                                   @Value("${serialized-cache.gzip-min-bytes:512}") int gzipMinBytes) {
+        this.dataVersionRegistry = dataVersionRegistry;
+        this.mappers = mappers;
+        this.gzipMinBytes = gzipMinBytes;
+        this.entries = Collections.synchronizedMap(new LinkedHashMap<>(256, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<Key, SerializedBody> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * The serialized body for a slug in the given format, loading and serializing it on a
+     * miss. Not-found results are not cached.
+     */
+    public Optional<SerializedBody> get(DataType type, String slug, WireFormat format,
+                                        Supplier<? extends Optional<?>> loader) {
+        Key key = new Key(type, slug, format);
+        // Read before loading, so a change made during the load leaves the entry stale
+        long version = dataVersionRegistry.version(type);
+        SerializedBody cached = entries.get(key);
+        if (cached != null && cached.version() == version) {
+            return Optional.of(cached);
+        }
+        Optional<SerializedBody> loaded = loader.get().map(value -> serialize(version, format, value));
+        loaded.ifPresent(body -> entries.put(key, body));
+        return loaded;
+    }
+
+    /**
+     * Serialize a body at the type's current version without caching it, for values whose
+     * source may not match that version (such as the catalog snapshot).
+     */
+    public SerializedBody uncached(DataType type, WireFormat format, Object value) {
+        return serialize(dataVersionRegistry.version(type), format, value);
+    }
+
+    /**
+     * Response carrying the cached bytes, gzipped when the client accepts it. The gzipped
+     * variant gets a weak ETag so it is never confused with the identity bytes.
+     */
+    public static ResponseEntity<byte[]> respond(SerializedBody body, String acceptEncoding, HttpServletResponse response) {
+        response.addHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().contentType(body.format().mediaType());
+        if (body.gzip() != null && AcceptEncoding.acceptsGzip(acceptEncoding)) {
+            String etag = response.getHeader(HttpHeaders.ETAG);
+            if (etag != null && !etag.startsWith("W/")) {
+                response.setHeader(HttpHeaders.ETAG, "W/" + etag);
+            }
+            return builder.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(body.gzip());
+        }
+        return builder.body(body.body());
+    }
+
+    @EventListener
+    public void onDataVersionChanged(DataVersionChangedEvent event) {
+        synchronized (entries) {
+            entries.keySet().removeIf(key -> key.type() == event.type());
+        }
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private SerializedBody serialize(long version, WireFormat format, Object value) {
+        try {
+            byte[] body = mappers.mapper(format).writeValueAsBytes(value);
+            return new SerializedBody(version, format, body, body.length >= gzipMinBytes ? gzip(body) : null);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Could not serialize " + value.getClass().getSimpleName(), e);
+        }
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 3);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+}
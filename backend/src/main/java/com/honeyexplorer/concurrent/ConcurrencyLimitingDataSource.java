@@ -0,0 +1,148 @@
+package com.honeyexplorer.concurrent;
+
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Bounds how many threads may hold a database connection at once.
+ *
+ * With virtual threads there is no request thread pool to throttle fan-in, so every
+ * request would otherwise queue inside Hikari until its connection timeout. Here a fair
+ * semaphore admits at most maxActive connection holders, lets at most maxWaiting threads
+ * queue for a permit, and rejects the rest immediately so overload surfaces as a fast
+ * failure instead of a pile-up. Waiting on the semaphore parks a virtual thread without
+ * pinning its carrier.
+ *
+ * A thread that already holds a connection and opens another (a REQUIRES_NEW transaction)
+ * takes a permit from a separate reserve of reservedForNested instead. Otherwise maxActive
+ * threads each holding one connection and waiting for a second would starve one another.
+ * The target pool needs room for maxActive + reservedForNested connections.
+ */
+public class ConcurrencyLimitingDataSource extends DelegatingDataSource {
+
+    private final Semaphore permits;
+    private final Semaphore nestedPermits;
+    private final int maxWaiting;
+    private final long acquireTimeoutMs;
+    /** Connections the current thread holds from this data source. */
+    private final ThreadLocal<AtomicInteger> held = ThreadLocal.withInitial(AtomicInteger::new);
+
+    public ConcurrencyLimitingDataSource(DataSource target, int maxActive, int reservedForNested, int maxWaiting,
+                                         long acquireTimeoutMs) {
+        super(target);
+        this.permits = new Semaphore(maxActive, true);
+        this.nestedPermits = new Semaphore(reservedForNested, true);
+        this.maxWaiting = maxWaiting;
+        this.acquireTimeoutMs = acquireTimeoutMs;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        return track(acquire(), this::obtainTargetConnection);
+    }
+
+    @Override
+    public Connection getConnection(String username, String password) throws SQLException {
+        return track(acquire(), () -> obtainTargetDataSource().getConnection(username, password));
+    }
+
+    /**
+     * Threads currently waiting for a connection permit.
+     */
+    public int waiting() {
+        return permits.getQueueLength();
+    }
+
+    /**
+     * Connection permits currently free.
+     */
+    public int available() {
+        return permits.availablePermits();
+    }
+
+    private Connection obtainTargetConnection() throws SQLException {
+        return obtainTargetDataSource().getConnection();
+    }
+
+    /**
+     * Take a permit, from the nested reserve if this thread already holds a connection.
+     *
+     * @return The semaphore the permit came from
+     */
+    private Semaphore acquire() throws SQLException {
+        Semaphore source = held.get().get() > 0 ? nestedPermits : permits;
+        if (source.tryAcquire()) {
+            return source;
+        }
+        if (source == permits && permits.getQueueLength() >= maxWaiting) {
+            throw new SQLTransientConnectionException("Database busy: " + maxWaiting + " requests already waiting");
+        }
+        try {
+            if (!source.tryAcquire(acquireTimeoutMs, TimeUnit.MILLISECONDS)) {
+                throw new SQLTransientConnectionException("Database busy: no " + (source == permits ? "" : "nested ")
+                    + "connection permit after " + acquireTimeoutMs + " ms");
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new SQLTransientConnectionException("Interrupted waiting for a connection permit", e);
+        }
+        return source;
+    }
+
+    @FunctionalInterface
+    private interface ConnectionSupplier {
+        Connection get() throws SQLException;
+    }
+
+    /**
+     * Wrap the connection so closing it returns the permit (once).
+     */
+    private Connection track(Semaphore source, ConnectionSupplier supplier) throws SQLException {
+        Connection target;
+        try {
+            target = supplier.get();
+        } catch (SQLException | RuntimeException e) {
+            source.release();
+            throw e;
+        }
+        // The owner's count, even if another thread closes the connection
+        AtomicInteger owner = held.get();
+        owner.incrementAndGet();
+        AtomicBoolean released = new AtomicBoolean();
+        return (Connection) Proxy.newProxyInstance(
+            Connection.class.getClassLoader(),
+            new Class<?>[] {Connection.class},
+            (proxy, method, args) -> {
+                if ("close".equals(method.getName()) && method.getParameterCount() == 0) {
+                    try {
+                        target.close();
+                    } finally {
+                        if (released.compareAndSet(false, true)) {
+                            owner.decrementAndGet();
+                            source.release();
+                        }
+                    }
+                    return null;
+                }
+                if ("unwrap".equals(method.getName()) && args[0] instanceof Class<?> iface && iface.isInstance(proxy)) {
+                    return proxy;
+                }
+                try {
+                    return method.invoke(target, args);
+                } catch (InvocationTargetException e) {
+                    throw e.getTargetException();
+                }
+            }
+        );
+    }
+}
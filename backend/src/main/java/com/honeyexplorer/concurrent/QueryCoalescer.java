@@ -0,0 +1,79 @@
+package com.honeyexplorer.concurrent;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Supplier;
+
+/**
+ * Coalesces identical concurrent read queries in the service tier.
+ *
+ * Callers must not already hold a transaction: waiting for another request's
+ * query while holding a pooled connection would defeat the point. Coalesced
+ * service methods therefore use Propagation.SUPPORTS, and the leader runs its
+ * query in a fresh read-only transaction here. When a transaction is already
+ * active (e.g. a nested service call) the query just runs inline.
+ *
+ * Metrics: singleflight.calls{operation, outcome=executed|coalesced}.
+ */
+@Component
+public class QueryCoalescer {
+
+    private final ConcurrentMap<String, SingleFlight<List<Object>, Object>> flights = new ConcurrentHashMap<>();
+    private final MeterRegistry meterRegistry;
+    private final TransactionTemplate readOnlyTransaction;
+
+    public QueryCoalescer(MeterRegistry meterRegistry, PlatformTransactionManager transactionManager) {
+        this.meterRegistry = meterRegistry;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+    }
+
+    /**
+     * Run a read query, sharing the result with identical concurrent calls.
+     *
+     * @param operation stable name of the query, used as metric tag and key namespace
+     * @param query     the query; its result is shared, so it must be immutable
+     * @param args      the query arguments identifying identical calls (may contain nulls)
+     */
+    @SuppressWarnings("unchecked")
+    public <V> V coalesce(String operation, Supplier<V> query, Object... args) {
+        if (TransactionSynchronizationManager.isActualTransactionActive()) {
+            return query.get();
+        }
+        SingleFlight<List<Object>, Object> flight = flights.computeIfAbsent(operation, this::newFlight);
+        return (V) flight.execute(Arrays.asList(args), () -> readOnlyTransaction.execute(status -> query.get()));
+    }
+
+    private SingleFlight<List<Object>, Object> newFlight(String operation) {
+        Counter executed = Counter.builder("singleflight.calls")
+            .description("Coalesced read queries by outcome")
+            .tag("operation", operation)
+            .tag("outcome", "executed")
+            .register(meterRegistry);
+        Counter coalesced = Counter.builder("singleflight.calls")
+            .description("Coalesced read queries by outcome")
+            .tag("operation", operation)
+            .tag("outcome", "coalesced")
+            .register(meterRegistry);
+        return new SingleFlight<>(new SingleFlight.Listener() {
+            @Override
+            public void onExecuted() {
+                executed.increment();
+            }
+
+            @Override
+            public void onCoalesced() {
+                coalesced.increment();
+            }
+        });
+    }
+}
@@ -0,0 +1,73 @@
+package com.honeyexplorer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.cbor.MappingJackson2CborHttpMessageConverter;
+import org.springframework.http.converter.smile.MappingJackson2SmileHttpMessageConverter;
+import org.springframework.web.HttpMediaTypeNotAcceptableException;
+import org.springframework.web.bind.support.WebDataBinderFactory;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.method.support.HandlerMethodArgumentResolver;
+import org.springframework.web.method.support.ModelAndViewContainer;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * CBOR and Smile responses for clients that ask for them in Accept. The converters replace
+ * Spring's defaults for those types (in place, after JSON, so wildcard Accepts still get
+ * JSON). Endpoints that write their own bytes take a {@link WireFormat} parameter.
+ */
+@Configuration
+public class BinaryFormatConfig implements WebMvcConfigurer {
+
+    @Bean
+    public WireFormatMappers wireFormatMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        return new WireFormatMappers(objectMapper, builder);
+    }
+
+    @Bean
+    public MappingJackson2CborHttpMessageConverter cborHttpMessageConverter(WireFormatMappers mappers) {
+        return new MappingJackson2CborHttpMessageConverter(mappers.mapper(WireFormat.CBOR));
+    }
+
+    @Bean
+    public MappingJackson2SmileHttpMessageConverter smileHttpMessageConverter(WireFormatMappers mappers) {
+        return new MappingJackson2SmileHttpMessageConverter(mappers.mapper(WireFormat.SMILE));
+    }
+
+    @Override
+    public void addArgumentResolvers(List<HandlerMethodArgumentResolver> resolvers) {
+        resolvers.add(new WireFormatArgumentResolver());
+    }
+
+    /**
+     * Resolves a {@link WireFormat} handler parameter from the request's Accept header. These
+     * handlers set their own Content-Type, which skips Spring's Accept check, so an Accept
+     * that admits none of the formats is rejected here with 406.
+     */
+    private static class WireFormatArgumentResolver implements HandlerMethodArgumentResolver {
+
+        private static final List<MediaType> SUPPORTED =
+            Arrays.stream(WireFormat.values()).map(WireFormat::mediaType).toList();
+
+        @Override
+        public boolean supportsParameter(MethodParameter parameter) {
+            return parameter.getParameterType() == WireFormat.class;
+        }
+
+        @Override
+        public Object resolveArgument(MethodParameter parameter, ModelAndViewContainer mavContainer,
+                                      NativeWebRequest webRequest, WebDataBinderFactory binderFactory)
+                throws HttpMediaTypeNotAcceptableException {
+            return WireFormat.acceptable(webRequest.getHeader(HttpHeaders.ACCEPT))
+                .orElseThrow(() -> new HttpMediaTypeNotAcceptableException(SUPPORTED));
+        }
+    }
+}
@@ -0,0 +1,27 @@
+package com.honeyexplorer.config;
+
+import com.honeyexplorer.snapshot.CatalogSnapshotService;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.boot.SpringApplication;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+/**
+ * Build-only mode for the catalog snapshot: {@code java -jar app.jar --catalog.snapshot.build-only=true}
+ * writes the snapshot from the database and exits.
+ */
+@Configuration
+@ConditionalOnProperty(name = "catalog.snapshot.build-only", havingValue = "true")
+public class CatalogSnapshotConfig {
+
+    @Bean
+    public CommandLineRunner catalogSnapshotBuildRunner(CatalogSnapshotService service,
+                                                        ConfigurableApplicationContext context) {
+        return args -> {
+            service.refresh();
+            System.exit(SpringApplication.exit(context, () -> 0));
+        };
+    }
+}
@@ -0,0 +1,32 @@
+package com.honeyexplorer.config;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.core.NestedRuntimeException;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.CannotCreateTransactionException;
+import org.springframework.web.bind.annotation.ExceptionHandler;
+import org.springframework.web.bind.annotation.RestControllerAdvice;
+
+import java.util.Map;
+
+/**
+ * Turns connection-acquisition failures (pool or concurrency limit exhausted) into
+ * 503 with Retry-After, so clients back off instead of seeing a generic 500.
+ */
+@RestControllerAdvice
+public class DatabaseBusyHandler {
+
+    private static final Logger log = LoggerFactory.getLogger(DatabaseBusyHandler.class);
+
+    @ExceptionHandler({CannotCreateTransactionException.class, DataAccessResourceFailureException.class})
+    public ResponseEntity<Map<String, String>> handleDatabaseBusy(NestedRuntimeException e) {
+        log.warn("Rejecting request, database unavailable: {}", e.getMostSpecificCause().getMessage());
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+            .header(HttpHeaders.RETRY_AFTER, "1")
+            .body(Map.of("status", "error", "message", "Service busy, please retry"));
+    }
+}
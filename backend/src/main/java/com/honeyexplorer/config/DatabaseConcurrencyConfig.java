@@ -0,0 +1,67 @@
+package com.honeyexplorer.config;
+
+import com.honeyexplorer.concurrent.ConcurrencyLimitingDataSource;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+
+/**
+ * Wraps the DataSource in a {@link ConcurrencyLimitingDataSource} so database
+ * concurrency stays bounded when requests run on virtual threads.
+ *
+ * db.concurrency.reserved-for-nested connections (default 1) are kept back for threads
+ * that already hold one and open another, e.g. a REQUIRES_NEW transaction;
+ * db.concurrency.max-active defaults to the rest of the Hikari pool. db.concurrency.max-waiting
+ * caps the queue before requests are rejected with 503.
+ */
+@Configuration
+@ConditionalOnProperty(name = "db.concurrency.enabled", havingValue = "true")
+public class DatabaseConcurrencyConfig {
+
+    @Bean
+    static BeanPostProcessor concurrencyLimitingDataSourcePostProcessor(Environment environment) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (!(bean instanceof DataSource dataSource) || bean instanceof ConcurrencyLimitingDataSource) {
+                    return bean;
+                }
+                int poolSize = environment.getProperty("spring.datasource.hikari.maximum-pool-size", Integer.class, 10);
+                int reserved = environment.getProperty("db.concurrency.reserved-for-nested", Integer.class, 1);
+                int maxActive = environment.getProperty("db.concurrency.max-active", Integer.class, poolSize - reserved);
+                if (maxActive < 1 || maxActive + reserved > poolSize) {
+                    throw new IllegalStateException("db.concurrency.max-active (" + maxActive
+                        + ") plus db.concurrency.reserved-for-nested (" + reserved
+                        + ") must fit in the connection pool (" + poolSize + ")");
+                }
+                return new ConcurrencyLimitingDataSource(
+                    dataSource,
+                    maxActive,
+                    reserved,
+                    environment.getProperty("db.concurrency.max-waiting", Integer.class, 200),
+                    environment.getProperty("db.concurrency.acquire-timeout-ms", Long.class, 10_000L)
+                );
+            }
+        };
+    }
+
+    @Bean
+    MeterBinder databaseConcurrencyMetrics(DataSource dataSource) throws SQLException {
+        ConcurrencyLimitingDataSource limited = dataSource.unwrap(ConcurrencyLimitingDataSource.class);
+        return registry -> {
+            Gauge.builder("db.concurrency.waiting", limited, ConcurrencyLimitingDataSource::waiting)
+                .description("Threads waiting for a database connection permit")
+                .register(registry);
+            Gauge.builder("db.concurrency.available", limited, ConcurrencyLimitingDataSource::available)
+                .description("Free database connection permits")
+                .register(registry);
+        };
+    }
+}
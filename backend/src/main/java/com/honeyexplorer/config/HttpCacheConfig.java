@@ -0,0 +1,24 @@
+package com.honeyexplorer.config;
+
+import com.honeyexplorer.cache.ConditionalRequestInterceptor;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.web.servlet.config.annotation.InterceptorRegistry;
+import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+
+/**
+ * Registers HTTP caching (ETag / Cache-Control) for the read-only API.
+ */
+@Configuration
+public class HttpCacheConfig implements WebMvcConfigurer {
+
+    private final ConditionalRequestInterceptor conditionalRequestInterceptor;
+
+    public HttpCacheConfig(ConditionalRequestInterceptor conditionalRequestInterceptor) {
+        this.conditionalRequestInterceptor = conditionalRequestInterceptor;
+    }
+
+    @Override
+    public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(conditionalRequestInterceptor).addPathPatterns("/api/**");
+    }
+}
@@ -6,9 +6,13 @@ import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
+import software.amazon.awssdk.core.checksums.RequestChecksumCalculation;
+import software.amazon.awssdk.http.nio.netty.NettyNioAsyncHttpClient;
 import software.amazon.awssdk.regions.Region;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.S3Configuration;
+import software.amazon.awssdk.services.s3.multipart.MultipartConfiguration;
 
 import java.net.URI;
 
@@ -20,6 +24,8 @@ import java.net.URI;
 @ConditionalOnProperty(name = "r2.enabled", havingValue = "true")
 public class R2ClientConfig {
 
+    private static final long MB = 1024 * 1024;
+
     @Value("${r2.account.id}")
     private String accountId;
 
@@ -29,10 +35,36 @@ public class R2ClientConfig {
     @Value("${r2.secret.key}")
     private String secretKey;
 
+    /** Overrides the R2 account endpoint, e.g. to point at a local S3-compatible server. */
+    @Value("${r2.endpoint:}")
+    private String endpoint;
+
+    @Value("${r2.upload.max-concurrency:8}")
+    private int maxConcurrency;
+
+    @Value("${r2.upload.part-size-mb:8}")
+    private long partSizeMb;
+
+    @Value("${r2.upload.multipart-threshold-mb:16}")
+    private long multipartThresholdMb;
+
     @Bean
     public S3Client r2Client() {
+        return client(endpoint(), accessKey, secretKey);
+    }
+
+    @Bean
+    public S3AsyncClient r2AsyncClient() {
+        return asyncClient(endpoint(), accessKey, secretKey, maxConcurrency,
+                partSizeMb * MB, multipartThresholdMb * MB);
+    }
+
+    /**
+     * Build the blocking client used for single uploads.
+     */
+    public static S3Client client(URI endpoint, String accessKey, String secretKey) {
         return S3Client.builder()
-                .endpointOverride(URI.create("https://" + accountId + ".r2.cloudflarestorage.com"))
+                .endpointOverride(endpoint)
                 .region(Region.of("auto"))
                 .credentialsProvider(StaticCredentialsProvider.create(
                         AwsBasicCredentials.create(accessKey, secretKey)
@@ -43,4 +75,39 @@ public class R2ClientConfig {
                         .build())
                 .build();
     }
+
+    /**
+     * Build the async client used for streaming and batch uploads.
+     *
+     * Files above the threshold are sent as multipart uploads of partSize bytes, with
+     * each part read from the file channel when it is sent. The connection pool allows
+     * a few parts per concurrent object. Checksums are only sent where S3 requires them,
+     * matching what R2 accepts.
+     */
+    public static S3AsyncClient asyncClient(URI endpoint, String accessKey, String secretKey,
+                                            int maxConcurrency, long partSize, long multipartThreshold) {
+        return S3AsyncClient.builder()
+                .endpointOverride(endpoint)
+                .region(Region.of("auto"))
+                .credentialsProvider(StaticCredentialsProvider.create(
+                        AwsBasicCredentials.create(accessKey, secretKey)
+                ))
+                .forcePathStyle(true)
+                .requestChecksumCalculation(RequestChecksumCalculation.WHEN_REQUIRED)
+                .httpClientBuilder(NettyNioAsyncHttpClient.builder()
+                        .maxConcurrency(maxConcurrency * 4))
+                .multipartEnabled(true)
+                .multipartConfiguration(MultipartConfiguration.builder()
+                        .minimumPartSizeInBytes(partSize)
+                        .thresholdInBytes(multipartThreshold)
+                        .apiCallBufferSizeInBytes(partSize * 4)
+                        .build())
+                .build();
+    }
+
+    private URI endpoint() {
+        return endpoint.isBlank()
+                ? URI.create("https://" + accountId + ".r2.cloudflarestorage.com")
+                : URI.create(endpoint);
+    }
 }
@@ -0,0 +1,12 @@
+package com.honeyexplorer.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Enables @Scheduled background jobs (sitemap regeneration, cache refresh).
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
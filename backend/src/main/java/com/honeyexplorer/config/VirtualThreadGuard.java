@@ -0,0 +1,59 @@
+package com.honeyexplorer.config;
+
+import com.honeyexplorer.concurrent.ConcurrencyLimitingDataSource;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.DatabaseMetaData;
+import java.sql.SQLException;
+
+/**
+ * Startup checks for virtual-thread mode.
+ *
+ * A virtual thread blocked inside a synchronized block pins its carrier, and on a
+ * 1-CPU VM there is only one carrier. pgjdbc replaced its synchronized I/O paths with
+ * locks in 42.6.0, so older drivers (and H2, which synchronizes on the session) would
+ * serialize every request. This warns about such drivers and about running without
+ * the database concurrency limit, which also caps how many carriers could be pinned.
+ */
+@Component
+@ConditionalOnProperty(name = "spring.threads.virtual.enabled", havingValue = "true")
+public class VirtualThreadGuard {
+
+    private static final Logger log = LoggerFactory.getLogger(VirtualThreadGuard.class);
+
+    private final DataSource dataSource;
+
+    public VirtualThreadGuard(DataSource dataSource) {
+        this.dataSource = dataSource;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void check() {
+        log.info("Virtual threads enabled ({} available processors)", Runtime.getRuntime().availableProcessors());
+        try {
+            if (!dataSource.isWrapperFor(ConcurrencyLimitingDataSource.class)) {
+                log.warn("db.concurrency.enabled is off; database fan-in is bounded only by the Hikari queue");
+            }
+            try (Connection connection = dataSource.getConnection()) {
+                DatabaseMetaData metaData = connection.getMetaData();
+                String driver = metaData.getDriverName();
+                if (driver.contains("PostgreSQL") && (metaData.getDriverMajorVersion() < 42
+                        || (metaData.getDriverMajorVersion() == 42 && metaData.getDriverMinorVersion() < 6))) {
+                    log.warn("JDBC driver {} {} pins virtual threads on I/O; upgrade to pgjdbc 42.6+",
+                        driver, metaData.getDriverVersion());
+                } else if (driver.contains("H2")) {
+                    log.warn("H2 synchronizes on the session and pins virtual threads; use it for development only");
+                }
+            }
+        } catch (SQLException e) {
+            log.warn("Could not inspect JDBC driver for virtual-thread compatibility: {}", e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.honeyexplorer.config;
+
+import org.springframework.http.InvalidMediaTypeException;
+import org.springframework.http.MediaType;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Response encodings the API can produce. CBOR and Smile carry the same Jackson data model
+ * as JSON in a binary form, so every DTO and page has the same shape in all three.
+ */
+public enum WireFormat {
+    JSON(MediaType.APPLICATION_JSON),
+    CBOR(MediaType.APPLICATION_CBOR),
+    SMILE(new MediaType("application", "x-jackson-smile"));
+
+    private final MediaType mediaType;
+
+    WireFormat(MediaType mediaType) {
+        this.mediaType = mediaType;
+    }
+
+    public MediaType mediaType() {
+        return mediaType;
+    }
+
+    /**
+     * The format to answer an Accept header with, or JSON if the header admits none of them.
+     * Used where a representation is only being identified (ETags); handlers resolve their
+     * {@link WireFormat} parameter with {@link #acceptable}, which rejects such headers.
+     */
+    public static WireFormat negotiate(String accept) {
+        return acceptable(accept).orElse(JSON);
+    }
+
+    /**
+     * The format to answer an Accept header with, choosing the way Spring's content
+     * negotiation does: highest quality first, an exact type before a wildcard, then
+     * header order. No header or a malformed one gets JSON; a header that admits none
+     * of the formats (e.g. only application/x-protobuf) gets empty.
+     */
+    public static Optional<WireFormat> acceptable(String accept) {
+        if (accept == null || accept.isBlank()) {
+            return Optional.of(JSON);
+        }
+        List<MediaType> acceptable;
+        try {
+            acceptable = MediaType.parseMediaTypes(accept);
+        } catch (InvalidMediaTypeException e) {
+            return Optional.of(JSON);
+        }
+        WireFormat best = null;
+        double bestQuality = 0;
+        boolean bestExact = false;
+        for (MediaType type : acceptable) {
+            double quality = type.getQualityValue();
+            WireFormat format = exactMatch(type);
+            boolean exact = format != null;
+            if (!exact && type.includes(JSON.mediaType)) {
+                format = JSON;
+            }
+            if (format != null && (quality > bestQuality || quality == bestQuality && exact && !bestExact)) {
+                best = format;
+                bestQuality = quality;
+                bestExact = exact;
+            }
+        }
+        return Optional.ofNullable(best);
+    }
+
+    private static WireFormat exactMatch(MediaType type) {
+        for (WireFormat format : values()) {
+            if (format.mediaType.equalsTypeAndSubtype(type)) {
+                return format;
+            }
+        }
+        return null;
+    }
+}
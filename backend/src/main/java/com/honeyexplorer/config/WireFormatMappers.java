@@ -0,0 +1,29 @@
+package com.honeyexplorer.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.CBORFactory;
+import com.fasterxml.jackson.dataformat.smile.SmileFactory;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.util.EnumMap;
+import java.util.Map;
+
+/**
+ * One ObjectMapper per {@link WireFormat}. The binary mappers are built from Spring Boot's
+ * Jackson builder, so they share the JSON mapper's modules and spring.jackson settings.
+ * Declared in {@link BinaryFormatConfig}.
+ */
+public class WireFormatMappers {
+
+    private final Map<WireFormat, ObjectMapper> mappers = new EnumMap<>(WireFormat.class);
+
+    public WireFormatMappers(ObjectMapper objectMapper, Jackson2ObjectMapperBuilder builder) {
+        mappers.put(WireFormat.JSON, objectMapper);
+        mappers.put(WireFormat.CBOR, builder.factory(new CBORFactory()).build());
+        mappers.put(WireFormat.SMILE, builder.factory(new SmileFactory()).build());
+    }
+
+    public ObjectMapper mapper(WireFormat format) {
+        return mappers.get(format);
+    }
+}
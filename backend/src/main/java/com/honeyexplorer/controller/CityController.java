@@ -1,20 +1,22 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.CachedResponse;
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.config.WireFormat;
 import com.honeyexplorer.dto.CityContentDTO;
 import com.honeyexplorer.dto.LocalSourceDTO;
 import com.honeyexplorer.dto.EventDTO;
-import com.honeyexplorer.entity.CityContent;
-import com.honeyexplorer.repository.CityContentRepository;
-import com.honeyexplorer.service.LocalSourceService;
-import com.honeyexplorer.service.EventService;
+import com.honeyexplorer.service.CityContentService;
+import com.honeyexplorer.service.StreamingJsonWriter;
+import com.honeyexplorer.snapshot.CatalogSnapshotService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.Optional;
-import java.util.stream.Collectors;
 
 /**
  * REST controller for city landing page content.
@@ -25,61 +27,42 @@ import java.util.stream.Collectors;
 @RequiredArgsConstructor
 public class CityController {
 
-    private final CityContentRepository cityContentRepository;
-    private final LocalSourceService localSourceService;
-    private final EventService eventService;
-
-    private static final double DEFAULT_RADIUS_MILES = 50.0;
+    private final CityContentService cityContentService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     /**
      * Get all available city landing pages.
      */
+    @CachedResponse(value = DataType.CITY_CONTENT, maxAge = 3600, staleWhileRevalidate = 86400)
     @GetMapping
-    public List<CityContentDTO> getAllCities() {
-        return cityContentRepository.findAllValidatedOrderByCity()
-            .stream()
-            .map(CityContentDTO::summary)
-            .collect(Collectors.toList());
+    public ResponseEntity<StreamingResponseBody> getAllCities(WireFormat format) {
+        return catalogSnapshotService.serving()
+            .map(snapshot -> streamingJsonWriter.values(format, snapshot.findValidatedCitySummaries()))
+            .orElseGet(() -> streamingJsonWriter.entities(format, cityContentService::streamAllValidated,
+                CityContentDTO::summary));
     }
 
     /**
      * Get city content by slug.
      * Returns full content with nearby sources and events count.
      */
+    @CachedResponse(value = {DataType.CITY_CONTENT, DataType.LOCAL_SOURCE, DataType.EVENT}, maxAge = 3600, staleWhileRevalidate = 86400, dateSensitive = true)
     @GetMapping("/{slug}")
     public ResponseEntity<CityContentDTO> getBySlug(@PathVariable String slug) {
-        Optional<CityContent> cityOpt = cityContentRepository.findBySlug(slug);
-
-        if (cityOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        CityContent city = cityOpt.get();
-
-        // Get counts for nearby sources and events
-        int nearbySourcesCount = 0;
-        int upcomingEventsCount = 0;
-
-        if (city.getLatitude() != null && city.getLongitude() != null) {
-            Page<LocalSourceDTO> nearbySources = localSourceService.findNearby(
-                city.getLatitude().doubleValue(),
-                city.getLongitude().doubleValue(),
-                DEFAULT_RADIUS_MILES,
-                null, 0, 1
-            );
-            nearbySourcesCount = (int) nearbySources.getTotalElements();
-
-            // Get upcoming events in the state
-            List<EventDTO> events = eventService.findByState(city.getState());
-            upcomingEventsCount = events.size();
-        }
+        Optional<CityContentDTO> city = catalogSnapshotService.serving()
+            .flatMap(snapshot -> snapshot.findCityBySlug(slug))
+            .or(() -> cityContentService.findBySlug(slug));
 
-        return ResponseEntity.ok(CityContentDTO.from(city, nearbySourcesCount, upcomingEventsCount));
+        return city
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get nearby local sources for a city.
      */
+    @CachedResponse(value = {DataType.CITY_CONTENT, DataType.LOCAL_SOURCE}, maxAge = 3600, staleWhileRevalidate = 86400)
     @GetMapping("/{slug}/sources")
     public ResponseEntity<Page<LocalSourceDTO>> getNearbySources(
             @PathVariable String slug,
@@ -87,47 +70,28 @@ public class CityController {
             @RequestParam(defaultValue = "12") int size,
             @RequestParam(defaultValue = "50") double radius
     ) {
-        Optional<CityContent> cityOpt = cityContentRepository.findBySlug(slug);
-
-        if (cityOpt.isEmpty() || cityOpt.get().getLatitude() == null) {
-            return ResponseEntity.notFound().build();
-        }
-
-        CityContent city = cityOpt.get();
-        Page<LocalSourceDTO> sources = localSourceService.findNearby(
-            city.getLatitude().doubleValue(),
-            city.getLongitude().doubleValue(),
-            radius,
-            null,
-            page,
-            size
-        );
-
-        return ResponseEntity.ok(sources);
+        return cityContentService.findNearbySources(slug, radius, page, size)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get upcoming events in a city's state.
      */
+    @CachedResponse(value = {DataType.CITY_CONTENT, DataType.EVENT}, maxAge = 3600, staleWhileRevalidate = 86400, dateSensitive = true)
     @GetMapping("/{slug}/events")
     public ResponseEntity<List<EventDTO>> getCityEvents(@PathVariable String slug) {
-        Optional<CityContent> cityOpt = cityContentRepository.findBySlug(slug);
-
-        if (cityOpt.isEmpty()) {
-            return ResponseEntity.notFound().build();
-        }
-
-        CityContent city = cityOpt.get();
-        List<EventDTO> events = eventService.findByState(city.getState());
-
-        return ResponseEntity.ok(events);
+        return cityContentService.findEvents(slug)
+            .map(ResponseEntity::ok)
+            .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get count of validated cities.
      */
+    @CachedResponse(value = DataType.CITY_CONTENT, maxAge = 3600, staleWhileRevalidate = 86400)
     @GetMapping("/count")
     public long getCount() {
-        return cityContentRepository.countByValidatedTrue();
+        return cityContentService.countValidated();
     }
 }
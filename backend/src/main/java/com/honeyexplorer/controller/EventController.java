@@ -1,12 +1,20 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.CachedResponse;
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.cache.SerializedResponseCache;
+import com.honeyexplorer.config.WireFormat;
 import com.honeyexplorer.dto.EventDTO;
 import com.honeyexplorer.service.EventService;
+import com.honeyexplorer.service.StreamingJsonWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.time.LocalDate;
 import java.util.List;
@@ -21,10 +29,13 @@ import java.util.UUID;
 public class EventController {
 
     private final EventService eventService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     /**
      * Get upcoming events.
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600, dateSensitive = true)
     @GetMapping("/upcoming")
     public List<EventDTO> getUpcoming(@RequestParam(defaultValue = "6") int limit) {
         return eventService.findUpcoming(limit);
@@ -33,6 +44,7 @@ public class EventController {
     /**
      * Browse events with pagination, search, and filtering.
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping
     public Page<EventDTO> browse(
             @RequestParam(required = false) String search,
@@ -51,17 +63,20 @@ public class EventController {
     /**
      * Get events for calendar view (specific month).
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/calendar")
-    public List<EventDTO> getCalendar(
+    public ResponseEntity<StreamingResponseBody> getCalendar(
             @RequestParam int year,
-            @RequestParam int month
+            @RequestParam int month,
+            WireFormat format
     ) {
-        return eventService.findByMonth(year, month);
+        return streamingJsonWriter.entities(format, () -> eventService.streamByMonth(year, month), EventDTO::from);
     }
 
     /**
      * Get an event by ID.
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/{id}")
     public ResponseEntity<EventDTO> getById(@PathVariable UUID id) {
         return eventService.findById(id)
@@ -72,16 +87,23 @@ public class EventController {
     /**
      * Get an event by slug.
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<EventDTO> getBySlug(@PathVariable String slug) {
-        return eventService.findBySlug(slug)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getBySlug(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WireFormat format,
+            HttpServletResponse response
+    ) {
+        return serializedResponseCache.get(DataType.EVENT, slug, format, () -> eventService.findBySlug(slug))
+                .map(body -> SerializedResponseCache.respond(body, acceptEncoding, response))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get total count of events.
      */
+    @CachedResponse(value = DataType.EVENT, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/count")
     public long getCount() {
         return eventService.count();
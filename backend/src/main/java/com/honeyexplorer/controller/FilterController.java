@@ -1,5 +1,6 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.CachedResponse;
 import com.honeyexplorer.dto.EnumOption;
 import com.honeyexplorer.dto.FilterOptionsDTO;
 import com.honeyexplorer.entity.enums.*;
@@ -22,6 +23,7 @@ public class FilterController {
      * Returns all available filter options with display names.
      * Counts are currently 0 and will be populated after Phase 3 data seeding.
      */
+    @CachedResponse(maxAge = 86400, staleWhileRevalidate = 604800)
     @GetMapping("/options")
     public FilterOptionsDTO getFilterOptions() {
         return new FilterOptionsDTO(
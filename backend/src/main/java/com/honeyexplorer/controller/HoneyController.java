@@ -1,9 +1,19 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.CachedResponse;
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.cache.SerializedResponseCache;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.dto.CompactLayout;
+import com.honeyexplorer.dto.CompactList;
 import com.honeyexplorer.dto.HoneyDTO;
 import com.honeyexplorer.service.HoneyService;
+import com.honeyexplorer.snapshot.CatalogSnapshot;
+import com.honeyexplorer.snapshot.CatalogSnapshotService;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -19,10 +29,13 @@ import java.util.List;
 public class HoneyController {
 
     private final HoneyService honeyService;
+    private final CatalogSnapshotService catalogSnapshotService;
+    private final SerializedResponseCache serializedResponseCache;
 
     /**
      * Get all honeys with pagination, search, and filtering.
      */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping
     public Page<HoneyDTO> browse(
         @RequestParam(required = false) String search,
@@ -38,35 +51,72 @@ public class HoneyController {
         return honeyService.browse(search, origin, floralSource, type, priceMin, priceMax, page, size, sort);
     }
 
+    /**
+     * The same page in the compact list format (?view=compact).
+     */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
+    @GetMapping(params = "view=compact")
+    public CompactList<HoneyDTO> browseCompact(
+        @RequestParam(required = false) String search,
+        @RequestParam(required = false) List<String> origin,
+        @RequestParam(required = false) List<String> floralSource,
+        @RequestParam(required = false) List<String> type,
+        @RequestParam(required = false) BigDecimal priceMin,
+        @RequestParam(required = false) BigDecimal priceMax,
+        @RequestParam(defaultValue = "0") int page,
+        @RequestParam(defaultValue = "24") int size,
+        @RequestParam(defaultValue = "name") String sort
+    ) {
+        return CompactList.of(CompactLayout.HONEY,
+            honeyService.browse(search, origin, floralSource, type, priceMin, priceMax, page, size, sort));
+    }
+
     /**
      * Get featured honeys for homepage.
      */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/featured")
     public List<HoneyDTO> getFeatured() {
-        return honeyService.findFeatured();
+        return catalogSnapshotService.serving()
+            .map(CatalogSnapshot::findFeaturedHoneys)
+            .orElseGet(honeyService::findFeatured);
     }
 
     /**
      * Get honey by slug.
      */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/{slug}")
-    public ResponseEntity<HoneyDTO> getBySlug(@PathVariable String slug) {
-        return honeyService.findBySlug(slug)
-            .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getBySlug(
+        @PathVariable String slug,
+        @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+        WireFormat format,
+        HttpServletResponse response
+    ) {
+        // Snapshot-era bodies are not cached: they would outlive the handover to the database
+        return catalogSnapshotService.serving()
+            .flatMap(snapshot -> snapshot.findHoneyBySlug(slug))
+            .map(honey -> serializedResponseCache.uncached(DataType.HONEY, format, honey))
+            .or(() -> serializedResponseCache.get(DataType.HONEY, slug, format, () -> honeyService.findBySlug(slug)))
+            .map(body -> SerializedResponseCache.respond(body, acceptEncoding, response))
             .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get total count of honeys.
      */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/count")
     public long getCount() {
-        return honeyService.count();
+        return catalogSnapshotService.serving()
+            .map(snapshot -> (long) snapshot.honeyCount())
+            .orElseGet(honeyService::count);
     }
 
     /**
      * Get similar honeys based on floral source and flavor profiles.
      */
+    @CachedResponse(value = DataType.HONEY, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/{slug}/similar")
     public List<HoneyDTO> getSimilar(
         @PathVariable String slug,
@@ -1,11 +1,21 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.CachedResponse;
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.cache.SerializedResponseCache;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.dto.CompactLayout;
+import com.honeyexplorer.dto.CompactList;
 import com.honeyexplorer.dto.LocalSourceDTO;
 import com.honeyexplorer.service.LocalSourceService;
+import com.honeyexplorer.service.StreamingJsonWriter;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import java.util.List;
 import java.util.UUID;
@@ -19,10 +29,13 @@ import java.util.UUID;
 public class LocalSourceController {
 
     private final LocalSourceService localSourceService;
+    private final SerializedResponseCache serializedResponseCache;
+    private final StreamingJsonWriter streamingJsonWriter;
 
     /**
      * Get all local sources with pagination, search, and filtering.
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping
     public Page<LocalSourceDTO> browse(
             @RequestParam(required = false) String search,
@@ -36,20 +49,56 @@ public class LocalSourceController {
         return localSourceService.browse(search, sourceType, state, activeOnly, page, size, sort);
     }
 
+    /**
+     * The same page in the compact list format (?view=compact).
+     */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
+    @GetMapping(params = "view=compact")
+    public CompactList<LocalSourceDTO> browseCompact(
+            @RequestParam(required = false) String search,
+            @RequestParam(required = false) List<String> sourceType,
+            @RequestParam(required = false) List<String> state,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "24") int size,
+            @RequestParam(defaultValue = "name") String sort
+    ) {
+        return CompactList.of(CompactLayout.LOCAL_SOURCE,
+                localSourceService.browse(search, sourceType, state, activeOnly, page, size, sort));
+    }
+
     /**
      * Get all local sources for map display (no pagination).
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/map")
-    public List<LocalSourceDTO> getAllForMap(
+    public ResponseEntity<StreamingResponseBody> getAllForMap(
             @RequestParam(required = false) List<String> sourceType,
-            @RequestParam(defaultValue = "true") boolean activeOnly
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            WireFormat format
     ) {
-        return localSourceService.findAllForMap(sourceType, activeOnly);
+        return streamingJsonWriter.entities(format,
+                () -> localSourceService.streamAllForMap(sourceType, activeOnly), LocalSourceDTO::from);
+    }
+
+    /**
+     * Map sources in the compact list format (?view=compact).
+     */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
+    @GetMapping(value = "/map", params = "view=compact")
+    public ResponseEntity<StreamingResponseBody> getAllForMapCompact(
+            @RequestParam(required = false) List<String> sourceType,
+            @RequestParam(defaultValue = "true") boolean activeOnly,
+            WireFormat format
+    ) {
+        return streamingJsonWriter.compactEntities(format, CompactLayout.LOCAL_SOURCE,
+                () -> localSourceService.streamAllForMap(sourceType, activeOnly), LocalSourceDTO::from);
     }
 
     /**
      * Find local sources near a given location.
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/nearby")
     public Page<LocalSourceDTO> findNearby(
             @RequestParam double lat,
@@ -62,9 +111,27 @@ public class LocalSourceController {
         return localSourceService.findNearby(lat, lng, radius, sourceType, page, size);
     }
 
+    /**
+     * Nearby sources in the compact list format (?view=compact).
+     */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
+    @GetMapping(value = "/nearby", params = "view=compact")
+    public CompactList<LocalSourceDTO> findNearbyCompact(
+            @RequestParam double lat,
+            @RequestParam double lng,
+            @RequestParam(defaultValue = "50") double radius,
+            @RequestParam(required = false) List<String> sourceType,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "24") int size
+    ) {
+        return CompactList.of(CompactLayout.LOCAL_SOURCE,
+                localSourceService.findNearby(lat, lng, radius, sourceType, page, size));
+    }
+
     /**
      * Get a local source by ID.
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/{id}")
     public ResponseEntity<LocalSourceDTO> getById(@PathVariable UUID id) {
         return localSourceService.findById(id)
@@ -75,16 +142,23 @@ public class LocalSourceController {
     /**
      * Get a local source by slug.
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/slug/{slug}")
-    public ResponseEntity<LocalSourceDTO> getBySlug(@PathVariable String slug) {
-        return localSourceService.findBySlug(slug)
-                .map(ResponseEntity::ok)
+    public ResponseEntity<byte[]> getBySlug(
+            @PathVariable String slug,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+            WireFormat format,
+            HttpServletResponse response
+    ) {
+        return serializedResponseCache.get(DataType.LOCAL_SOURCE, slug, format, () -> localSourceService.findBySlug(slug))
+                .map(body -> SerializedResponseCache.respond(body, acceptEncoding, response))
                 .orElse(ResponseEntity.notFound().build());
     }
 
     /**
      * Get total count of local sources.
      */
+    @CachedResponse(value = DataType.LOCAL_SOURCE, maxAge = 300, staleWhileRevalidate = 3600)
     @GetMapping("/count")
     public long getCount() {
         return localSourceService.count();
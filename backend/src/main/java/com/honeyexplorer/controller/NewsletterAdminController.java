@@ -0,0 +1,127 @@
+package com.honeyexplorer.controller;
+
+import com.honeyexplorer.dto.SubscriberImportResult;
+import com.honeyexplorer.service.NewsletterTransferService;
+import com.honeyexplorer.service.NewsletterTransferService.Format;
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.NativeWebRequest;
+import org.springframework.web.context.request.async.AsyncWebRequest;
+import org.springframework.web.context.request.async.CallableProcessingInterceptor;
+import org.springframework.web.context.request.async.WebAsyncUtils;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.Locale;
+import java.util.concurrent.Callable;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Bulk subscriber export and import, for moving lists in and out of the mailing tool.
+ * Requires {@code Authorization: Bearer <newsletter.admin.token>}; with no token
+ * configured the endpoints don't exist. At most newsletter.transfer.max-concurrent-exports
+ * exports stream at once, each with its own newsletter.transfer.export-timeout-ms.
+ */
+@RestController
+@RequestMapping("/api/admin/newsletter/subscribers")
+public class NewsletterAdminController {
+
+    private static final String EXPORT_TIMEOUT_KEY = NewsletterAdminController.class.getName() + ".exportTimeout";
+
+    private final NewsletterTransferService transferService;
+    private final byte[] adminToken;
+    private final Semaphore exportPermits;
+    private final long exportTimeoutMs;
+
+    public NewsletterAdminController(NewsletterTransferService transferService,
+                                     @Value("${newsletter.admin.token:}") String adminToken,
+                                     @Value("${newsletter.transfer.max-concurrent-exports:1}") int maxConcurrentExports,
+                                     @Value("${newsletter.transfer.export-timeout-ms:600000}") long exportTimeoutMs) {
+        this.transferService = transferService;
+        this.adminToken = adminToken.getBytes(StandardCharsets.UTF_8);
+        this.exportPermits = new Semaphore(maxConcurrentExports);
+        this.exportTimeoutMs = exportTimeoutMs;
+    }
+
+    /**
+     * Stream every subscriber as CSV (default) or NDJSON.
+     */
+    @GetMapping
+    public ResponseEntity<StreamingResponseBody> export(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            @RequestParam(defaultValue = "csv") String format,
+            HttpServletRequest request
+    ) {
+        authorize(authorization);
+        Format exportFormat = format(format);
+        if (!exportPermits.tryAcquire()) {
+            throw new ResponseStatusException(HttpStatus.TOO_MANY_REQUESTS, "An export is already running");
+        }
+        // Big lists stream for longer than spring.mvc.async.request-timeout allows other endpoints
+        WebAsyncUtils.getAsyncManager(request).registerCallableInterceptor(EXPORT_TIMEOUT_KEY,
+            new CallableProcessingInterceptor() {
+                @Override
+                public <T> void beforeConcurrentHandling(NativeWebRequest webRequest, Callable<T> task) {
+                    ((AsyncWebRequest) webRequest).setTimeout(exportTimeoutMs);
+                }
+            });
+        StreamingResponseBody body = out -> {
+            try {
+                transferService.export(out, exportFormat);
+            } finally {
+                exportPermits.release();
+            }
+        };
+        return ResponseEntity.ok()
+            .contentType(MediaType.parseMediaType(exportFormat.mediaType() + ";charset=UTF-8"))
+            .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment()
+                .filename("subscribers." + exportFormat.name().toLowerCase(Locale.ROOT)).build().toString())
+            .body(body);
+    }
+
+    /**
+     * Import a CSV or NDJSON upload sent as the raw request body; the format is taken
+     * from the Content-Type (application/x-ndjson, otherwise CSV).
+     */
+    @PostMapping
+    public SubscriberImportResult importSubscribers(
+            @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+            HttpServletRequest request
+    ) throws IOException {
+        authorize(authorization);
+        String contentType = request.getContentType();
+        Format importFormat = contentType != null && contentType.toLowerCase(Locale.ROOT).contains("ndjson")
+            ? Format.NDJSON
+            : Format.CSV;
+        return transferService.importFrom(request.getInputStream(), importFormat);
+    }
+
+    private void authorize(String authorization) {
+        if (adminToken.length == 0) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND);
+        }
+        byte[] presented = authorization != null && authorization.startsWith("Bearer ")
+            ? authorization.substring(7).trim().getBytes(StandardCharsets.UTF_8)
+            : new byte[0];
+        if (!MessageDigest.isEqual(presented, adminToken)) {
+            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED);
+        }
+    }
+
+    private static Format format(String format) {
+        try {
+            return Format.valueOf(format.toUpperCase(Locale.ROOT));
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "format must be csv or ndjson");
+        }
+    }
+}
@@ -0,0 +1,143 @@
+package com.honeyexplorer.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.entity.enums.SourceType;
+
+import java.io.IOException;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.RecordComponent;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+/**
+ * Column layout of a DTO in the compact list format (view=compact).
+ *
+ * Every record component becomes a column, in declaration order. Enum-backed columns are
+ * dictionary-encoded: the response carries each enum's codes and display names once, as
+ * {value, displayName} options like the filter API, and rows hold the option's index. The
+ * matching display columns (e.g. floralSourceDisplay) are dropped from the rows.
+ */
+public final class CompactLayout<D extends Record> {
+
+    public static final CompactLayout<HoneyDTO> HONEY = of(HoneyDTO.class,
+        dictionary("floralSource", "floralSourceDisplay", FloralSource.values(), FloralSource::getDisplayName),
+        dictionary("type", "typeDisplay", HoneyType.values(), HoneyType::getDisplayName),
+        dictionary("origin", "originDisplay", HoneyOrigin.values(), HoneyOrigin::getDisplayName));
+
+    public static final CompactLayout<LocalSourceDTO> LOCAL_SOURCE = of(LocalSourceDTO.class,
+        dictionary("sourceType", "sourceTypeDisplay", SourceType.values(), SourceType::getDisplayName));
+
+    /**
+     * An enum column: the codes and display names in enum order, and each code's index.
+     */
+    public record Dictionary(String column, String displayColumn, List<EnumOption> options,
+                             Map<String, Integer> index) {}
+
+    private record Column(String name, Method accessor, Dictionary dictionary) {}
+
+    private final List<Column> columns;
+    private final List<Dictionary> dictionaries;
+
+    private CompactLayout(List<Column> columns, List<Dictionary> dictionaries) {
+        this.columns = columns;
+        this.dictionaries = dictionaries;
+    }
+
+    public static <E extends Enum<E>> Dictionary dictionary(String column, String displayColumn, E[] values,
+                                                            Function<E, String> displayName) {
+        List<EnumOption> options = new ArrayList<>(values.length);
+        Map<String, Integer> index = new HashMap<>();
+        for (E value : values) {
+            index.put(value.name(), options.size());
+            options.add(new EnumOption(value.name(), displayName.apply(value), null));
+        }
+        return new Dictionary(column, displayColumn, List.copyOf(options), Map.copyOf(index));
+    }
+
+    public static <D extends Record> CompactLayout<D> of(Class<D> type, Dictionary... dictionaries) {
+        Map<String, Dictionary> byColumn = new HashMap<>();
+        Map<String, Dictionary> byDisplayColumn = new HashMap<>();
+        for (Dictionary dictionary : dictionaries) {
+            byColumn.put(dictionary.column(), dictionary);
+            byDisplayColumn.put(dictionary.displayColumn(), dictionary);
+        }
+        List<Column> columns = new ArrayList<>();
+        for (RecordComponent component : type.getRecordComponents()) {
+            if (!byDisplayColumn.containsKey(component.getName())) {
+                Dictionary dictionary = byColumn.remove(component.getName());
+                columns.add(new Column(component.getName(), component.getAccessor(), dictionary));
+            }
+        }
+        if (!byColumn.isEmpty()) {
+            throw new IllegalArgumentException(type.getSimpleName() + " has no component " + byColumn.keySet());
+        }
+        return new CompactLayout<>(List.copyOf(columns), List.of(dictionaries));
+    }
+
+    public List<String> columnNames() {
+        return columns.stream().map(Column::name).toList();
+    }
+
+    public List<Dictionary> dictionaries() {
+        return dictionaries;
+    }
+
+    /**
+     * Write the "columns" and "dictionaries" fields of the enclosing object.
+     */
+    public void writeHeader(JsonGenerator json) throws IOException {
+        json.writeArrayFieldStart("columns");
+        for (Column column : columns) {
+            json.writeString(column.name());
+        }
+        json.writeEndArray();
+        json.writeObjectFieldStart("dictionaries");
+        for (Dictionary dictionary : dictionaries) {
+            json.writeArrayFieldStart(dictionary.column());
+            for (EnumOption option : dictionary.options()) {
+                json.writeStartObject();
+                json.writeStringField("value", option.value());
+                json.writeStringField("displayName", option.displayName());
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+        }
+        json.writeEndObject();
+    }
+
+    /**
+     * Write one row as an array of column values.
+     */
+    public void writeRow(JsonGenerator json, D row) throws IOException {
+        json.writeStartArray();
+        for (Column column : columns) {
+            Object value = value(column, row);
+            if (column.dictionary() == null) {
+                json.writeObject(value);
+                continue;
+            }
+            Integer index = value == null ? null : column.dictionary().index().get(value);
+            if (index == null) {
+                json.writeNull();
+            } else {
+                json.writeNumber(index);
+            }
+        }
+        json.writeEndArray();
+    }
+
+    private static Object value(Column column, Record row) {
+        try {
+            return column.accessor().invoke(row);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new IllegalStateException("Could not read " + column.name(), e);
+        }
+    }
+}
@@ -0,0 +1,70 @@
+package com.honeyexplorer.dto;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.JsonSerializable;
+import com.fasterxml.jackson.databind.SerializerProvider;
+import com.fasterxml.jackson.databind.jsontype.TypeSerializer;
+import org.springframework.data.domain.Page;
+
+import java.io.IOException;
+import java.util.List;
+
+/**
+ * A list or page of DTOs in the compact format described by {@link CompactLayout}:
+ *
+ * <pre>
+ * {"columns": ["id", "name", "floralSource", ...],
+ *  "dictionaries": {"floralSource": [{"value": "MANUKA", "displayName": "Manuka"}, ...], ...},
+ *  "rows": [["3f2a...", "Manuka UMF 10+", 4, ...], ...],
+ *  "page": {"size": 24, "number": 0, "totalElements": 210, "totalPages": 9}}
+ * </pre>
+ *
+ * "page" is only present for pages. Serializes the same way in every wire format.
+ */
+public final class CompactList<D extends Record> extends JsonSerializable.Base {
+
+    private final CompactLayout<D> layout;
+    private final List<D> rows;
+    private final Page<D> page;
+
+    private CompactList(CompactLayout<D> layout, List<D> rows, Page<D> page) {
+        this.layout = layout;
+        this.rows = rows;
+        this.page = page;
+    }
+
+    public static <D extends Record> CompactList<D> of(CompactLayout<D> layout, List<D> rows) {
+        return new CompactList<>(layout, rows, null);
+    }
+
+    public static <D extends Record> CompactList<D> of(CompactLayout<D> layout, Page<D> page) {
+        return new CompactList<>(layout, page.getContent(), page);
+    }
+
+    @Override
+    public void serialize(JsonGenerator json, SerializerProvider serializers) throws IOException {
+        json.writeStartObject();
+        layout.writeHeader(json);
+        json.writeArrayFieldStart("rows");
+        for (D row : rows) {
+            layout.writeRow(json, row);
+        }
+        json.writeEndArray();
+        if (page != null) {
+            // Same fields as Spring Data's PagedModel
+            json.writeObjectFieldStart("page");
+            json.writeNumberField("size", page.getSize());
+            json.writeNumberField("number", page.getNumber());
+            json.writeNumberField("totalElements", page.getTotalElements());
+            json.writeNumberField("totalPages", page.getTotalPages());
+            json.writeEndObject();
+        }
+        json.writeEndObject();
+    }
+
+    @Override
+    public void serializeWithType(JsonGenerator json, SerializerProvider serializers, TypeSerializer typeSer)
+            throws IOException {
+        serialize(json, serializers);
+    }
+}
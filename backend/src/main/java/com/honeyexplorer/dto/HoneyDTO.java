@@ -1,13 +1,15 @@
 package com.honeyexplorer.dto;
 
 import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.image.ImageDerivatives;
 
 import java.math.BigDecimal;
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Data Transfer Object for Honey entity.
- * Used for API responses.
+ * Used for API responses. imageSrcset maps MIME type to a srcset of resized derivatives.
  */
 public record HoneyDTO(
     UUID id,
@@ -23,6 +25,7 @@ public record HoneyDTO(
     String flavorProfiles,
     String imageUrl,
     String thumbnailUrl,
+    Map<String, String> imageSrcset,
     String brand,
     BigDecimal priceMin,
     BigDecimal priceMax,
@@ -51,6 +54,7 @@ public record HoneyDTO(
             honey.getFlavorProfiles(),
             honey.getImageUrl(),
             honey.getThumbnailUrl(),
+            ImageDerivatives.srcset(honey.getImageUrl(), honey.getImageDerivatives()),
             honey.getBrand(),
             honey.getPriceMin(),
             honey.getPriceMax(),
@@ -1,12 +1,14 @@
 package com.honeyexplorer.dto;
 
 import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.image.ImageDerivatives;
 
+import java.util.Map;
 import java.util.UUID;
 
 /**
  * Data Transfer Object for LocalSource entity.
- * Used for API responses.
+ * Used for API responses. heroImageSrcset maps MIME type to a srcset of resized derivatives.
  */
 public record LocalSourceDTO(
     UUID id,
@@ -26,6 +28,7 @@ public record LocalSourceDTO(
     String hoursJson,
     String heroImageUrl,
     String thumbnailUrl,
+    Map<String, String> heroImageSrcset,
     String instagramHandle,
     String facebookUrl,
     Boolean isActive,
@@ -61,6 +64,7 @@ public record LocalSourceDTO(
             source.getHoursJson(),
             source.getHeroImageUrl(),
             source.getThumbnailUrl(),
+            ImageDerivatives.srcset(source.getHeroImageUrl(), source.getHeroImageDerivatives()),
             source.getInstagramHandle(),
             source.getFacebookUrl(),
             source.getIsActive(),
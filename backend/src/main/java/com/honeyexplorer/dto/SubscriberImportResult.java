@@ -0,0 +1,11 @@
+package com.honeyexplorer.dto;
+
+/**
+ * Outcome of a bulk subscriber import.
+ */
+public record SubscriberImportResult(
+    long read,       // Data rows in the upload
+    long inserted,   // Newly subscribed
+    long duplicates, // Already subscribed, or repeated within the upload
+    long invalid     // Rows without a usable email
+) {}
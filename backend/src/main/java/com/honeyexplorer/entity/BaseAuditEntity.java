@@ -1,5 +1,6 @@
 package com.honeyexplorer.entity;
 
+import com.honeyexplorer.cache.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
@@ -16,7 +17,7 @@ import java.util.UUID;
  * Uses JPA auditing for automatic timestamp management.
  */
 @MappedSuperclass
-@EntityListeners(AuditingEntityListener.class)
+@EntityListeners({AuditingEntityListener.class, DataVersionEntityListener.class})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,9 +1,14 @@
 package com.honeyexplorer.entity;
 
+import com.honeyexplorer.cache.DataVersionEntityListener;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 
@@ -17,6 +22,9 @@ import java.util.UUID;
  */
 @Entity
 @Table(name = "city_content")
+@EntityListeners(DataVersionEntityListener.class)
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "city-content")
+@NaturalIdCache(region = "city-content-by-slug")
 @Getter
 @Setter
 @NoArgsConstructor
@@ -32,6 +40,7 @@ public class CityContent {
     @Column(nullable = false, length = 50)
     private String state;
 
+    @NaturalId
     @Column(nullable = false, unique = true, length = 100)
     private String slug;
 
@@ -0,0 +1,17 @@
+package com.honeyexplorer.entity;
+
+import jakarta.persistence.PreUpdate;
+
+/**
+ * Clears the content hash when an imported row is edited through JPA, so the next
+ * incremental import sees it as changed instead of skipping it as identical to the feed.
+ */
+public class ContentHashEntityListener {
+
+    @PreUpdate
+    void onUpdate(Object entity) {
+        if (entity instanceof ContentHashed hashed) {
+            hashed.setContentHash(null);
+        }
+    }
+}
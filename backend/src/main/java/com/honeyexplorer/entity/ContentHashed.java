@@ -0,0 +1,9 @@
+package com.honeyexplorer.entity;
+
+/**
+ * A catalog entity carrying the content_hash written by the incremental importer.
+ */
+public interface ContentHashed {
+
+    void setContentHash(String contentHash);
+}
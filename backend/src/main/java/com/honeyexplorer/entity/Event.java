@@ -13,11 +13,12 @@ import java.util.UUID;
  * Entity representing a honey-related event (festival, market, class, etc.).
  */
 @Entity
+@EntityListeners(ContentHashEntityListener.class)
 @Table(name = "events")
 @Getter
 @Setter
 @NoArgsConstructor
-public class Event extends BaseAuditEntity {
+public class Event extends BaseAuditEntity implements ContentHashed {
 
     @Column(nullable = false)
     private String name;
@@ -82,4 +83,10 @@ public class Event extends BaseAuditEntity {
      */
     @Column
     private Boolean isActive = true;
+
+    /**
+     * Hash of the feed record this row was last imported from; cleared on any JPA edit.
+     */
+    @Column(length = 64)
+    private String contentHash;
 }
@@ -7,6 +7,10 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.math.BigDecimal;
 
@@ -15,11 +19,14 @@ import java.math.BigDecimal;
  * Designed to support faceted filtering (Phase 5) and visual-first display.
  */
 @Entity
+@EntityListeners(ContentHashEntityListener.class)
 @Table(name = "honeys")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "honeys")
+@NaturalIdCache(region = "honeys-by-slug")
 @Getter
 @Setter
 @NoArgsConstructor
-public class Honey extends BaseAuditEntity {
+public class Honey extends BaseAuditEntity implements ContentHashed {
 
     @Column(nullable = false)
     private String name;
@@ -64,6 +71,12 @@ public class Honey extends BaseAuditEntity {
     @Column(length = 500)
     private String thumbnailUrl;
 
+    /**
+     * Comma-separated widths of the responsive derivatives generated from imageUrl.
+     */
+    @Column(length = 50)
+    private String imageDerivatives;
+
     @Column(length = 100)
     private String brand;
 
@@ -92,7 +105,8 @@ public class Honey extends BaseAuditEntity {
     /**
      * SEO-friendly URL slug (e.g., "manuka-honey-umf-15-new-zealand").
      */
-    @Column(length = 200)
+    @NaturalId
+    @Column(length = 200, unique = true)
     private String slug;
 
     /**
@@ -106,4 +120,10 @@ public class Honey extends BaseAuditEntity {
      */
     @Column(length = 500)
     private String purchaseUrl;
+
+    /**
+     * Hash of the feed record this row was last imported from; cleared on any JPA edit.
+     */
+    @Column(length = 64)
+    private String contentHash;
 }
@@ -5,17 +5,24 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 /**
  * Entity representing a local honey source (beekeeper, farm, market, etc.).
  * Designed for location-based discovery with verification metadata.
  */
 @Entity
+@EntityListeners(ContentHashEntityListener.class)
 @Table(name = "local_sources")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "local-sources")
+@NaturalIdCache(region = "local-sources-by-slug")
 @Getter
 @Setter
 @NoArgsConstructor
-public class LocalSource extends BaseAuditEntity {
+public class LocalSource extends BaseAuditEntity implements ContentHashed {
 
     @Column(nullable = false)
     private String name;
@@ -70,6 +77,12 @@ public class LocalSource extends BaseAuditEntity {
     @Column(length = 500)
     private String heroImageUrl;
 
+    /**
+     * Comma-separated widths of the responsive derivatives generated from heroImageUrl.
+     */
+    @Column(length = 50)
+    private String heroImageDerivatives;
+
     /**
      * Thumbnail image URL for grid/list views.
      */
@@ -90,6 +103,13 @@ public class LocalSource extends BaseAuditEntity {
     /**
      * URL-friendly slug for SEO-friendly URLs.
      */
+    @NaturalId
     @Column(unique = true)
     private String slug;
+
+    /**
+     * Hash of the feed record this row was last imported from; cleared on any JPA edit.
+     */
+    @Column(length = 64)
+    private String contentHash;
 }
@@ -0,0 +1,82 @@
+package com.honeyexplorer.image;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Content-addressed storage keys: {@code <prefix>/<sha256 hex>.<ext>}.
+ *
+ * Identical bytes always map to the same key, so an object that already exists
+ * never needs to be uploaded again, and a changed image always gets a new key
+ * (and a new, safely cacheable CDN URL).
+ */
+public final class ContentAddress {
+
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private static final Map<String, String> EXTENSIONS = Map.of(
+        "image/webp", ".webp",
+        "image/avif", ".avif",
+        "image/jpeg", ".jpg",
+        "image/png", ".png",
+        "image/gif", ".gif",
+        "image/svg+xml", ".svg"
+    );
+
+    private ContentAddress() {}
+
+    public static String key(String prefix, String sha256Hex, String contentType) {
+        String name = sha256Hex + EXTENSIONS.getOrDefault(contentType, "");
+        return prefix == null || prefix.isEmpty() ? name : prefix + "/" + name;
+    }
+
+    /**
+     * MIME type for a key's extension, for serving stored images.
+     */
+    public static String contentType(String key) {
+        String lower = key.toLowerCase(Locale.ROOT);
+        if (lower.endsWith(".jpeg")) {
+            return "image/jpeg";
+        }
+        for (Map.Entry<String, String> entry : EXTENSIONS.entrySet()) {
+            if (lower.endsWith(entry.getValue())) {
+                return entry.getKey();
+            }
+        }
+        return "application/octet-stream";
+    }
+
+    public static String sha256(byte[] data) {
+        return HexFormat.of().formatHex(newDigest().digest(data));
+    }
+
+    /**
+     * Hash a file in fixed-size chunks, without reading it into memory.
+     */
+    public static String sha256(Path file) throws IOException {
+        MessageDigest digest = newDigest();
+        byte[] buffer = new byte[BUFFER_SIZE];
+        try (InputStream in = Files.newInputStream(file)) {
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                digest.update(buffer, 0, read);
+            }
+        }
+        return HexFormat.of().formatHex(digest.digest());
+    }
+
+    public static MessageDigest newDigest() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
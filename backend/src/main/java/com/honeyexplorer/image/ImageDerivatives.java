@@ -0,0 +1,99 @@
+package com.honeyexplorer.image;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * The responsive derivative ladder and its deterministic storage keys.
+ *
+ * Each original at {@code honeys/manuka.jpg} gets derivatives at
+ * {@code honeys/manuka-320w.avif}, {@code honeys/manuka-320w.webp} and so on, one per
+ * ladder width no wider than the original. Because keys only depend on the original
+ * key, derivative URLs are derived from the original URL plus the list of generated
+ * widths stored on the entity.
+ */
+public final class ImageDerivatives {
+
+    /** Widths generated for every original, smallest first. */
+    public static final List<Integer> WIDTHS = List.of(160, 320, 640, 1280);
+
+    /**
+     * Derivative formats, in order of preference for {@code <picture>} sources.
+     */
+    public enum Format {
+        AVIF("avif", "image/avif"),
+        WEBP("webp", "image/webp");
+
+        private final String extension;
+        private final String mimeType;
+
+        Format(String extension, String mimeType) {
+            this.extension = extension;
+            this.mimeType = mimeType;
+        }
+
+        public String extension() {
+            return extension;
+        }
+
+        public String mimeType() {
+            return mimeType;
+        }
+    }
+
+    private ImageDerivatives() {}
+
+    /**
+     * Storage key (or URL, given the original URL) of one derivative.
+     */
+    public static String key(String original, int width, Format format) {
+        return stem(original) + "-" + width + "w." + format.extension();
+    }
+
+    /**
+     * Ladder widths that fit within an original of the given width; originals are never upscaled.
+     */
+    public static List<Integer> widthsFor(int originalWidth) {
+        return WIDTHS.stream().filter(width -> width <= originalWidth).toList();
+    }
+
+    /**
+     * srcset attribute values keyed by MIME type, e.g.
+     * {@code "image/webp" -> "https://cdn/honeys/manuka-160w.webp 160w, ..."}.
+     *
+     * @param originalUrl The original image URL
+     * @param widths      Comma-separated generated widths as stored on the entity
+     * @return Empty if there is no image or no derivatives have been generated
+     */
+    public static Map<String, String> srcset(String originalUrl, String widths) {
+        if (originalUrl == null || widths == null || widths.isBlank()) {
+            return Collections.emptyMap();
+        }
+        List<Integer> parsed = parseWidths(widths);
+        Map<String, String> srcset = new LinkedHashMap<>();
+        for (Format format : Format.values()) {
+            srcset.put(format.mimeType(), parsed.stream()
+                .map(width -> key(originalUrl, width, format) + " " + width + "w")
+                .collect(Collectors.joining(", ")));
+        }
+        return srcset;
+    }
+
+    public static String formatWidths(List<Integer> widths) {
+        return widths.stream().map(String::valueOf).collect(Collectors.joining(","));
+    }
+
+    public static List<Integer> parseWidths(String widths) {
+        return Arrays.stream(widths.split(",")).map(String::trim).map(Integer::valueOf).toList();
+    }
+
+    private static String stem(String original) {
+        int slash = original.lastIndexOf('/');
+        int dot = original.lastIndexOf('.');
+        return dot > slash ? original.substring(0, dot) : original;
+    }
+}
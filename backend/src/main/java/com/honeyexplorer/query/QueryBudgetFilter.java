@@ -0,0 +1,71 @@
+package com.honeyexplorer.query;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import java.io.IOException;
+
+/**
+ * Counts SQL statements per API request and logs requests that exceed the
+ * statement or time budget together with the statements they ran.
+ *
+ * Metrics: http.server.statements (statements per request).
+ */
+@Component
+@ConditionalOnProperty(name = "query-budget.enabled", havingValue = "true", matchIfMissing = true)
+public class QueryBudgetFilter extends OncePerRequestFilter {
+
+    private static final Logger log = LoggerFactory.getLogger(QueryBudgetFilter.class);
+
+    private final DistributionSummary statementsPerRequest;
+
+    @Value("${query-budget.max-statements:10}")
+    private int maxStatements;
+
+    @Value("${query-budget.max-millis:500}")
+    private long maxMillis;
+
+    public QueryBudgetFilter(ObjectProvider<MeterRegistry> meterRegistry) {
+        // No registry in web-slice tests
+        this.statementsPerRequest = DistributionSummary.builder("http.server.statements")
+            .description("SQL statements prepared per API request")
+            .register(meterRegistry.getIfAvailable(SimpleMeterRegistry::new));
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !request.getRequestURI().startsWith("/api/");
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+            throws ServletException, IOException {
+        QueryRecording recording = QueryRecording.start();
+        try {
+            chain.doFilter(request, response);
+        } finally {
+            recording.close();
+            statementsPerRequest.record(recording.count());
+            if (recording.count() > maxStatements || recording.elapsedMillis() > maxMillis) {
+                String query = request.getQueryString();
+                log.warn("{} {} ran {} SQL statements in {} ms (budget {} statements / {} ms):\n{}",
+                    request.getMethod(),
+                    query != null ? request.getRequestURI() + "?" + query : request.getRequestURI(),
+                    recording.count(), recording.elapsedMillis(), maxStatements, maxMillis,
+                    recording.summary());
+            }
+        }
+    }
+}
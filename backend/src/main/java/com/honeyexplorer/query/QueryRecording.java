@@ -0,0 +1,102 @@
+package com.honeyexplorer.query;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+/**
+ * Records the SQL statements Hibernate prepares on the current thread.
+ *
+ * <pre>
+ * try (QueryRecording recording = QueryRecording.start()) {
+ *     ...
+ *     recording.count();
+ * }
+ * </pre>
+ * Recordings nest: statements count towards every open recording on the thread.
+ * Statements are captured by {@link StatementRecorder}; second-level cache hits
+ * and plain JDBC (JdbcTemplate) are not seen.
+ */
+public final class QueryRecording implements AutoCloseable {
+
+    private static final ThreadLocal<QueryRecording> CURRENT = new ThreadLocal<>();
+    private static final int MAX_RETAINED = 200;
+
+    private final QueryRecording previous;
+    private final long startedNanos = System.nanoTime();
+    private final List<String> statements = new ArrayList<>();
+    private int count;
+    private long elapsedNanos = -1;
+
+    private QueryRecording(QueryRecording previous) {
+        this.previous = previous;
+    }
+
+    /**
+     * Start recording on the current thread.
+     */
+    public static QueryRecording start() {
+        QueryRecording recording = new QueryRecording(CURRENT.get());
+        CURRENT.set(recording);
+        return recording;
+    }
+
+    static void record(String sql) {
+        for (QueryRecording recording = CURRENT.get(); recording != null; recording = recording.previous) {
+            recording.count++;
+            if (recording.statements.size() < MAX_RETAINED) {
+                recording.statements.add(sql);
+            }
+        }
+    }
+
+    /**
+     * Number of statements prepared so far.
+     */
+    public int count() {
+        return count;
+    }
+
+    /**
+     * Wall time since the recording started, frozen once closed.
+     */
+    public long elapsedMillis() {
+        long nanos = elapsedNanos >= 0 ? elapsedNanos : System.nanoTime() - startedNanos;
+        return nanos / 1_000_000;
+    }
+
+    /**
+     * The recorded statements in order (the first 200 only).
+     */
+    public List<String> statements() {
+        return List.copyOf(statements);
+    }
+
+    /**
+     * Identical statements grouped with their repeat count, most frequent first;
+     * an N+1 shows up as one statement repeated N times.
+     */
+    public String summary() {
+        Map<String, Integer> grouped = new LinkedHashMap<>();
+        statements.forEach(sql -> grouped.merge(sql, 1, Integer::sum));
+        return grouped.entrySet().stream()
+            .sorted(Map.Entry.<String, Integer>comparingByValue().reversed())
+            .map(entry -> String.format("  %3dx %s", entry.getValue(), entry.getKey()))
+            .collect(Collectors.joining("\n"));
+    }
+
+    @Override
+    public void close() {
+        if (elapsedNanos >= 0) {
+            return;
+        }
+        elapsedNanos = System.nanoTime() - startedNanos;
+        if (previous != null) {
+            CURRENT.set(previous);
+        } else {
+            CURRENT.remove();
+        }
+    }
+}
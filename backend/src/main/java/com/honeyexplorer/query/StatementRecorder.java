@@ -0,0 +1,16 @@
+package com.honeyexplorer.query;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Hibernate hook feeding prepared SQL into the current {@link QueryRecording}.
+ * Registered via hibernate.session_factory.statement_inspector.
+ */
+public class StatementRecorder implements StatementInspector {
+
+    @Override
+    public String inspect(String sql) {
+        QueryRecording.record(sql);
+        return sql;
+    }
+}
@@ -0,0 +1,14 @@
+package com.honeyexplorer.repository;
+
+import java.time.LocalDateTime;
+
+/**
+ * Projection of a table's row count and latest modification timestamp.
+ * Cheap to query and sufficient to detect inserts, updates and deletes.
+ */
+public interface ChangeFingerprint {
+
+    long getCount();
+
+    LocalDateTime getLastUpdated();
+}
@@ -1,25 +1,24 @@
 package com.honeyexplorer.repository;
 
 import com.honeyexplorer.entity.CityContent;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for CityContent entities.
  * Provides data access for city landing pages.
  */
 @Repository
-public interface CityContentRepository extends JpaRepository<CityContent, UUID> {
-
-    /**
-     * Find city content by slug.
-     */
-    Optional<CityContent> findBySlug(String slug);
+public interface CityContentRepository extends JpaRepository<CityContent, UUID>, CityContentSlugLookup {
 
     /**
      * Find city content by city and state.
@@ -39,11 +38,26 @@ public interface CityContentRepository extends JpaRepository<CityContent, UUID>
     /**
      * Find all cities ordered by city name.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     @Query("SELECT c FROM CityContent c WHERE c.validated = true ORDER BY c.city ASC")
     List<CityContent> findAllValidatedOrderByCity();
 
+    /**
+     * Stream validated cities ordered by city name; consume inside a transaction and close.
+     */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
+    @Query("SELECT c FROM CityContent c WHERE c.validated = true ORDER BY c.city ASC")
+    Stream<CityContent> streamAllValidatedOrderByCity();
+
     /**
      * Count validated cities.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     long countByValidatedTrue();
+
+    /**
+     * Row count and latest update timestamp, used for change detection.
+     */
+    @Query("SELECT COUNT(c) AS count, MAX(c.updatedAt) AS lastUpdated FROM CityContent c")
+    ChangeFingerprint fingerprint();
 }
@@ -0,0 +1,16 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.CityContent;
+
+import java.util.Optional;
+
+/**
+ * Cached slug lookup fragment for {@link CityContentRepository}.
+ */
+public interface CityContentSlugLookup {
+
+    /**
+     * Find by slug via the natural-id cache.
+     */
+    Optional<CityContent> findBySlug(String slug);
+}
@@ -0,0 +1,10 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.CityContent;
+
+class CityContentSlugLookupImpl extends SlugLookupSupport<CityContent> implements CityContentSlugLookup {
+
+    CityContentSlugLookupImpl() {
+        super(CityContent.class);
+    }
+}
@@ -2,9 +2,16 @@ package com.honeyexplorer.repository;
 
 import com.honeyexplorer.entity.Event;
 import com.honeyexplorer.entity.enums.EventType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
@@ -12,10 +19,14 @@ import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Repository for Event entities.
  * Provides data access for honey-related events.
+ *
+ * Finders used for EventDTO mapping fetch the lazy localSource in the same
+ * query; mapping otherwise issues one extra select per distinct source.
  */
 @Repository
 public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecificationExecutor<Event> {
@@ -23,31 +34,50 @@ public interface EventRepository extends JpaRepository<Event, UUID>, JpaSpecific
     /**
      * Find upcoming events (starting today or later), ordered by start date.
      */
+    @EntityGraph(attributePaths = "localSource")
     @Query("SELECT e FROM Event e WHERE e.startDate >= :today AND e.isActive = true ORDER BY e.startDate ASC")
     List<Event> findUpcoming(@Param("today") LocalDate today);
 
     /**
-     * Find events for a specific month.
+     * Stream events for a specific month; consume inside a transaction and close.
      */
+    @EntityGraph(attributePaths = "localSource")
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_READ_ONLY, value = "true"))
     @Query("SELECT e FROM Event e WHERE " +
            "(YEAR(e.startDate) = :year AND MONTH(e.startDate) = :month) OR " +
            "(e.endDate IS NOT NULL AND YEAR(e.endDate) = :year AND MONTH(e.endDate) = :month) " +
            "AND e.isActive = true " +
            "ORDER BY e.startDate ASC")
-    List<Event> findByMonth(@Param("year") int year, @Param("month") int month);
+    Stream<Event> streamByMonth(@Param("year") int year, @Param("month") int month);
 
     /**
      * Find events by type.
      */
+    @EntityGraph(attributePaths = "localSource")
     List<Event> findByEventTypeAndIsActiveTrue(EventType eventType);
 
     /**
      * Find event by slug.
      */
+    @EntityGraph(attributePaths = "localSource")
     Optional<Event> findBySlug(String slug);
 
     /**
      * Find events by state.
      */
+    @EntityGraph(attributePaths = "localSource")
     List<Event> findByStateAndIsActiveTrue(String state);
+
+    /**
+     * Browse page with local sources fetched.
+     */
+    @Override
+    @EntityGraph(attributePaths = "localSource")
+    Page<Event> findAll(Specification<Event> spec, Pageable pageable);
+
+    /**
+     * Row count and latest update timestamp, used for change detection.
+     */
+    @Query("SELECT COUNT(e) AS count, MAX(e.updatedAt) AS lastUpdated FROM Event e")
+    ChangeFingerprint fingerprint();
 }
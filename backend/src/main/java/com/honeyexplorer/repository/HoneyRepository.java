@@ -4,16 +4,18 @@ import com.honeyexplorer.entity.Honey;
 import com.honeyexplorer.entity.enums.FloralSource;
 import com.honeyexplorer.entity.enums.HoneyOrigin;
 import com.honeyexplorer.entity.enums.HoneyType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -21,12 +23,7 @@ import java.util.UUID;
  * Provides data access and query methods for honey variety discovery.
  */
 @Repository
-public interface HoneyRepository extends JpaRepository<Honey, UUID>, JpaSpecificationExecutor<Honey> {
-
-    /**
-     * Find honey by SEO-friendly slug.
-     */
-    Optional<Honey> findBySlug(String slug);
+public interface HoneyRepository extends JpaRepository<Honey, UUID>, JpaSpecificationExecutor<Honey>, HoneySlugLookup {
 
     /**
      * Find all honeys by floral source for faceted filtering.
@@ -46,6 +43,7 @@ public interface HoneyRepository extends JpaRepository<Honey, UUID>, JpaSpecific
     /**
      * Find all featured honeys for homepage display.
      */
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
     List<Honey> findByFeaturedTrue();
 
     /**
@@ -59,4 +57,10 @@ public interface HoneyRepository extends JpaRepository<Honey, UUID>, JpaSpecific
                             @Param("floralSource") FloralSource floralSource,
                             @Param("flavorProfile") String flavorProfile,
                             Pageable pageable);
+
+    /**
+     * Row count and latest update timestamp, used for change detection.
+     */
+    @Query("SELECT COUNT(h) AS count, MAX(h.updatedAt) AS lastUpdated FROM Honey h")
+    ChangeFingerprint fingerprint();
 }
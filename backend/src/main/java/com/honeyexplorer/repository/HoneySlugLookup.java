@@ -0,0 +1,16 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.Honey;
+
+import java.util.Optional;
+
+/**
+ * Cached slug lookup fragment for {@link HoneyRepository}.
+ */
+public interface HoneySlugLookup {
+
+    /**
+     * Find by slug via the natural-id cache.
+     */
+    Optional<Honey> findBySlug(String slug);
+}
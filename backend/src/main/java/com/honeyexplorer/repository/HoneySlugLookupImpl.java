@@ -0,0 +1,10 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.Honey;
+
+class HoneySlugLookupImpl extends SlugLookupSupport<Honey> implements HoneySlugLookup {
+
+    HoneySlugLookupImpl() {
+        super(Honey.class);
+    }
+}
@@ -2,12 +2,16 @@ package com.honeyexplorer.repository;
 
 import com.honeyexplorer.entity.LocalSource;
 import com.honeyexplorer.entity.enums.SourceType;
+import jakarta.persistence.QueryHint;
+import org.hibernate.jpa.AvailableHints;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
-import java.util.Optional;
 import java.util.UUID;
 
 /**
@@ -15,7 +19,16 @@ import java.util.UUID;
  * Provides data access and query methods for local honey source discovery.
  */
 @Repository
-public interface LocalSourceRepository extends JpaRepository<LocalSource, UUID>, JpaSpecificationExecutor<LocalSource> {
+public interface LocalSourceRepository extends JpaRepository<LocalSource, UUID>, JpaSpecificationExecutor<LocalSource>,
+        LocalSourceSlugLookup {
+
+    /**
+     * Find all local sources matching a specification.
+     * Cached, since map and nearby searches load every active source.
+     */
+    @Override
+    @QueryHints(@QueryHint(name = AvailableHints.HINT_CACHEABLE, value = "true"))
+    List<LocalSource> findAll(Specification<LocalSource> spec);
 
     /**
      * Find all local sources by source type for faceted filtering.
@@ -38,7 +51,8 @@ public interface LocalSourceRepository extends JpaRepository<LocalSource, UUID>,
     List<LocalSource> findByIsActiveTrue();
 
     /**
-     * Find a local source by its slug.
+     * Row count and latest update timestamp, used for change detection.
      */
-    Optional<LocalSource> findBySlug(String slug);
+    @Query("SELECT COUNT(s) AS count, MAX(s.updatedAt) AS lastUpdated FROM LocalSource s")
+    ChangeFingerprint fingerprint();
 }
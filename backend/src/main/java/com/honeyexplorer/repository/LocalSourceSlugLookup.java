@@ -0,0 +1,16 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.LocalSource;
+
+import java.util.Optional;
+
+/**
+ * Cached slug lookup fragment for {@link LocalSourceRepository}.
+ */
+public interface LocalSourceSlugLookup {
+
+    /**
+     * Find by slug via the natural-id cache.
+     */
+    Optional<LocalSource> findBySlug(String slug);
+}
@@ -0,0 +1,10 @@
+package com.honeyexplorer.repository;
+
+import com.honeyexplorer.entity.LocalSource;
+
+class LocalSourceSlugLookupImpl extends SlugLookupSupport<LocalSource> implements LocalSourceSlugLookup {
+
+    LocalSourceSlugLookupImpl() {
+        super(LocalSource.class);
+    }
+}
@@ -11,7 +11,7 @@ import java.util.UUID;
  * Repository for newsletter subscriptions.
  */
 @Repository
-public interface NewsletterRepository extends JpaRepository<NewsletterSubscription, UUID> {
+public interface NewsletterRepository extends JpaRepository<NewsletterSubscription, UUID>, NewsletterSubscriptionWriter {
 
     /**
      * Check if an email is already subscribed.
@@ -0,0 +1,30 @@
+package com.honeyexplorer.repository;
+
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Single-statement subscription writes for {@link NewsletterRepository}.
+ */
+public interface NewsletterSubscriptionWriter {
+
+    /**
+     * Insert a subscription unless the email is already subscribed, in one statement
+     * guarded by the unique constraint on email, so concurrent signups can't race.
+     *
+     * @return true if a row was inserted, false if the email already existed
+     */
+    boolean insertIfAbsent(String email);
+
+    /**
+     * Batched {@link #insertIfAbsent} for the write-behind flusher.
+     *
+     * @return how many of the emails were newly inserted, as far as the driver reports it
+     */
+    int insertAllIfAbsent(List<String> emails);
+
+    /**
+     * Stream every subscribed email without loading the entities.
+     */
+    void forEachEmail(Consumer<String> action);
+}
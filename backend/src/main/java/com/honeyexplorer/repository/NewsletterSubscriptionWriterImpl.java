@@ -0,0 +1,83 @@
+package com.honeyexplorer.repository;
+
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.UUID;
+import java.util.function.Consumer;
+
+/**
+ * {@code INSERT ... ON CONFLICT DO NOTHING} on PostgreSQL, {@code MERGE} on H2.
+ */
+class NewsletterSubscriptionWriterImpl implements NewsletterSubscriptionWriter {
+
+    private static final String POSTGRES_INSERT =
+        "INSERT INTO newsletter_subscriptions "
+            + "(id, email, confirmed, subscribed_at, created_at, updated_at, is_verified) "
+            + "VALUES (?, ?, FALSE, ?, ?, ?, FALSE) ON CONFLICT (email) DO NOTHING";
+
+    private static final String H2_MERGE =
+        "MERGE INTO newsletter_subscriptions t USING (VALUES (?, ?, ?, ?, ?)) "
+            + "AS s (id, email, subscribed_at, created_at, updated_at) ON t.email = s.email "
+            + "WHEN NOT MATCHED THEN INSERT "
+            + "(id, email, confirmed, subscribed_at, created_at, updated_at, is_verified) "
+            + "VALUES (s.id, s.email, FALSE, s.subscribed_at, s.created_at, s.updated_at, FALSE)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Boolean postgres;
+
+    NewsletterSubscriptionWriterImpl(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public boolean insertIfAbsent(String email) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        try {
+            return jdbcTemplate.update(isPostgres() ? POSTGRES_INSERT : H2_MERGE,
+                UUID.randomUUID(), email, now, now, now) > 0;
+        } catch (DuplicateKeyException e) {
+            // H2's MERGE can still lose a race to a concurrent insert of the same email
+            return false;
+        }
+    }
+
+    @Override
+    public int insertAllIfAbsent(List<String> emails) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        List<Object[]> rows = emails.stream()
+            .map(email -> new Object[] {UUID.randomUUID(), email, now, now, now})
+            .toList();
+        int inserted = 0;
+        for (int count : jdbcTemplate.batchUpdate(isPostgres() ? POSTGRES_INSERT : H2_MERGE, rows)) {
+            // Rewritten batches report SUCCESS_NO_INFO (-2) rather than a row count
+            inserted += count == Statement.SUCCESS_NO_INFO ? 1 : count;
+        }
+        return inserted;
+    }
+
+    @Override
+    public void forEachEmail(Consumer<String> action) {
+        jdbcTemplate.query("SELECT email FROM newsletter_subscriptions", rs -> {
+            action.accept(rs.getString(1));
+        });
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            result = product != null && product.toLowerCase().contains("postgresql");
+            postgres = result;
+        }
+        return result;
+    }
+}
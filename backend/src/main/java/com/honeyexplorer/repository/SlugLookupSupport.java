@@ -0,0 +1,33 @@
+package com.honeyexplorer.repository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+/**
+ * Base for repository fragments that resolve an entity by its slug natural id.
+ * Lookups go through Hibernate's natural-id and entity caches, so a repeat hit on a
+ * detail page is answered from the cache when it holds the entry, without a query. A cold,
+ * evicted or invalidated entry still queries the database, and the surrounding
+ * transaction takes a connection either way.
+ */
+public abstract class SlugLookupSupport<T> {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final Class<T> entityType;
+
+    protected SlugLookupSupport(Class<T> entityType) {
+        this.entityType = entityType;
+    }
+
+    public Optional<T> findBySlug(String slug) {
+        if (slug == null) {
+            return Optional.empty();
+        }
+        return entityManager.unwrap(Session.class).bySimpleNaturalId(entityType).loadOptional(slug);
+    }
+}
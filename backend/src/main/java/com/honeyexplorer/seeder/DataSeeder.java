@@ -10,6 +10,7 @@ import org.springframework.stereotype.Component;
 /**
  * CommandLineRunner that seeds the database with initial data when enabled.
  * Controlled by seed.data.enabled property (default: false).
+ * Ordering, concurrency and skip-if-unchanged are handled by SeedingOrchestrator.
  */
 @Component
 @Order(1)
@@ -20,14 +21,10 @@ public class DataSeeder implements CommandLineRunner {
     @Value("${seed.data.enabled:false}")
     private boolean seedDataEnabled;
 
-    private final HoneySeeder honeySeeder;
-    private final LocalSourceSeeder localSourceSeeder;
-    private final EventSeeder eventSeeder;
+    private final SeedingOrchestrator seedingOrchestrator;
 
-    public DataSeeder(HoneySeeder honeySeeder, LocalSourceSeeder localSourceSeeder, EventSeeder eventSeeder) {
-        this.honeySeeder = honeySeeder;
-        this.localSourceSeeder = localSourceSeeder;
-        this.eventSeeder = eventSeeder;
+    public DataSeeder(SeedingOrchestrator seedingOrchestrator) {
+        this.seedingOrchestrator = seedingOrchestrator;
     }
 
     @Override
@@ -39,10 +36,12 @@ public class DataSeeder implements CommandLineRunner {
 
         log.info("Starting database seeding...");
 
-        int honeysSeeded = honeySeeder.seedHoneys();
-        int sourcesSeeded = localSourceSeeder.seedLocalSources();
-        int eventsSeeded = eventSeeder.seedEvents();
+        SeedingOrchestrator.SeedSummary summary = seedingOrchestrator.seedAll();
+        if (summary.skipped()) {
+            return;
+        }
 
-        log.info("Database seeding complete: {} honeys, {} local sources, {} events", honeysSeeded, sourcesSeeded, eventsSeeded);
+        log.info("Database seeding complete: {} honeys, {} local sources, {} events",
+            summary.honeys(), summary.localSources(), summary.events());
     }
 }
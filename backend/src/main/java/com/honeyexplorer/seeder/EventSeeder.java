@@ -1,7 +1,5 @@
 package com.honeyexplorer.seeder;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.honeyexplorer.entity.Event;
 import com.honeyexplorer.entity.enums.EventType;
 import com.honeyexplorer.repository.EventRepository;
@@ -10,8 +8,6 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.InputStream;
-import java.util.List;
 
 /**
  * Seeds the events table from JSON seed data file.
@@ -20,14 +16,14 @@ import java.util.List;
 public class EventSeeder {
 
     private static final Logger log = LoggerFactory.getLogger(EventSeeder.class);
-    private static final String SEED_FILE = "/seed-data/events.json";
+    private static final String SEED_FILE = "events.json";
 
     private final EventRepository eventRepository;
-    private final ObjectMapper objectMapper;
+    private final BulkSeedWriter bulkSeedWriter;
 
-    public EventSeeder(EventRepository eventRepository, ObjectMapper objectMapper) {
+    public EventSeeder(EventRepository eventRepository, BulkSeedWriter bulkSeedWriter) {
         this.eventRepository = eventRepository;
-        this.objectMapper = objectMapper;
+        this.bulkSeedWriter = bulkSeedWriter;
     }
 
     /**
@@ -41,24 +37,13 @@ public class EventSeeder {
             return 0;
         }
 
-        try (InputStream inputStream = getClass().getResourceAsStream(SEED_FILE)) {
-            if (inputStream == null) {
+        try {
+            int count = bulkSeedWriter.importFile(SEED_FILE, EventSeedDto.class, this::mapToEntity);
+            if (count < 0) {
                 log.error("Seed file not found: {}", SEED_FILE);
                 return 0;
             }
 
-            List<EventSeedDto> seedData = objectMapper.readValue(
-                inputStream,
-                new TypeReference<List<EventSeedDto>>() {}
-            );
-
-            int count = 0;
-            for (EventSeedDto dto : seedData) {
-                Event event = mapToEntity(dto);
-                eventRepository.save(event);
-                count++;
-            }
-
             log.info("Seeded {} events", count);
             return count;
 
@@ -83,21 +68,9 @@ public class EventSeeder {
         event.setImageUrl(dto.imageUrl());
         event.setThumbnailUrl(dto.thumbnailUrl());
         event.setLink(dto.link());
-        event.setSlug(generateSlug(dto.name()));
+        event.setSlug(SeedSlugs.fromName(dto.name()));
         event.setIsActive(true);
 
         return event;
     }
-
-    /**
-     * Generate a URL-friendly slug from a name.
-     */
-    private String generateSlug(String name) {
-        if (name == null) return null;
-        return name.toLowerCase()
-                .replaceAll("[^a-z0-9\\s-]", "")
-                .replaceAll("\\s+", "-")
-                .replaceAll("-+", "-")
-                .replaceAll("^-|-$", "");
-    }
 }
@@ -1,7 +1,5 @@
 package com.honeyexplorer.seeder;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.honeyexplorer.entity.Honey;
 import com.honeyexplorer.entity.enums.FloralSource;
 import com.honeyexplorer.entity.enums.HoneyOrigin;
@@ -12,9 +10,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Seeds the honey table from JSON seed data file.
@@ -23,14 +19,14 @@ import java.util.List;
 public class HoneySeeder {
 
     private static final Logger log = LoggerFactory.getLogger(HoneySeeder.class);
-    private static final String SEED_FILE = "/seed-data/honeys.json";
+    private static final String SEED_FILE = "honeys.json";
 
     private final HoneyRepository honeyRepository;
-    private final ObjectMapper objectMapper;
+    private final BulkSeedWriter bulkSeedWriter;
 
-    public HoneySeeder(HoneyRepository honeyRepository, ObjectMapper objectMapper) {
+    public HoneySeeder(HoneyRepository honeyRepository, BulkSeedWriter bulkSeedWriter) {
         this.honeyRepository = honeyRepository;
-        this.objectMapper = objectMapper;
+        this.bulkSeedWriter = bulkSeedWriter;
     }
 
     /**
@@ -44,26 +40,14 @@ public class HoneySeeder {
             return 0;
         }
 
-        try (InputStream inputStream = getClass().getResourceAsStream(SEED_FILE)) {
-            if (inputStream == null) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int count = bulkSeedWriter.importFile(SEED_FILE, HoneySeedDto.class, dto -> mapToEntity(dto, now));
+            if (count < 0) {
                 log.error("Seed file not found: {}", SEED_FILE);
                 return 0;
             }
 
-            List<HoneySeedDto> seedData = objectMapper.readValue(
-                inputStream,
-                new TypeReference<List<HoneySeedDto>>() {}
-            );
-
-            LocalDateTime now = LocalDateTime.now();
-            int count = 0;
-
-            for (HoneySeedDto dto : seedData) {
-                Honey honey = mapToEntity(dto, now);
-                honeyRepository.save(honey);
-                count++;
-            }
-
             log.info("Seeded {} honeys", count);
             return count;
 
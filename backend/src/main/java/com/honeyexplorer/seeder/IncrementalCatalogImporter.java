@@ -0,0 +1,315 @@
+package com.honeyexplorer.seeder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.entity.enums.EventType;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.entity.enums.SourceType;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Incremental importer for the seed-data / catalog feed formats
+ * (honeys.json, local-sources.json, events.json).
+ *
+ * Records are keyed on slug. Each incoming record is hashed over its content
+ * columns and compared with the content_hash stored on the existing row; only
+ * new or changed rows are written, as batched upserts
+ * ({@code INSERT ... ON CONFLICT} on PostgreSQL, {@code MERGE} on H2).
+ */
+@Component
+public class IncrementalCatalogImporter {
+
+    private static final Logger log = LoggerFactory.getLogger(IncrementalCatalogImporter.class);
+
+    private static final String VERIFICATION_SOURCE = "catalog_import";
+
+    /**
+     * Columns written on every upsert but excluded from the content hash.
+     */
+    private static final List<String> AUDIT_COLUMNS =
+        List.of("updated_at", "last_verified_at", "verification_source", "is_verified");
+
+    private static final TableSpec<HoneySeedDto> HONEYS = new TableSpec<>(
+        "honeys",
+        List.of("slug", "name", "description", "floral_source", "type", "origin", "region", "flavor_profiles",
+            "image_url", "thumbnail_url", "brand", "price_min", "price_max", "certifications", "umf_rating",
+            "mgo_rating", "featured", "purchase_url"),
+        dto -> new Object[] {
+            dto.slug(), dto.name(), dto.description(),
+            FloralSource.valueOf(dto.floralSource()).name(),
+            HoneyType.valueOf(dto.type()).name(),
+            HoneyOrigin.valueOf(dto.origin()).name(),
+            dto.region(), dto.flavorProfiles(), dto.imageUrl(), dto.thumbnailUrl(), dto.brand(),
+            dto.priceMin(), dto.priceMax(), dto.certifications(), dto.umfRating(), dto.mgoRating(),
+            dto.isFeatured(), dto.purchaseUrl()
+        }
+    );
+
+    private static final TableSpec<LocalSourceSeedDto> LOCAL_SOURCES = new TableSpec<>(
+        "local_sources",
+        List.of("slug", "name", "source_type", "description", "address", "city", "state", "zip_code",
+            "latitude", "longitude", "phone", "email", "website", "hours_json", "hero_image_url",
+            "thumbnail_url", "instagram_handle", "facebook_url", "is_active"),
+        dto -> new Object[] {
+            SeedSlugs.fromName(dto.name()), dto.name(),
+            SourceType.valueOf(dto.sourceType()).name(),
+            dto.description(), dto.address(), dto.city(), dto.state(), dto.zipCode(),
+            dto.latitude(), dto.longitude(), dto.phone(), dto.email(), dto.website(), dto.hoursJson(),
+            dto.heroImageUrl(), dto.thumbnailUrl(), dto.instagramHandle(), dto.facebookUrl(), true
+        }
+    );
+
+    private static final TableSpec<EventSeedDto> EVENTS = new TableSpec<>(
+        "events",
+        List.of("slug", "name", "description", "event_type", "start_date", "end_date", "address", "city",
+            "state", "latitude", "longitude", "image_url", "thumbnail_url", "link", "is_active"),
+        dto -> new Object[] {
+            SeedSlugs.fromName(dto.name()), dto.name(), dto.description(),
+            EventType.valueOf(dto.eventType()).name(),
+            dto.startDate(), dto.endDate(), dto.address(), dto.city(), dto.state(),
+            dto.latitude(), dto.longitude(), dto.imageUrl(), dto.thumbnailUrl(), dto.link(), true
+        }
+    );
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final ObjectMapper objectMapper;
+    private final BulkSeedWriter bulkSeedWriter;
+
+    @Value("${seed.batch-size:100}")
+    private int batchSize;
+
+    private volatile Boolean postgres;
+
+    public IncrementalCatalogImporter(
+            JdbcTemplate jdbcTemplate,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper,
+            BulkSeedWriter bulkSeedWriter
+    ) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.objectMapper = objectMapper;
+        this.bulkSeedWriter = bulkSeedWriter;
+    }
+
+    /**
+     * Outcome of importing one file.
+     */
+    public record ImportReport(String table, int inserted, int updated, int unchanged) {
+
+        public int changed() {
+            return inserted + updated;
+        }
+    }
+
+    /**
+     * Column layout of a target table; the first column must be slug.
+     */
+    private record TableSpec<D>(String table, List<String> contentColumns, Function<D, Object[]> values) {}
+
+    public ImportReport importHoneys() throws IOException {
+        return importFile("honeys.json", HoneySeedDto.class, HONEYS);
+    }
+
+    public ImportReport importLocalSources() throws IOException {
+        return importFile("local-sources.json", LocalSourceSeedDto.class, LOCAL_SOURCES);
+    }
+
+    public ImportReport importEvents() throws IOException {
+        return importFile("events.json", EventSeedDto.class, EVENTS);
+    }
+
+    private <D> ImportReport importFile(String fileName, Class<D> dtoType, TableSpec<D> spec) throws IOException {
+        Resource resource = bulkSeedWriter.resolve(fileName);
+        if (!resource.exists()) {
+            log.error("Import file not found: {}", fileName);
+            return new ImportReport(spec.table(), 0, 0, 0);
+        }
+
+        String upsertSql = upsertSql(spec);
+        long started = System.nanoTime();
+        ImportReport report;
+        try (InputStream inputStream = resource.getInputStream()) {
+            report = transactionTemplate.execute(status -> {
+                try {
+                    return diffAndUpsert(inputStream, dtoType, spec, upsertSql);
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+
+        log.info("Imported {}: {} inserted, {} updated, {} unchanged in {} ms",
+            fileName, report.inserted(), report.updated(), report.unchanged(),
+            (System.nanoTime() - started) / 1_000_000);
+        return report;
+    }
+
+    private <D> ImportReport diffAndUpsert(InputStream inputStream, Class<D> dtoType, TableSpec<D> spec, String upsertSql)
+            throws IOException {
+        Map<String, String> existingHashes = loadExistingHashes(spec.table());
+        Set<String> seenSlugs = new HashSet<>();
+        List<Object[]> batch = new ArrayList<>(batchSize);
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int[] counts = new int[3]; // inserted, updated, unchanged
+
+        SeedJsonReader.forEach(objectMapper, inputStream, dtoType, dto -> {
+            Object[] content = spec.values().apply(dto);
+            String slug = (String) content[0];
+            if (slug == null || slug.isBlank() || !seenSlugs.add(slug)) {
+                log.warn("Skipping {} record with missing or duplicate slug: {}", spec.table(), slug);
+                return;
+            }
+
+            String hash = contentHash(content);
+            if (!existingHashes.containsKey(slug)) {
+                counts[0]++;
+            } else if (!hash.equals(existingHashes.get(slug))) {
+                counts[1]++;
+            } else {
+                counts[2]++;
+                return;
+            }
+
+            batch.add(upsertArgs(content, hash, now));
+            if (batch.size() >= batchSize) {
+                jdbcTemplate.batchUpdate(upsertSql, batch);
+                batch.clear();
+            }
+        });
+
+        if (!batch.isEmpty()) {
+            jdbcTemplate.batchUpdate(upsertSql, batch);
+        }
+        return new ImportReport(spec.table(), counts[0], counts[1], counts[2]);
+    }
+
+    private Map<String, String> loadExistingHashes(String table) {
+        Map<String, String> hashes = new HashMap<>();
+        jdbcTemplate.query(
+            "SELECT slug, content_hash FROM " + table + " WHERE slug IS NOT NULL",
+            rs -> {
+                hashes.put(rs.getString(1), rs.getString(2));
+            }
+        );
+        return hashes;
+    }
+
+    /**
+     * Argument order: id, content columns, audit columns, created_at, content_hash.
+     */
+    private Object[] upsertArgs(Object[] content, String hash, Timestamp now) {
+        Object[] args = new Object[content.length + AUDIT_COLUMNS.size() + 3];
+        int i = 0;
+        args[i++] = UUID.randomUUID();
+        for (Object value : content) {
+            args[i++] = value;
+        }
+        args[i++] = now;                 // updated_at
+        args[i++] = now;                 // last_verified_at
+        args[i++] = VERIFICATION_SOURCE; // verification_source
+        args[i++] = true;                // is_verified
+        args[i++] = now;                 // created_at
+        args[i] = hash;
+        return args;
+    }
+
+    private String upsertSql(TableSpec<?> spec) {
+        List<String> insertColumns = Stream.of(
+            Stream.of("id"),
+            spec.contentColumns().stream(),
+            AUDIT_COLUMNS.stream(),
+            Stream.of("created_at", "content_hash")
+        ).flatMap(s -> s).toList();
+
+        // slug is the key and id/created_at belong to the original row
+        List<String> updateColumns = insertColumns.stream()
+            .filter(c -> !c.equals("id") && !c.equals("slug") && !c.equals("created_at"))
+            .toList();
+
+        String columnList = String.join(", ", insertColumns);
+        String placeholders = insertColumns.stream().map(c -> "?").collect(Collectors.joining(", "));
+
+        if (isPostgres()) {
+            return "INSERT INTO " + spec.table() + " (" + columnList + ") VALUES (" + placeholders + ") "
+                + "ON CONFLICT (slug) DO UPDATE SET "
+                + updateColumns.stream().map(c -> c + " = EXCLUDED." + c).collect(Collectors.joining(", "));
+        }
+
+        return "MERGE INTO " + spec.table() + " t USING (VALUES (" + placeholders + ")) "
+            + "AS s (" + columnList + ") ON t.slug = s.slug "
+            + "WHEN MATCHED THEN UPDATE SET "
+            + updateColumns.stream().map(c -> c + " = s." + c).collect(Collectors.joining(", "))
+            + " WHEN NOT MATCHED THEN INSERT (" + columnList + ") VALUES ("
+            + insertColumns.stream().map(c -> "s." + c).collect(Collectors.joining(", ")) + ")";
+    }
+
+    private boolean isPostgres() {
+        Boolean result = postgres;
+        if (result == null) {
+            String product = jdbcTemplate.execute(
+                (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName()
+            );
+            result = product != null && product.toLowerCase().contains("postgresql");
+            postgres = result;
+        }
+        return result;
+    }
+
+    /**
+     * SHA-256 over the canonical string form of the content columns.
+     */
+    static String contentHash(Object[] content) {
+        StringBuilder canonical = new StringBuilder();
+        for (Object value : content) {
+            if (value == null) {
+                canonical.append('\u0000');
+            } else if (value instanceof BigDecimal decimal) {
+                canonical.append(decimal.stripTrailingZeros().toPlainString());
+            } else {
+                canonical.append(value);
+            }
+            canonical.append('\u001F');
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256")
+                .digest(canonical.toString().getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
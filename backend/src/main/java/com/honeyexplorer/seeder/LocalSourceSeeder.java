@@ -1,7 +1,5 @@
 package com.honeyexplorer.seeder;
 
-import com.fasterxml.jackson.core.type.TypeReference;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import com.honeyexplorer.entity.LocalSource;
 import com.honeyexplorer.entity.enums.SourceType;
 import com.honeyexplorer.repository.LocalSourceRepository;
@@ -10,9 +8,7 @@ import org.slf4j.LoggerFactory;
 import org.springframework.stereotype.Component;
 
 import java.io.IOException;
-import java.io.InputStream;
 import java.time.LocalDateTime;
-import java.util.List;
 
 /**
  * Seeds the local_sources table from JSON seed data file.
@@ -21,14 +17,14 @@ import java.util.List;
 public class LocalSourceSeeder {
 
     private static final Logger log = LoggerFactory.getLogger(LocalSourceSeeder.class);
-    private static final String SEED_FILE = "/seed-data/local-sources.json";
+    private static final String SEED_FILE = "local-sources.json";
 
     private final LocalSourceRepository localSourceRepository;
-    private final ObjectMapper objectMapper;
+    private final BulkSeedWriter bulkSeedWriter;
 
-    public LocalSourceSeeder(LocalSourceRepository localSourceRepository, ObjectMapper objectMapper) {
+    public LocalSourceSeeder(LocalSourceRepository localSourceRepository, BulkSeedWriter bulkSeedWriter) {
         this.localSourceRepository = localSourceRepository;
-        this.objectMapper = objectMapper;
+        this.bulkSeedWriter = bulkSeedWriter;
     }
 
     /**
@@ -42,26 +38,14 @@ public class LocalSourceSeeder {
             return 0;
         }
 
-        try (InputStream inputStream = getClass().getResourceAsStream(SEED_FILE)) {
-            if (inputStream == null) {
+        try {
+            LocalDateTime now = LocalDateTime.now();
+            int count = bulkSeedWriter.importFile(SEED_FILE, LocalSourceSeedDto.class, dto -> mapToEntity(dto, now));
+            if (count < 0) {
                 log.error("Seed file not found: {}", SEED_FILE);
                 return 0;
             }
 
-            List<LocalSourceSeedDto> seedData = objectMapper.readValue(
-                inputStream,
-                new TypeReference<List<LocalSourceSeedDto>>() {}
-            );
-
-            LocalDateTime now = LocalDateTime.now();
-            int count = 0;
-
-            for (LocalSourceSeedDto dto : seedData) {
-                LocalSource source = mapToEntity(dto, now);
-                localSourceRepository.save(source);
-                count++;
-            }
-
             log.info("Seeded {} local sources", count);
             return count;
 
@@ -92,7 +76,7 @@ public class LocalSourceSeeder {
         source.setFacebookUrl(dto.facebookUrl());
 
         // Generate slug from name
-        source.setSlug(generateSlug(dto.name()));
+        source.setSlug(SeedSlugs.fromName(dto.name()));
 
         // Verification metadata
         source.setLastVerifiedAt(verifiedAt);
@@ -102,17 +86,4 @@ public class LocalSourceSeeder {
 
         return source;
     }
-
-    /**
-     * Generate a URL-friendly slug from a name.
-     * Example: "Sweet Valley Apiaries" -> "sweet-valley-apiaries"
-     */
-    private String generateSlug(String name) {
-        if (name == null) return null;
-        return name.toLowerCase()
-                .replaceAll("[^a-z0-9\\s-]", "")  // Remove special characters
-                .replaceAll("\\s+", "-")           // Replace spaces with hyphens
-                .replaceAll("-+", "-")             // Replace multiple hyphens with single
-                .replaceAll("^-|-$", "");          // Remove leading/trailing hyphens
-    }
 }
@@ -0,0 +1,38 @@
+package com.honeyexplorer.seeder;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.Consumer;
+
+/**
+ * Streams a JSON array of seed records one element at a time.
+ * Uses Jackson's token-level JsonParser so only the current record is held in memory.
+ */
+final class SeedJsonReader {
+
+    private SeedJsonReader() {}
+
+    /**
+     * Read each object in the top-level array as {@code type} and pass it to {@code action}.
+     *
+     * @return number of records read
+     */
+    static <T> int forEach(ObjectMapper objectMapper, InputStream inputStream, Class<T> type, Consumer<T> action)
+            throws IOException {
+        int count = 0;
+        try (JsonParser parser = objectMapper.createParser(inputStream)) {
+            if (parser.nextToken() != JsonToken.START_ARRAY) {
+                throw new IOException("Expected a JSON array of " + type.getSimpleName() + " records");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                action.accept(objectMapper.readValue(parser, type));
+                count++;
+            }
+        }
+        return count;
+    }
+}
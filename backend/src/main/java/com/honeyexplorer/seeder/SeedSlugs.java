@@ -0,0 +1,22 @@
+package com.honeyexplorer.seeder;
+
+/**
+ * Slug generation shared by the seeders and the catalog importer.
+ */
+final class SeedSlugs {
+
+    private SeedSlugs() {}
+
+    /**
+     * Generate a URL-friendly slug from a name.
+     * Example: "Sweet Valley Apiaries" -> "sweet-valley-apiaries"
+     */
+    static String fromName(String name) {
+        if (name == null) return null;
+        return name.toLowerCase()
+                .replaceAll("[^a-z0-9\\s-]", "")  // Remove special characters
+                .replaceAll("\\s+", "-")           // Replace spaces with hyphens
+                .replaceAll("-+", "-")             // Replace multiple hyphens with single
+                .replaceAll("^-|-$", "");          // Remove leading/trailing hyphens
+    }
+}
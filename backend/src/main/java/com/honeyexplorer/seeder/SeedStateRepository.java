@@ -0,0 +1,49 @@
+package com.honeyexplorer.seeder;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * Persists checksums of applied seed data in the seed_state table.
+ */
+@Component
+public class SeedStateRepository {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public SeedStateRepository(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    /**
+     * Get the checksum recorded for a seed set, if any.
+     */
+    public Optional<String> findChecksum(String name) {
+        return jdbcTemplate.query(
+            "SELECT checksum FROM seed_state WHERE name = ?",
+            (rs, rowNum) -> rs.getString(1),
+            name
+        ).stream().findFirst();
+    }
+
+    /**
+     * Record the checksum for a seed set, replacing any previous value.
+     */
+    public void saveChecksum(String name, String checksum) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        int updated = jdbcTemplate.update(
+            "UPDATE seed_state SET checksum = ?, seeded_at = ? WHERE name = ?",
+            checksum, now, name
+        );
+        if (updated == 0) {
+            jdbcTemplate.update(
+                "INSERT INTO seed_state (name, checksum, seeded_at) VALUES (?, ?, ?)",
+                name, checksum, now
+            );
+        }
+    }
+}
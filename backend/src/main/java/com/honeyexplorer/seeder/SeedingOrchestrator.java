@@ -0,0 +1,194 @@
+package com.honeyexplorer.seeder;
+
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.cache.DataVersionRegistry;
+import com.honeyexplorer.repository.EventRepository;
+import com.honeyexplorer.repository.HoneyRepository;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.io.Resource;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.function.Supplier;
+
+/**
+ * Runs the seeders concurrently on virtual threads.
+ * Honeys and local sources are independent and seed in parallel; events
+ * reference local sources, so they start only once local sources are done.
+ *
+ * With seed.data.mode=incremental the IncrementalCatalogImporter upserts
+ * changed rows instead of the all-or-nothing seeders, so existing tables are
+ * refreshed in place.
+ *
+ * When seed.data.skip-unchanged is on, a SHA-256 checksum of the seed files
+ * is compared with the one stored in seed_state and seeding is skipped
+ * entirely on a match, avoiding the count queries and JSON parsing on cold starts.
+ * Each mode keeps its own checksum: a bulk run over populated tables writes nothing,
+ * so its checksum must not let a later incremental run skip the same files.
+ */
+@Component
+public class SeedingOrchestrator {
+
+    private static final Logger log = LoggerFactory.getLogger(SeedingOrchestrator.class);
+
+    static final String SEED_SET_NAME = "catalog";
+    static final String INCREMENTAL_SEED_SET_NAME = "catalog-incremental";
+    private static final List<String> SEED_FILES = List.of("honeys.json", "local-sources.json", "events.json");
+
+    private final HoneySeeder honeySeeder;
+    private final LocalSourceSeeder localSourceSeeder;
+    private final EventSeeder eventSeeder;
+    private final IncrementalCatalogImporter catalogImporter;
+    private final BulkSeedWriter bulkSeedWriter;
+    private final SeedStateRepository seedStateRepository;
+    private final HoneyRepository honeyRepository;
+    private final LocalSourceRepository localSourceRepository;
+    private final EventRepository eventRepository;
+    private final DataVersionRegistry dataVersionRegistry;
+
+    @Value("${seed.data.skip-unchanged:true}")
+    private boolean skipUnchanged;
+
+    @Value("${seed.data.mode:bulk}")
+    private String mode;
+
+    public SeedingOrchestrator(
+            HoneySeeder honeySeeder,
+            LocalSourceSeeder localSourceSeeder,
+            EventSeeder eventSeeder,
+            IncrementalCatalogImporter catalogImporter,
+            BulkSeedWriter bulkSeedWriter,
+            SeedStateRepository seedStateRepository,
+            HoneyRepository honeyRepository,
+            LocalSourceRepository localSourceRepository,
+            EventRepository eventRepository,
+            DataVersionRegistry dataVersionRegistry
+    ) {
+        this.honeySeeder = honeySeeder;
+        this.localSourceSeeder = localSourceSeeder;
+        this.eventSeeder = eventSeeder;
+        this.catalogImporter = catalogImporter;
+        this.bulkSeedWriter = bulkSeedWriter;
+        this.seedStateRepository = seedStateRepository;
+        this.honeyRepository = honeyRepository;
+        this.localSourceRepository = localSourceRepository;
+        this.eventRepository = eventRepository;
+        this.dataVersionRegistry = dataVersionRegistry;
+    }
+
+    /**
+     * Result of a seeding run.
+     */
+    public record SeedSummary(boolean skipped, int honeys, int localSources, int events) {}
+
+    /**
+     * Seed all catalog tables, skipping the run if the seed files are unchanged.
+     */
+    public SeedSummary seedAll() {
+        boolean incremental = "incremental".equalsIgnoreCase(mode);
+        String seedSetName = incremental ? INCREMENTAL_SEED_SET_NAME : SEED_SET_NAME;
+        String checksum = skipUnchanged ? checksumSeedFiles() : null;
+        if (checksum != null && checksum.equals(seedStateRepository.findChecksum(seedSetName).orElse(null))) {
+            log.info("Seed data unchanged (checksum {}), skipping seeding", checksum.substring(0, 12));
+            return new SeedSummary(true, 0, 0, 0);
+        }
+
+        Supplier<Integer> honeyTask = incremental
+            ? () -> runImport(catalogImporter::importHoneys)
+            : honeySeeder::seedHoneys;
+        Supplier<Integer> sourceTask = incremental
+            ? () -> runImport(catalogImporter::importLocalSources)
+            : localSourceSeeder::seedLocalSources;
+        Supplier<Integer> eventTask = incremental
+            ? () -> runImport(catalogImporter::importEvents)
+            : eventSeeder::seedEvents;
+
+        long started = System.nanoTime();
+        SeedSummary summary;
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CompletableFuture<Integer> honeys = CompletableFuture.supplyAsync(honeyTask, executor);
+            CompletableFuture<Integer> sources = CompletableFuture.supplyAsync(sourceTask, executor);
+            // Events may reference local sources, so they wait for that seeder
+            CompletableFuture<Integer> events = sources.thenApplyAsync(n -> eventTask.get(), executor);
+
+            summary = new SeedSummary(false, honeys.join(), sources.join(), events.join());
+        }
+        log.info("Seeders finished in {} ms", (System.nanoTime() - started) / 1_000_000);
+        if (incremental) {
+            // JDBC upserts bypass the JPA entity listeners that version seeder writes
+            bumpIfWritten(DataType.HONEY, summary.honeys());
+            bumpIfWritten(DataType.LOCAL_SOURCE, summary.localSources());
+            bumpIfWritten(DataType.EVENT, summary.events());
+        }
+
+        // Seeders log and swallow read errors, so only record the checksum once every table has data
+        if (checksum != null && allTablesPopulated()) {
+            seedStateRepository.saveChecksum(seedSetName, checksum);
+        }
+        return summary;
+    }
+
+    @FunctionalInterface
+    private interface ImportTask {
+        IncrementalCatalogImporter.ImportReport run() throws IOException;
+    }
+
+    /**
+     * Run an incremental import, returning the number of rows written.
+     */
+    private int runImport(ImportTask task) {
+        try {
+            return task.run().changed();
+        } catch (IOException e) {
+            log.error("Failed to read catalog import data", e);
+            return 0;
+        }
+    }
+
+    private void bumpIfWritten(DataType type, int rows) {
+        if (rows > 0) {
+            dataVersionRegistry.bump(type);
+        }
+    }
+
+    private boolean allTablesPopulated() {
+        return honeyRepository.count() > 0 && localSourceRepository.count() > 0 && eventRepository.count() > 0;
+    }
+
+    /**
+     * SHA-256 over the seed files in a fixed order, or null if any file is unreadable.
+     */
+    private String checksumSeedFiles() {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] buffer = new byte[8192];
+            for (String fileName : SEED_FILES) {
+                Resource resource = bulkSeedWriter.resolve(fileName);
+                if (!resource.exists()) {
+                    return null;
+                }
+                try (InputStream in = new DigestInputStream(resource.getInputStream(), digest)) {
+                    while (in.read(buffer) != -1) {
+                        // digest updated as bytes are read
+                    }
+                }
+            }
+            return HexFormat.of().formatHex(digest.digest());
+        } catch (IOException | NoSuchAlgorithmException e) {
+            log.warn("Could not checksum seed files, seeding will run: {}", e.getMessage());
+            return null;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.concurrent.QueryCoalescer;
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.EventDTO;
+import com.honeyexplorer.dto.LocalSourceDTO;
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.repository.CityContentRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Page;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+
+/**
+ * Service for city landing page content.
+ */
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class CityContentService {
+
+    private static final double DEFAULT_RADIUS_MILES = 50.0;
+
+    private final CityContentRepository cityContentRepository;
+    private final LocalSourceService localSourceService;
+    private final EventService eventService;
+    private final QueryCoalescer queryCoalescer;
+
+    /**
+     * Stream validated cities, for {@link StreamingJsonWriter} with {@link CityContentDTO#summary}.
+     * Must be consumed inside a transaction and closed.
+     */
+    public Stream<CityContent> streamAllValidated() {
+        return cityContentRepository.streamAllValidatedOrderByCity();
+    }
+
+    /**
+     * Get full city content by slug with nearby sources and events counts.
+     * Concurrent identical calls share one set of queries.
+     */
+    @Transactional(propagation = Propagation.SUPPORTS)
+    public Optional<CityContentDTO> findBySlug(String slug) {
+        return queryCoalescer.coalesce("city.bySlug",
+            () -> cityContentRepository.findBySlug(slug).map(this::withCounts), slug);
+    }
+
+    /**
+     * Get nearby local sources for a city.
+     * Empty if the city doesn't exist or has no coordinates.
+     */
+    public Optional<Page<LocalSourceDTO>> findNearbySources(String slug, double radius, int page, int size) {
+        return cityContentRepository.findBySlug(slug)
+            .filter(city -> city.getLatitude() != null)
+            .map(city -> localSourceService.findNearby(
+                city.getLatitude().doubleValue(),
+                city.getLongitude().doubleValue(),
+                radius,
+                null,
+                page,
+                size
+            ));
+    }
+
+    /**
+     * Get upcoming events in a city's state.
+     */
+    public Optional<List<EventDTO>> findEvents(String slug) {
+        return cityContentRepository.findBySlug(slug)
+            .map(city -> eventService.findByState(city.getState()));
+    }
+
+    /**
+     * Get count of validated cities.
+     */
+    public long countValidated() {
+        return cityContentRepository.countByValidatedTrue();
+    }
+
+    /**
+     * Get all validated cities with full content and counts, for snapshotting.
+     */
+    public List<CityContentDTO> findAllValidatedWithCounts() {
+        return cityContentRepository.findAllValidatedOrderByCity()
+            .stream()
+            .map(this::withCounts)
+            .toList();
+    }
+
+    private CityContentDTO withCounts(CityContent city) {
+        // Get counts for nearby sources and events
+        int nearbySourcesCount = 0;
+        int upcomingEventsCount = 0;
+
+        if (city.getLatitude() != null && city.getLongitude() != null) {
+            Page<LocalSourceDTO> nearbySources = localSourceService.findNearby(
+                city.getLatitude().doubleValue(),
+                city.getLongitude().doubleValue(),
+                DEFAULT_RADIUS_MILES,
+                null, 0, 1
+            );
+            nearbySourcesCount = (int) nearbySources.getTotalElements();
+
+            // Get upcoming events in the state
+            List<EventDTO> events = eventService.findByState(city.getState());
+            upcomingEventsCount = events.size();
+        }
+
+        return CityContentDTO.from(city, nearbySourcesCount, upcomingEventsCount);
+    }
+}
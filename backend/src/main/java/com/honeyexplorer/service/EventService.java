@@ -1,5 +1,6 @@
 package com.honeyexplorer.service;
 
+import com.honeyexplorer.concurrent.QueryCoalescer;
 import com.honeyexplorer.dto.EventDTO;
 import com.honeyexplorer.entity.Event;
 import com.honeyexplorer.repository.EventRepository;
@@ -11,12 +12,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Service for event operations.
@@ -27,16 +30,20 @@ import java.util.UUID;
 public class EventService {
 
     private final EventRepository eventRepository;
+    private final QueryCoalescer queryCoalescer;
 
     /**
      * Get upcoming events with pagination.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EventDTO> findUpcoming(int limit) {
-        return eventRepository.findUpcoming(LocalDate.now())
+        LocalDate today = LocalDate.now();
+        return queryCoalescer.coalesce("event.upcoming", () -> eventRepository.findUpcoming(today)
                 .stream()
                 .limit(limit)
                 .map(EventDTO::from)
-                .toList();
+                .toList(), today, limit);
     }
 
     /**
@@ -61,13 +68,11 @@ public class EventService {
     }
 
     /**
-     * Get events for a specific month.
+     * Stream events for a specific month, for {@link StreamingJsonWriter}.
+     * Must be consumed inside a transaction and closed.
      */
-    public List<EventDTO> findByMonth(int year, int month) {
-        return eventRepository.findByMonth(year, month)
-                .stream()
-                .map(EventDTO::from)
-                .toList();
+    public Stream<Event> streamByMonth(int year, int month) {
+        return eventRepository.streamByMonth(year, month);
     }
 
     /**
@@ -79,9 +84,12 @@ public class EventService {
 
     /**
      * Get an event by slug.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<EventDTO> findBySlug(String slug) {
-        return eventRepository.findBySlug(slug).map(EventDTO::from);
+        return queryCoalescer.coalesce("event.bySlug",
+            () -> eventRepository.findBySlug(slug).map(EventDTO::from), slug);
     }
 
     /**
@@ -93,12 +101,15 @@ public class EventService {
 
     /**
      * Get upcoming events in a specific state.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<EventDTO> findByState(String state) {
-        return eventRepository.findByStateAndIsActiveTrue(state)
+        LocalDate today = LocalDate.now();
+        return queryCoalescer.coalesce("event.byState", () -> eventRepository.findByStateAndIsActiveTrue(state)
                 .stream()
-                .filter(e -> e.getStartDate().isAfter(LocalDate.now().minusDays(1)))
+                .filter(e -> e.getStartDate().isAfter(today.minusDays(1)))
                 .map(EventDTO::from)
-                .toList();
+                .toList(), state, today);
     }
 }
@@ -1,9 +1,11 @@
 package com.honeyexplorer.service;
 
+import com.honeyexplorer.concurrent.QueryCoalescer;
 import com.honeyexplorer.dto.HoneyDTO;
 import com.honeyexplorer.entity.Honey;
 import com.honeyexplorer.repository.HoneyRepository;
 import com.honeyexplorer.repository.HoneySpecification;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
@@ -11,6 +13,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.math.BigDecimal;
@@ -26,6 +29,8 @@ import java.util.Optional;
 public class HoneyService {
 
     private final HoneyRepository honeyRepository;
+    private final QueryCoalescer queryCoalescer;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Get all honeys with pagination.
@@ -37,6 +42,7 @@ public class HoneyService {
 
     /**
      * Browse honeys with search and filters.
+     * Timed as honey.browse.
      */
     public Page<HoneyDTO> browse(
             String search,
@@ -51,24 +57,40 @@ public class HoneyService {
     ) {
         Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
         Specification<Honey> spec = HoneySpecification.withFilters(search, origins, floralSources, types, priceMin, priceMax);
-        return honeyRepository.findAll(spec, pageable).map(HoneyDTO::from);
+        return meterRegistry.timer("honey.browse")
+            .record(() -> honeyRepository.findAll(spec, pageable).map(HoneyDTO::from));
     }
 
     /**
      * Get featured honeys for the homepage.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public List<HoneyDTO> findFeatured() {
-        return honeyRepository.findByFeaturedTrue()
+        return queryCoalescer.coalesce("honey.featured", () -> honeyRepository.findByFeaturedTrue()
             .stream()
             .map(HoneyDTO::from)
-            .toList();
+            .toList());
     }
 
     /**
      * Get a honey by its slug.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<HoneyDTO> findBySlug(String slug) {
-        return honeyRepository.findBySlug(slug).map(HoneyDTO::from);
+        return queryCoalescer.coalesce("honey.bySlug",
+            () -> honeyRepository.findBySlug(slug).map(HoneyDTO::from), slug);
+    }
+
+    /**
+     * Get every honey as a DTO, for snapshotting.
+     */
+    public List<HoneyDTO> findAllForSnapshot() {
+        return honeyRepository.findAll()
+            .stream()
+            .map(HoneyDTO::from)
+            .toList();
     }
 
     /**
@@ -0,0 +1,268 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.image.ImageDerivatives;
+import com.honeyexplorer.image.ImageDerivatives.Format;
+import com.honeyexplorer.repository.HoneyRepository;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import com.honeyexplorer.service.ImageStorage.ImageUpload;
+import com.honeyexplorer.service.ImageStorage.UploadResult;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.imageio.ImageIO;
+import java.awt.Graphics2D;
+import java.awt.RenderingHints;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Generates the responsive derivative ladder ({@link ImageDerivatives#WIDTHS}) in AVIF
+ * and WebP from uploaded originals and stores them next to the original in image storage.
+ *
+ * Originals are decoded and resized in Java on a small fixed worker pool (decoding is
+ * CPU- and memory-heavy, so jobs beyond the queue capacity are rejected rather than
+ * piling up). Encoding is delegated to the configured command-line encoders (cwebp,
+ * avifenc); originals ImageIO can't read, such as WebP, are decoded with the decode
+ * command first.
+ */
+@Service
+public class ImageDerivativeService {
+
+    private static final Logger log = LoggerFactory.getLogger(ImageDerivativeService.class);
+
+    private static final long ENCODER_TIMEOUT_SECONDS = 120;
+
+    private final ImageStorage imageStorage;
+    private final HoneyRepository honeyRepository;
+    private final LocalSourceRepository localSourceRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final ThreadPoolExecutor workers;
+    private final Map<Format, List<String>> encodeCommands;
+    private final List<String> decodeCommand;
+
+    public ImageDerivativeService(ImageStorage imageStorage,
+                                  HoneyRepository honeyRepository,
+                                  LocalSourceRepository localSourceRepository,
+                                  TransactionTemplate transactionTemplate,
+                                  @Value("${image.derivatives.workers:2}") int workerCount,
+                                  @Value("${image.derivatives.queue-capacity:100}") int queueCapacity,
+                                  @Value("${image.derivatives.avif-command}") String avifCommand,
+                                  @Value("${image.derivatives.webp-command}") String webpCommand,
+                                  @Value("${image.derivatives.decode-command}") String decodeCommand) {
+        this.imageStorage = imageStorage;
+        this.honeyRepository = honeyRepository;
+        this.localSourceRepository = localSourceRepository;
+        this.transactionTemplate = transactionTemplate;
+        this.encodeCommands = Map.of(Format.AVIF, split(avifCommand), Format.WEBP, split(webpCommand));
+        this.decodeCommand = split(decodeCommand);
+
+        AtomicInteger threadCount = new AtomicInteger();
+        this.workers = new ThreadPoolExecutor(workerCount, workerCount, 0, TimeUnit.MILLISECONDS,
+            new ArrayBlockingQueue<>(queueCapacity),
+            task -> new Thread(task, "image-derivatives-" + threadCount.incrementAndGet()));
+    }
+
+    @PreDestroy
+    void shutdown() {
+        workers.shutdownNow();
+    }
+
+    /**
+     * Generate derivatives for a honey's image and record the generated widths on it.
+     *
+     * @param slug     The honey slug
+     * @param original Local copy of the original at the honey's imageUrl
+     * @return Future of the generated widths
+     */
+    public CompletableFuture<List<Integer>> generateForHoney(String slug, Path original) {
+        Honey honey = honeyRepository.findBySlug(slug)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown honey: " + slug));
+        return generate(original, storageKey(honey.getImageUrl()))
+            .thenApply(widths -> record(widths, () -> honeyRepository.findBySlug(slug), Honey::setImageDerivatives));
+    }
+
+    /**
+     * Generate derivatives for a local source's hero image and record the generated widths on it.
+     *
+     * @param slug     The local source slug
+     * @param original Local copy of the original at the source's heroImageUrl
+     * @return Future of the generated widths
+     */
+    public CompletableFuture<List<Integer>> generateForLocalSource(String slug, Path original) {
+        LocalSource source = localSourceRepository.findBySlug(slug)
+            .orElseThrow(() -> new IllegalArgumentException("Unknown local source: " + slug));
+        return generate(original, storageKey(source.getHeroImageUrl()))
+            .thenApply(widths -> record(widths, () -> localSourceRepository.findBySlug(slug),
+                LocalSource::setHeroImageDerivatives));
+    }
+
+    /**
+     * Resize and encode an original, then upload every derivative.
+     *
+     * @param original    The original image file
+     * @param originalKey Storage key of the original; derivative keys are derived from it
+     * @return Future of the generated widths, failed if any derivative couldn't be encoded or stored
+     */
+    public CompletableFuture<List<Integer>> generate(Path original, String originalKey) {
+        CompletableFuture<Rendered> rendered;
+        try {
+            rendered = CompletableFuture.supplyAsync(() -> render(original, originalKey), workers);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+        return rendered.thenCompose(result -> imageStorage.uploadImagesAsync(result.uploads())
+            .whenComplete((uploads, error) -> deleteQuietly(result.workDir()))
+            .thenApply(uploads -> {
+                UploadResult failed = uploads.stream().filter(upload -> !upload.succeeded()).findFirst().orElse(null);
+                if (failed != null) {
+                    throw new IllegalStateException("Failed to store derivative " + failed.key(), failed.error());
+                }
+                log.info("Stored {} derivatives of {} at widths {}", uploads.size(), originalKey, result.widths());
+                return result.widths();
+            }));
+    }
+
+    private record Rendered(List<Integer> widths, List<ImageUpload> uploads, Path workDir) {}
+
+    private Rendered render(Path original, String originalKey) {
+        Path workDir = null;
+        try {
+            workDir = Files.createTempDirectory("derivatives");
+            BufferedImage source = decode(original, workDir);
+            List<Integer> widths = ImageDerivatives.widthsFor(source.getWidth());
+            List<ImageUpload> uploads = new ArrayList<>();
+            for (int width : widths) {
+                Path png = workDir.resolve(width + ".png");
+                ImageIO.write(resize(source, width), "png", png.toFile());
+                for (Format format : Format.values()) {
+                    Path encoded = workDir.resolve(width + "." + format.extension());
+                    run(encodeCommands.get(format), png, encoded, workDir);
+                    uploads.add(new ImageUpload(encoded, ImageDerivatives.key(originalKey, width, format), format.mimeType()));
+                }
+                Files.delete(png);
+            }
+            return new Rendered(widths, uploads, workDir);
+        } catch (IOException e) {
+            deleteQuietly(workDir);
+            throw new UncheckedIOException("Failed to render derivatives of " + originalKey, e);
+        } catch (RuntimeException e) {
+            deleteQuietly(workDir);
+            throw e;
+        }
+    }
+
+    private BufferedImage decode(Path original, Path workDir) throws IOException {
+        BufferedImage image = ImageIO.read(original.toFile());
+        if (image == null) {
+            Path png = workDir.resolve("original.png");
+            run(decodeCommand, original, png, workDir);
+            image = ImageIO.read(png.toFile());
+        }
+        if (image == null) {
+            throw new IOException("Unsupported image format: " + original);
+        }
+        return image;
+    }
+
+    /**
+     * Downscale by repeated halving before the final step, which keeps bilinear
+     * filtering from dropping detail on large reductions.
+     */
+    static BufferedImage resize(BufferedImage source, int width) {
+        int type = source.getColorModel().hasAlpha() ? BufferedImage.TYPE_INT_ARGB : BufferedImage.TYPE_INT_RGB;
+        BufferedImage current = source;
+        int currentWidth = source.getWidth();
+        int currentHeight = source.getHeight();
+        do {
+            int nextWidth = Math.max(width, currentWidth / 2);
+            int nextHeight = Math.max(1, (int) Math.round((double) source.getHeight() * nextWidth / source.getWidth()));
+            BufferedImage next = new BufferedImage(nextWidth, nextHeight, type);
+            Graphics2D graphics = next.createGraphics();
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setRenderingHint(RenderingHints.KEY_RENDERING, RenderingHints.VALUE_RENDER_QUALITY);
+            graphics.drawImage(current, 0, 0, nextWidth, nextHeight, 0, 0, currentWidth, currentHeight, null);
+            graphics.dispose();
+            current = next;
+            currentWidth = nextWidth;
+            currentHeight = nextHeight;
+        } while (currentWidth > width);
+        return current;
+    }
+
+    private static void run(List<String> template, Path in, Path out, Path workDir) throws IOException {
+        List<String> command = template.stream()
+            .map(arg -> arg.replace("{in}", in.toString()).replace("{out}", out.toString()))
+            .toList();
+        Path output = workDir.resolve("encoder.log");
+        Process process = new ProcessBuilder(command)
+            .redirectErrorStream(true)
+            .redirectOutput(output.toFile())
+            .start();
+        try {
+            if (!process.waitFor(ENCODER_TIMEOUT_SECONDS, TimeUnit.SECONDS)) {
+                process.destroyForcibly();
+                throw new IOException(command.get(0) + " timed out");
+            }
+        } catch (InterruptedException e) {
+            process.destroyForcibly();
+            Thread.currentThread().interrupt();
+            throw new IOException(command.get(0) + " interrupted", e);
+        }
+        if (process.exitValue() != 0 || !Files.exists(out)) {
+            throw new IOException(command.get(0) + " exited with " + process.exitValue() + ": "
+                + Files.readString(output).strip());
+        }
+    }
+
+    private <T> List<Integer> record(List<Integer> widths, Supplier<Optional<T>> lookup, BiConsumer<T, String> setter) {
+        String value = ImageDerivatives.formatWidths(widths);
+        transactionTemplate.executeWithoutResult(status -> lookup.get().ifPresent(entity -> setter.accept(entity, value)));
+        return widths;
+    }
+
+    private String storageKey(String url) {
+        String key = imageStorage.keyForUrl(url);
+        if (key == null) {
+            throw new IllegalArgumentException("Image is not in image storage: " + url);
+        }
+        return key;
+    }
+
+    private static List<String> split(String command) {
+        return Arrays.asList(command.trim().split("\\s+"));
+    }
+
+    private static void deleteQuietly(Path dir) {
+        if (dir == null) {
+            return;
+        }
+        try (Stream<Path> paths = Files.walk(dir)) {
+            paths.sorted(Comparator.reverseOrder()).forEach(path -> path.toFile().delete());
+        } catch (IOException e) {
+            log.debug("Could not delete {}: {}", dir, e.getMessage());
+        }
+    }
+}
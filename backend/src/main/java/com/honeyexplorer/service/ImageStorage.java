@@ -0,0 +1,108 @@
+package com.honeyexplorer.service;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Image storage backend. {@link ImageStorageService} stores in Cloudflare R2 when
+ * r2.enabled=true; otherwise {@link LocalImageStorageService} stores on the local
+ * filesystem and serves images itself from /api/media.
+ */
+public interface ImageStorage {
+
+    /**
+     * A file to upload in a batch.
+     */
+    record ImageUpload(Path file, String key, String contentType) {}
+
+    /**
+     * Outcome of one object in a batch: the public URL on success, the cause otherwise.
+     */
+    record UploadResult(String key, String url, long bytes, Throwable error) {
+        public boolean succeeded() {
+            return error == null;
+        }
+    }
+
+    /**
+     * A content-addressed image; uploaded is false when identical bytes were already stored.
+     */
+    record StoredImage(String key, String url, boolean uploaded) {}
+
+    /**
+     * Store image bytes under the given key.
+     *
+     * @return The public URL for the stored image
+     */
+    String uploadImage(byte[] imageData, String key, String contentType);
+
+    /**
+     * Store a file under the given key without reading it into memory.
+     *
+     * @return Future of the public URL, failed if the upload failed
+     */
+    CompletableFuture<String> uploadImageAsync(Path file, String key, String contentType);
+
+    /**
+     * Store bytes under {@code <prefix>/<sha256>.<ext>}, skipping the write when that key exists.
+     */
+    StoredImage storeImage(byte[] imageData, String prefix, String contentType);
+
+    /**
+     * Store a file under {@code <prefix>/<sha256>.<ext>}, skipping the write when that key exists.
+     */
+    CompletableFuture<StoredImage> storeImageAsync(Path file, String prefix, String contentType);
+
+    /**
+     * Storage key of a public URL issued by this storage, or null if the URL points elsewhere.
+     */
+    String keyForUrl(String url);
+
+    /**
+     * Maximum number of objects a batch keeps in flight.
+     */
+    int maxConcurrentUploads();
+
+    /**
+     * Upload a batch of files with at most {@link #maxConcurrentUploads()} objects in flight.
+     * Objects are started in order from a virtual thread, so the caller never blocks.
+     * A failed object doesn't stop the batch; check each {@link UploadResult}.
+     *
+     * @param uploads The files to upload
+     * @return Future of one result per upload, in the same order
+     */
+    default CompletableFuture<List<UploadResult>> uploadImagesAsync(List<ImageUpload> uploads) {
+        Semaphore permits = new Semaphore(maxConcurrentUploads());
+        return CompletableFuture.supplyAsync(() -> {
+            List<CompletableFuture<UploadResult>> results = new ArrayList<>(uploads.size());
+            for (ImageUpload upload : uploads) {
+                permits.acquireUninterruptibly();
+                results.add(uploadImageAsync(upload.file(), upload.key(), upload.contentType())
+                        .whenComplete((url, error) -> permits.release())
+                        .handle((url, error) -> error == null
+                                ? new UploadResult(upload.key(), url, sizeOf(upload.file()), null)
+                                : new UploadResult(upload.key(), null, 0, unwrap(error))));
+            }
+            return results;
+        }, task -> Thread.ofVirtual().name("image-upload-batch").start(task))
+                .thenCompose(results -> CompletableFuture.allOf(results.toArray(CompletableFuture[]::new))
+                        .thenApply(done -> results.stream().map(CompletableFuture::join).toList()));
+    }
+
+    private static long sizeOf(Path file) {
+        try {
+            return Files.size(file);
+        } catch (Exception e) {
+            return -1;
+        }
+    }
+
+    static Throwable unwrap(Throwable error) {
+        return error instanceof CompletionException && error.getCause() != null ? error.getCause() : error;
+    }
+}
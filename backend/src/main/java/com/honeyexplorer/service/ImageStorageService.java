@@ -1,13 +1,32 @@
 package com.honeyexplorer.service;
 
+import com.honeyexplorer.image.ContentAddress;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
 import org.springframework.stereotype.Service;
+import software.amazon.awssdk.core.async.AsyncRequestBody;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.HeadObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.S3Exception;
 
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
 
 /**
  * Service for uploading images to Cloudflare R2 storage.
@@ -15,9 +34,10 @@ import java.io.InputStream;
  */
 @Service
 @ConditionalOnProperty(name = "r2.enabled", havingValue = "true")
-public class ImageStorageService {
+public class ImageStorageService implements ImageStorage {
 
     private final S3Client r2Client;
+    private final S3AsyncClient r2AsyncClient;
 
     @Value("${r2.bucket.name}")
     private String bucketName;
@@ -25,8 +45,23 @@ public class ImageStorageService {
     @Value("${r2.public.url}")
     private String publicUrl;
 
-    public ImageStorageService(S3Client r2Client) {
+    @Value("${r2.upload.max-concurrency:8}")
+    private int maxConcurrency;
+
+    private static final int KNOWN_KEYS_LIMIT = 50_000;
+
+    /** Content-addressed keys known to exist in the bucket, so repeats skip even the HeadObject. */
+    private final Set<String> knownKeys = Collections.newSetFromMap(Collections.synchronizedMap(
+            new LinkedHashMap<>(1024, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, Boolean> eldest) {
+                    return size() > KNOWN_KEYS_LIMIT;
+                }
+            }));
+
+    public ImageStorageService(S3Client r2Client, S3AsyncClient r2AsyncClient) {
         this.r2Client = r2Client;
+        this.r2AsyncClient = r2AsyncClient;
     }
 
     /**
@@ -37,6 +72,7 @@ public class ImageStorageService {
      * @param contentType The MIME type (e.g., "image/webp")
      * @return The public CDN URL for the uploaded image
      */
+    @Override
     public String uploadImage(byte[] imageData, String key, String contentType) {
         PutObjectRequest request = PutObjectRequest.builder()
                 .bucket(bucketName)
@@ -69,4 +105,160 @@ public class ImageStorageService {
 
         return publicUrl + "/" + key;
     }
+
+    /**
+     * Upload a file asynchronously, streaming it from its file channel.
+     * Files above the multipart threshold are sent as concurrent parts.
+     *
+     * @param file        The image file
+     * @param key         The storage key (path/filename)
+     * @param contentType The MIME type (e.g., "image/webp")
+     * @return Future of the public CDN URL, failed if the upload failed
+     */
+    @Override
+    public CompletableFuture<String> uploadImageAsync(Path file, String key, String contentType) {
+        PutObjectRequest request = PutObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .contentType(contentType)
+                .build();
+
+        try {
+            return r2AsyncClient.putObject(request, AsyncRequestBody.fromFile(file))
+                    .thenApply(response -> publicUrl + "/" + key);
+        } catch (RuntimeException e) {
+            return CompletableFuture.failedFuture(e);
+        }
+    }
+
+    @Override
+    public int maxConcurrentUploads() {
+        return maxConcurrency;
+    }
+
+    @Override
+    public String keyForUrl(String url) {
+        String prefix = publicUrl + "/";
+        return url != null && url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+
+    /**
+     * Store image bytes under a key derived from their SHA-256 digest
+     * ({@code <prefix>/<sha256>.<ext>}). If an object with that key already exists
+     * the upload is skipped and the existing CDN URL is returned.
+     *
+     * @param imageData   The image data as bytes
+     * @param prefix      Key prefix (e.g., "honeys")
+     * @param contentType The MIME type (e.g., "image/webp")
+     * @return The key and CDN URL, and whether bytes were transferred
+     */
+    @Override
+    public StoredImage storeImage(byte[] imageData, String prefix, String contentType) {
+        String key = ContentAddress.key(prefix, ContentAddress.sha256(imageData), contentType);
+        if (exists(key)) {
+            return new StoredImage(key, publicUrl + "/" + key, false);
+        }
+        String url = uploadImage(imageData, key, contentType);
+        knownKeys.add(key);
+        return new StoredImage(key, url, true);
+    }
+
+    /**
+     * Content-addressed upload from a stream of unknown length. The stream is hashed
+     * while it is spooled to a temporary file, which is then uploaded from disk only
+     * if the object doesn't exist yet; the image is never held in memory.
+     *
+     * @param inputStream The image data as stream
+     * @param prefix      Key prefix (e.g., "honeys")
+     * @param contentType The MIME type (e.g., "image/webp")
+     * @return The key and CDN URL, and whether bytes were transferred
+     */
+    public StoredImage storeImage(InputStream inputStream, String prefix, String contentType) {
+        Path spool = null;
+        try {
+            spool = Files.createTempFile("content-addressed", ".tmp");
+            MessageDigest digest = ContentAddress.newDigest();
+            try (InputStream in = new DigestInputStream(inputStream, digest)) {
+                Files.copy(in, spool, StandardCopyOption.REPLACE_EXISTING);
+            }
+            String key = ContentAddress.key(prefix, HexFormat.of().formatHex(digest.digest()), contentType);
+            return storeIfAbsent(spool, key, contentType).join();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to spool image for " + prefix, e);
+        } finally {
+            if (spool != null) {
+                spool.toFile().delete();
+            }
+        }
+    }
+
+    /**
+     * Content-addressed asynchronous upload of a file. The file is hashed in chunks on a
+     * virtual thread, then checked with HeadObject and uploaded from its file channel
+     * only when missing.
+     *
+     * @param file        The image file
+     * @param prefix      Key prefix (e.g., "honeys")
+     * @param contentType The MIME type (e.g., "image/webp")
+     * @return Future of the key and CDN URL, and whether bytes were transferred
+     */
+    @Override
+    public CompletableFuture<StoredImage> storeImageAsync(Path file, String prefix, String contentType) {
+        return CompletableFuture.supplyAsync(() -> {
+            try {
+                return ContentAddress.key(prefix, ContentAddress.sha256(file), contentType);
+            } catch (IOException e) {
+                throw new UncheckedIOException("Failed to hash " + file, e);
+            }
+        }, task -> Thread.ofVirtual().name("r2-content-hash").start(task))
+                .thenCompose(key -> storeIfAbsent(file, key, contentType));
+    }
+
+    private CompletableFuture<StoredImage> storeIfAbsent(Path file, String key, String contentType) {
+        return existsAsync(key).thenCompose(exists -> exists
+                ? CompletableFuture.completedFuture(new StoredImage(key, publicUrl + "/" + key, false))
+                : uploadImageAsync(file, key, contentType).thenApply(url -> {
+                    knownKeys.add(key);
+                    return new StoredImage(key, url, true);
+                }));
+    }
+
+    private boolean exists(String key) {
+        if (knownKeys.contains(key)) {
+            return true;
+        }
+        try {
+            r2Client.headObject(headRequest(key));
+        } catch (S3Exception e) {
+            if (e.statusCode() == 404) {
+                return false;
+            }
+            throw e;
+        }
+        knownKeys.add(key);
+        return true;
+    }
+
+    private CompletableFuture<Boolean> existsAsync(String key) {
+        if (knownKeys.contains(key)) {
+            return CompletableFuture.completedFuture(true);
+        }
+        return r2AsyncClient.headObject(headRequest(key)).handle((response, error) -> {
+            if (error == null) {
+                knownKeys.add(key);
+                return true;
+            }
+            if (ImageStorage.unwrap(error) instanceof S3Exception s3 && s3.statusCode() == 404) {
+                return false;
+            }
+            throw error instanceof CompletionException completion ? completion : new CompletionException(error);
+        });
+    }
+
+    private HeadObjectRequest headRequest(String key) {
+        return HeadObjectRequest.builder()
+                .bucket(bucketName)
+                .key(key)
+                .build();
+    }
 }
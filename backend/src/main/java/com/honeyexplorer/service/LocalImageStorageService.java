@@ -0,0 +1,175 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.image.ContentAddress;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.attribute.FileTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.regex.Pattern;
+
+/**
+ * Filesystem-backed image storage for dev and self-hosted deployments without R2.
+ * Images are written under media.local.path and served by MediaController at
+ * media.local.public-url. Writes go to a temp file and are moved into place, so a
+ * request never sees a partial image.
+ */
+@Service
+@ConditionalOnProperty(name = "r2.enabled", havingValue = "false", matchIfMissing = true)
+public class LocalImageStorageService implements ImageStorage {
+
+    private static final Pattern CONTENT_ADDRESSED = Pattern.compile("[0-9a-f]{64}(\\.[a-z0-9]+)?");
+
+    private final Path root;
+    private final String publicUrl;
+    private final int maxConcurrency;
+
+    private record Fingerprint(long size, FileTime modified, String sha256) {}
+
+    /** SHA-256 of mutable (not content-addressed) files, reused while size and mtime are unchanged. */
+    private final Map<Path, Fingerprint> fingerprints = new ConcurrentHashMap<>();
+
+    public LocalImageStorageService(@Value("${media.local.path:media}") Path root,
+                                    @Value("${media.local.public-url:/api/media}") String publicUrl,
+                                    @Value("${r2.upload.max-concurrency:8}") int maxConcurrency) throws IOException {
+        this.root = Files.createDirectories(root).toAbsolutePath().normalize();
+        this.publicUrl = publicUrl;
+        this.maxConcurrency = maxConcurrency;
+    }
+
+    @Override
+    public String uploadImage(byte[] imageData, String key, String contentType) {
+        try {
+            Path target = resolve(key);
+            Files.createDirectories(target.getParent());
+            Path temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+            Files.write(temp, imageData);
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to store " + key, e);
+        }
+        return publicUrl + "/" + key;
+    }
+
+    @Override
+    public CompletableFuture<String> uploadImageAsync(Path file, String key, String contentType) {
+        return onVirtualThread(() -> {
+            copy(file, key);
+            return publicUrl + "/" + key;
+        });
+    }
+
+    @Override
+    public StoredImage storeImage(byte[] imageData, String prefix, String contentType) {
+        String key = ContentAddress.key(prefix, ContentAddress.sha256(imageData), contentType);
+        if (Files.exists(resolve(key))) {
+            return new StoredImage(key, publicUrl + "/" + key, false);
+        }
+        return new StoredImage(key, uploadImage(imageData, key, contentType), true);
+    }
+
+    @Override
+    public CompletableFuture<StoredImage> storeImageAsync(Path file, String prefix, String contentType) {
+        return onVirtualThread(() -> {
+            String key = ContentAddress.key(prefix, ContentAddress.sha256(file), contentType);
+            if (Files.exists(resolve(key))) {
+                return new StoredImage(key, publicUrl + "/" + key, false);
+            }
+            copy(file, key);
+            return new StoredImage(key, publicUrl + "/" + key, true);
+        });
+    }
+
+    @Override
+    public String keyForUrl(String url) {
+        String prefix = publicUrl + "/";
+        return url != null && url.startsWith(prefix) ? url.substring(prefix.length()) : null;
+    }
+
+    @Override
+    public int maxConcurrentUploads() {
+        return maxConcurrency;
+    }
+
+    /**
+     * The stored file for a key, if present. Keys that escape the storage root are never found.
+     */
+    public Optional<Path> find(String key) {
+        Path file;
+        try {
+            file = resolve(key);
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        return Files.isRegularFile(file) ? Optional.of(file) : Optional.empty();
+    }
+
+    /**
+     * Whether the key names its own content ({@code <sha256>.<ext>}), so the file can never change.
+     */
+    public boolean isContentAddressed(String key) {
+        return CONTENT_ADDRESSED.matcher(key.substring(key.lastIndexOf('/') + 1)).matches();
+    }
+
+    /**
+     * SHA-256 of a stored file: taken from the name for content-addressed keys,
+     * otherwise computed once per size/mtime.
+     */
+    public String contentHash(String key, Path file) throws IOException {
+        if (isContentAddressed(key)) {
+            String name = file.getFileName().toString();
+            return name.substring(0, 64);
+        }
+        long size = Files.size(file);
+        FileTime modified = Files.getLastModifiedTime(file);
+        Fingerprint cached = fingerprints.get(file);
+        if (cached != null && cached.size() == size && cached.modified().equals(modified)) {
+            return cached.sha256();
+        }
+        String sha256 = ContentAddress.sha256(file);
+        fingerprints.put(file, new Fingerprint(size, modified, sha256));
+        return sha256;
+    }
+
+    private void copy(Path file, String key) throws IOException {
+        Path target = resolve(key);
+        Files.createDirectories(target.getParent());
+        Path temp = Files.createTempFile(target.getParent(), ".upload", ".tmp");
+        Files.copy(file, temp, StandardCopyOption.REPLACE_EXISTING);
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private Path resolve(String key) {
+        Path file = root.resolve(key).normalize();
+        if (!file.startsWith(root) || file.equals(root)) {
+            throw new IllegalArgumentException("Invalid media key: " + key);
+        }
+        return file;
+    }
+
+    @FunctionalInterface
+    private interface IoSupplier<T> {
+        T get() throws IOException;
+    }
+
+    private static <T> CompletableFuture<T> onVirtualThread(IoSupplier<T> task) {
+        Supplier<T> unchecked = () -> {
+            try {
+                return task.get();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        };
+        return CompletableFuture.supplyAsync(unchecked, command -> Thread.ofVirtual().name("media-write").start(command));
+    }
+}
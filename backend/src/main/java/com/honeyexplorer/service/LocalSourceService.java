@@ -1,9 +1,11 @@
 package com.honeyexplorer.service;
 
+import com.honeyexplorer.concurrent.QueryCoalescer;
 import com.honeyexplorer.dto.LocalSourceDTO;
 import com.honeyexplorer.entity.LocalSource;
 import com.honeyexplorer.repository.LocalSourceRepository;
 import com.honeyexplorer.repository.LocalSourceSpecification;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
@@ -12,12 +14,14 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
 /**
  * Service for local source operations.
@@ -30,6 +34,8 @@ public class LocalSourceService {
     private static final double EARTH_RADIUS_MILES = 3958.8;
 
     private final LocalSourceRepository localSourceRepository;
+    private final QueryCoalescer queryCoalescer;
+    private final MeterRegistry meterRegistry;
 
     /**
      * Get all local sources with pagination.
@@ -59,6 +65,9 @@ public class LocalSourceService {
     /**
      * Find local sources near a given location.
      * Uses Haversine formula to calculate distances.
+     * Concurrent identical calls share one query.
+     * Metrics: localsource.nearby (timer) and localsource.nearby.rows{kind=scanned|returned},
+     * where returned counts sources within the radius before pagination.
      *
      * @param latitude Center latitude
      * @param longitude Center longitude
@@ -68,6 +77,7 @@ public class LocalSourceService {
      * @param size Page size
      * @return Page of local sources with distance
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Page<LocalSourceDTO> findNearby(
             double latitude,
             double longitude,
@@ -75,6 +85,20 @@ public class LocalSourceService {
             List<String> sourceTypes,
             int page,
             int size
+    ) {
+        return queryCoalescer.coalesce("localSource.nearby",
+            () -> meterRegistry.timer("localsource.nearby")
+                .record(() -> computeNearby(latitude, longitude, radiusMiles, sourceTypes, page, size)),
+            latitude, longitude, radiusMiles, sourceTypes, page, size);
+    }
+
+    private Page<LocalSourceDTO> computeNearby(
+            double latitude,
+            double longitude,
+            double radiusMiles,
+            List<String> sourceTypes,
+            int page,
+            int size
     ) {
         // First, get all active sources (optionally filtered by type)
         Specification<LocalSource> spec = LocalSourceSpecification.withFilters(null, sourceTypes, null, true);
@@ -93,6 +117,9 @@ public class LocalSourceService {
                 .sorted(Comparator.comparing(LocalSourceDTO::distance))
                 .toList();
 
+        meterRegistry.summary("localsource.nearby.rows", "kind", "scanned").record(allSources.size());
+        meterRegistry.summary("localsource.nearby.rows", "kind", "returned").record(nearbyWithDistance.size());
+
         // Manual pagination
         int start = page * size;
         int end = Math.min(start + size, nearbyWithDistance.size());
@@ -106,13 +133,12 @@ public class LocalSourceService {
     }
 
     /**
-     * Get all local sources (no pagination) for map display.
+     * Stream local sources for map display, for {@link StreamingJsonWriter}.
+     * Must be consumed inside a transaction and closed.
      */
-    public List<LocalSourceDTO> findAllForMap(List<String> sourceTypes, boolean activeOnly) {
+    public Stream<LocalSource> streamAllForMap(List<String> sourceTypes, boolean activeOnly) {
         Specification<LocalSource> spec = LocalSourceSpecification.withFilters(null, sourceTypes, null, activeOnly);
-        return localSourceRepository.findAll(spec).stream()
-                .map(LocalSourceDTO::from)
-                .toList();
+        return localSourceRepository.findBy(spec, query -> query.stream());
     }
 
     /**
@@ -124,9 +150,12 @@ public class LocalSourceService {
 
     /**
      * Get a local source by slug.
+     * Concurrent identical calls share one query.
      */
+    @Transactional(propagation = Propagation.SUPPORTS)
     public Optional<LocalSourceDTO> findBySlug(String slug) {
-        return localSourceRepository.findBySlug(slug).map(LocalSourceDTO::from);
+        return queryCoalescer.coalesce("localSource.bySlug",
+            () -> localSourceRepository.findBySlug(slug).map(LocalSourceDTO::from), slug);
     }
 
     /**
@@ -145,7 +174,7 @@ public class LocalSourceService {
      * @param lon2 Second point longitude
      * @return Distance in miles
      */
-    private double haversineDistance(double lat1, double lon1, double lat2, double lon2) {
+    static double haversineDistance(double lat1, double lon1, double lat2, double lon2) {
         double dLat = Math.toRadians(lat2 - lat1);
         double dLon = Math.toRadians(lon2 - lon1);
 
@@ -1,37 +1,76 @@
 package com.honeyexplorer.service;
 
-import com.honeyexplorer.entity.NewsletterSubscription;
+import com.honeyexplorer.cache.BloomFilter;
 import com.honeyexplorer.repository.NewsletterRepository;
-import lombok.RequiredArgsConstructor;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataAccessException;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
+
+import java.io.UncheckedIOException;
+import java.util.Locale;
 
 /**
  * Service for newsletter operations.
+ *
+ * Subscribing is a single insert-if-absent statement, so concurrent signups for the same
+ * address can't race and each signup costs one round trip. A Bloom filter of subscribed
+ * emails answers repeat submissions without touching the database at all; it is loaded
+ * at startup and only ever holds addresses that really were subscribed, so a miss (for
+ * example an address subscribed on another node) just falls through to the insert.
+ * With {@link NewsletterSignupBuffer} enabled, new signups are acknowledged from a local
+ * log and inserted in batches instead of one connection per request.
  */
 @Service
-@RequiredArgsConstructor
 public class NewsletterService {
 
+    private static final Logger log = LoggerFactory.getLogger(NewsletterService.class);
+
     private final NewsletterRepository newsletterRepository;
+    private final NewsletterSignupBuffer signupBuffer;
+    private final BloomFilter subscribed;
+
+    public NewsletterService(NewsletterRepository newsletterRepository,
+                             ObjectProvider<NewsletterSignupBuffer> signupBuffer,
+                             @Value("${newsletter.bloom.expected-subscribers:200000}") long expectedSubscribers,
+                             @Value("${newsletter.bloom.false-positive-probability:1e-6}") double falsePositiveProbability) {
+        this.newsletterRepository = newsletterRepository;
+        this.signupBuffer = signupBuffer.getIfAvailable();
+        this.subscribed = new BloomFilter(expectedSubscribers, falsePositiveProbability);
+    }
 
     /**
      * Subscribe an email to the newsletter.
      *
      * @param email The email to subscribe
-     * @return true if newly subscribed, false if already subscribed
+     * @return true if newly subscribed, false if already subscribed. In write-behind mode a
+     *         durably queued signup counts as new; if the address turns out to be subscribed
+     *         already (e.g. through another node) the flusher's insert is simply a no-op.
      */
-    @Transactional
     public boolean subscribe(String email) {
-        String normalizedEmail = email.toLowerCase().trim();
+        String normalizedEmail = email.toLowerCase(Locale.ROOT).trim();
 
-        if (newsletterRepository.existsByEmail(normalizedEmail)) {
+        if (!subscribed.saturated() && subscribed.mightContain(normalizedEmail)) {
             return false; // Already subscribed
         }
 
-        NewsletterSubscription subscription = new NewsletterSubscription(normalizedEmail);
-        newsletterRepository.save(subscription);
-        return true;
+        if (signupBuffer != null) {
+            try {
+                signupBuffer.enqueue(normalizedEmail);
+                subscribed.add(normalizedEmail);
+                return true;
+            } catch (UncheckedIOException e) {
+                log.warn("Signup log unavailable, inserting directly: {}", e.getMessage());
+            }
+        }
+
+        boolean inserted = newsletterRepository.insertIfAbsent(normalizedEmail);
+        subscribed.add(normalizedEmail);
+        return inserted;
     }
 
     /**
@@ -40,4 +79,25 @@ public class NewsletterService {
     public long count() {
         return newsletterRepository.count();
     }
+
+    /**
+     * Fill the Bloom filter from the table in the background; until it finishes,
+     * repeat submissions simply take the database path.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void loadSubscribers() {
+        Thread.ofVirtual().name("newsletter-bloom-load").start(this::loadSubscribersNow);
+    }
+
+    void loadSubscribersNow() {
+        try {
+            newsletterRepository.forEachEmail(subscribed::add);
+            log.info("Loaded {} newsletter subscribers into the Bloom filter", subscribed.size());
+            if (subscribed.saturated()) {
+                log.warn("Newsletter Bloom filter is over capacity; raise newsletter.bloom.expected-subscribers");
+            }
+        } catch (DataAccessException e) {
+            log.warn("Could not load newsletter subscribers: {}", e.getMessage());
+        }
+    }
 }
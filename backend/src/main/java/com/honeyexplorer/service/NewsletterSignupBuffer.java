@@ -0,0 +1,307 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.repository.NewsletterRepository;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.dao.DataAccessException;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Component;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Write-behind buffer for newsletter signups, enabled with newsletter.write-behind.enabled=true.
+ *
+ * A signup is acknowledged once its email is appended and fsynced to a local log;
+ * concurrent appends share one fsync (group commit). A flusher thread batch-inserts
+ * queued emails every flush-interval-ms or batch-size rows, whichever comes first, and
+ * records the flushed log offset in a checkpoint file. On startup everything after the
+ * checkpoint is replayed. Inserts are insert-if-absent, so replaying rows that were
+ * already flushed before a crash is harmless. The log is truncated whenever the flusher
+ * has caught up with it.
+ *
+ * The log is only as durable as the disk it is on: on a host with an ephemeral root
+ * filesystem it must live on a mounted volume, so newsletter.write-behind.require-absolute-path
+ * (set in prod) refuses to start with the relative default path.
+ */
+@Component
+@ConditionalOnProperty(name = "newsletter.write-behind.enabled", havingValue = "true")
+public class NewsletterSignupBuffer {
+
+    private static final Logger log = LoggerFactory.getLogger(NewsletterSignupBuffer.class);
+
+    private static final long RETRY_DELAY_MS = 5000;
+
+    /** An email and the log offset just past its line. */
+    private record Pending(String email, long end) {}
+
+    private final NewsletterRepository newsletterRepository;
+    private final Path logPath;
+    private final Path checkpointPath;
+    private final long flushIntervalMs;
+    private final int batchSize;
+
+    private final BlockingQueue<Pending> queue = new LinkedBlockingQueue<>();
+    private final AtomicInteger unflushed = new AtomicInteger();
+    private final ReentrantLock appendLock = new ReentrantLock();
+    private final ReentrantLock forceLock = new ReentrantLock();
+    private FileChannel channel;
+    private long written;
+    private volatile long forced;
+    private volatile boolean running;
+    private Thread flusher;
+
+    public NewsletterSignupBuffer(NewsletterRepository newsletterRepository,
+                                  @Value("${newsletter.write-behind.path:journal/newsletter-signups.log}") Path logPath,
+                                  @Value("${newsletter.write-behind.flush-interval-ms:250}") long flushIntervalMs,
+                                  @Value("${newsletter.write-behind.batch-size:500}") int batchSize,
+                                  @Value("${newsletter.write-behind.require-absolute-path:false}") boolean requireAbsolutePath) {
+        if (requireAbsolutePath && !logPath.isAbsolute()) {
+            throw new IllegalStateException("newsletter.write-behind.path must be an absolute path on a mounted volume, was "
+                + logPath);
+        }
+        this.newsletterRepository = newsletterRepository;
+        this.logPath = logPath.toAbsolutePath();
+        this.checkpointPath = this.logPath.resolveSibling(this.logPath.getFileName() + ".checkpoint");
+        this.flushIntervalMs = flushIntervalMs;
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Open the log, queue anything not yet flushed and start the flusher.
+     */
+    @PostConstruct
+    public void start() throws IOException {
+        Files.createDirectories(logPath.getParent());
+        channel = FileChannel.open(logPath, StandardOpenOption.CREATE, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        long checkpoint = readCheckpoint();
+        long size = channel.size();
+        // A checkpoint past the end means the log was truncated just before a crash
+        written = replay(checkpoint <= size ? checkpoint : 0, size);
+        if (written < size) {
+            channel.truncate(written); // drop a torn final line
+        }
+        forced = written;
+        channel.position(written);
+        if (!queue.isEmpty()) {
+            log.info("Replaying {} newsletter signups from {}", queue.size(), logPath);
+        }
+
+        running = true;
+        flusher = Thread.ofVirtual().name("newsletter-flusher").start(this::runFlusher);
+    }
+
+    /**
+     * Durably record a signup; returns once it is on disk.
+     */
+    public void enqueue(String email) {
+        long end;
+        appendLock.lock();
+        try {
+            ByteBuffer line = StandardCharsets.UTF_8.encode(email + "\n");
+            while (line.hasRemaining()) {
+                written += channel.write(line, written);
+            }
+            end = written;
+            // Queued under the lock so queue order matches log order for the checkpoint
+            queue.add(new Pending(email, end));
+            unflushed.incrementAndGet();
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to append to " + logPath, e);
+        } finally {
+            appendLock.unlock();
+        }
+        force(end);
+    }
+
+    /**
+     * Signups appended but not yet inserted.
+     */
+    public int pending() {
+        return unflushed.get();
+    }
+
+    /**
+     * Stop the flusher and insert whatever is still queued.
+     */
+    @PreDestroy
+    public void shutdown() throws InterruptedException, IOException {
+        running = false;
+        if (flusher != null) {
+            flusher.interrupt();
+            flusher.join(TimeUnit.SECONDS.toMillis(10));
+        }
+        List<Pending> rest = new ArrayList<>();
+        queue.drainTo(rest);
+        if (!rest.isEmpty()) {
+            try {
+                flush(rest);
+            } catch (DataAccessException e) {
+                log.warn("{} newsletter signups left in {} for replay: {}", rest.size(), logPath, e.getMessage());
+            }
+        }
+        channel.close();
+    }
+
+    private void force(long end) {
+        if (forced >= end) {
+            return;
+        }
+        forceLock.lock();
+        try {
+            if (forced < end) {
+                // Everything written so far goes out with this fsync, covering concurrent appenders
+                long upTo;
+                appendLock.lock();
+                try {
+                    upTo = written;
+                } finally {
+                    appendLock.unlock();
+                }
+                channel.force(false);
+                forced = upTo;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to sync " + logPath, e);
+        } finally {
+            forceLock.unlock();
+        }
+    }
+
+    private void runFlusher() {
+        List<Pending> batch = new ArrayList<>(batchSize);
+        while (running || !batch.isEmpty()) {
+            try {
+                if (batch.isEmpty()) {
+                    Pending first = queue.poll(flushIntervalMs, TimeUnit.MILLISECONDS);
+                    if (first == null) {
+                        continue;
+                    }
+                    batch.add(first);
+                }
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long wait = deadline - System.nanoTime();
+                    Pending next = wait > 0 ? queue.poll(wait, TimeUnit.NANOSECONDS) : null;
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Shutdown; a partial batch goes back to the queue for the final flush
+                queue.addAll(batch);
+                return;
+            }
+
+            try {
+                flush(batch);
+                batch.clear();
+            } catch (DataAccessException e) {
+                log.warn("Newsletter flush of {} signups failed, retrying: {}", batch.size(), e.getMessage());
+                try {
+                    Thread.sleep(RETRY_DELAY_MS);
+                } catch (InterruptedException interrupted) {
+                    queue.addAll(batch);
+                    return;
+                }
+            }
+        }
+    }
+
+    private void flush(List<Pending> batch) {
+        List<String> emails = batch.stream().map(Pending::email).distinct().toList();
+        try {
+            newsletterRepository.insertAllIfAbsent(emails);
+        } catch (DataIntegrityViolationException e) {
+            // A concurrent direct insert of the same email can fail a whole batch on H2
+            emails.forEach(newsletterRepository::insertIfAbsent);
+        }
+        unflushed.addAndGet(-batch.size());
+        checkpoint(batch.get(batch.size() - 1).end());
+    }
+
+    private void checkpoint(long offset) {
+        try {
+            forceLock.lock();
+            appendLock.lock();
+            try {
+                if (offset == written && forced == written) {
+                    // Caught up: start the log over rather than let it grow
+                    writeCheckpoint(offset);
+                    channel.truncate(0);
+                    written = 0;
+                    forced = 0;
+                    writeCheckpoint(0);
+                    return;
+                }
+            } finally {
+                appendLock.unlock();
+                forceLock.unlock();
+            }
+            writeCheckpoint(offset);
+        } catch (IOException e) {
+            // The rows are inserted; at worst they are replayed (as no-ops) after a restart
+            log.warn("Could not checkpoint {}: {}", logPath, e.getMessage());
+        }
+    }
+
+    private long replay(long from, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate((int) (size - from));
+        while (buffer.hasRemaining() && channel.read(buffer, from + buffer.position()) > 0) {
+            // keep reading
+        }
+        byte[] bytes = buffer.array();
+        long end = from;
+        int lineStart = 0;
+        for (int i = 0; i < buffer.position(); i++) {
+            if (bytes[i] == '\n') {
+                String email = new String(bytes, lineStart, i - lineStart, StandardCharsets.UTF_8);
+                end = from + i + 1;
+                if (!email.isEmpty()) {
+                    queue.add(new Pending(email, end));
+                    unflushed.incrementAndGet();
+                }
+                lineStart = i + 1;
+            }
+        }
+        return end;
+    }
+
+    private long readCheckpoint() throws IOException {
+        if (!Files.exists(checkpointPath)) {
+            return 0;
+        }
+        try {
+            return Long.parseLong(Files.readString(checkpointPath).trim());
+        } catch (NumberFormatException e) {
+            return 0;
+        }
+    }
+
+    private void writeCheckpoint(long offset) throws IOException {
+        Path temp = checkpointPath.resolveSibling(checkpointPath.getFileName() + ".tmp");
+        Files.writeString(temp, Long.toString(offset));
+        Files.move(temp, checkpointPath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+}
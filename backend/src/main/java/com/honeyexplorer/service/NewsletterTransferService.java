@@ -0,0 +1,243 @@
+package com.honeyexplorer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.dto.SubscriberImportResult;
+import com.honeyexplorer.repository.NewsletterRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.regex.Pattern;
+
+/**
+ * Bulk export and import of newsletter subscribers as CSV or NDJSON.
+ *
+ * Export walks the table with a server-side cursor (a read-only transaction plus a fetch
+ * size, which is what makes the PostgreSQL driver stream) and writes each row straight to
+ * the output. Import reads the upload line by line and inserts insert-if-absent batches,
+ * de-duplicated within each batch. Only one batch is ever held in memory either way.
+ */
+@Service
+public class NewsletterTransferService {
+
+    public enum Format {
+        CSV("text/csv"),
+        NDJSON("application/x-ndjson");
+
+        private final String mediaType;
+
+        Format(String mediaType) {
+            this.mediaType = mediaType;
+        }
+
+        public String mediaType() {
+            return mediaType;
+        }
+    }
+
+    private static final Pattern EMAIL = Pattern.compile("[^@\\s,\"]+@[^@\\s,\"]+\\.[^@\\s,\"]+");
+    // Ordered by the unique email index, so the cursor walks the index instead of sorting the table
+    private static final String EXPORT_QUERY =
+        "SELECT email, confirmed, subscribed_at, created_at FROM newsletter_subscriptions ORDER BY email";
+
+    private final NewsletterRepository newsletterRepository;
+    private final ObjectMapper objectMapper;
+    private final JdbcTemplate cursorTemplate;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int batchSize;
+
+    public NewsletterTransferService(NewsletterRepository newsletterRepository,
+                                     ObjectMapper objectMapper,
+                                     DataSource dataSource,
+                                     PlatformTransactionManager transactionManager,
+                                     @Value("${newsletter.transfer.batch-size:1000}") int batchSize) {
+        this.newsletterRepository = newsletterRepository;
+        this.objectMapper = objectMapper;
+        this.cursorTemplate = new JdbcTemplate(dataSource);
+        this.cursorTemplate.setFetchSize(batchSize);
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.batchSize = batchSize;
+    }
+
+    /**
+     * Write every subscriber to the stream, one row at a time.
+     *
+     * @return Number of subscribers written
+     */
+    public long export(OutputStream out, Format format) throws IOException {
+        Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+        JsonGenerator json = format == Format.NDJSON
+            ? objectMapper.getFactory().createGenerator(writer)
+                .setRootValueSeparator(null)
+                .disable(JsonGenerator.Feature.FLUSH_PASSED_TO_STREAM)
+            : null;
+        if (format == Format.CSV) {
+            writer.write("email,confirmed,subscribed_at,created_at\n");
+        }
+        long[] rows = {0};
+        try {
+            readOnlyTransaction.executeWithoutResult(status -> cursorTemplate.query(EXPORT_QUERY, rs -> {
+                String email = rs.getString(1);
+                boolean confirmed = rs.getBoolean(2);
+                String subscribedAt = timestamp(rs.getTimestamp(3));
+                String createdAt = timestamp(rs.getTimestamp(4));
+                try {
+                    if (json != null) {
+                        json.writeStartObject();
+                        json.writeStringField("email", email);
+                        json.writeBooleanField("confirmed", confirmed);
+                        json.writeStringField("subscribedAt", subscribedAt);
+                        json.writeStringField("createdAt", createdAt);
+                        json.writeEndObject();
+                        json.flush(); // into the buffered writer, not the response
+                        writer.write('\n');
+                    } else {
+                        writer.write(csv(email) + "," + confirmed + ","
+                            + (subscribedAt == null ? "" : subscribedAt) + "," + createdAt + "\n");
+                    }
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                rows[0]++;
+            }));
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        writer.flush();
+        return rows[0];
+    }
+
+    /**
+     * Insert every valid email from the stream that isn't already subscribed.
+     * CSV uploads use the "email" column if there is a header row, otherwise the first
+     * column; NDJSON uploads use each object's "email" field.
+     */
+    public SubscriberImportResult importFrom(InputStream in, Format format) throws IOException {
+        BufferedReader reader = new BufferedReader(new InputStreamReader(in, StandardCharsets.UTF_8));
+        Set<String> batch = new LinkedHashSet<>();
+        long read = 0;
+        long invalid = 0;
+        long inserted = 0;
+        int emailColumn = 0;
+        boolean firstLine = true;
+
+        String line;
+        while ((line = reader.readLine()) != null) {
+            if (line.isBlank()) {
+                continue;
+            }
+            String raw;
+            if (format == Format.CSV) {
+                List<String> fields = csvFields(line);
+                if (firstLine && fields.stream().anyMatch(f -> f.trim().equalsIgnoreCase("email"))) {
+                    emailColumn = indexOfIgnoreCase(fields, "email");
+                    firstLine = false;
+                    continue;
+                }
+                raw = emailColumn < fields.size() ? fields.get(emailColumn) : null;
+            } else {
+                raw = ndjsonEmail(line);
+            }
+            firstLine = false;
+
+            read++;
+            String email = raw == null ? "" : raw.toLowerCase(Locale.ROOT).trim();
+            if (!EMAIL.matcher(email).matches() || email.length() > 255) {
+                invalid++;
+                continue;
+            }
+            batch.add(email);
+            if (batch.size() >= batchSize) {
+                inserted += newsletterRepository.insertAllIfAbsent(List.copyOf(batch));
+                batch.clear();
+            }
+        }
+        if (!batch.isEmpty()) {
+            inserted += newsletterRepository.insertAllIfAbsent(List.copyOf(batch));
+        }
+        return new SubscriberImportResult(read, inserted, read - invalid - inserted, invalid);
+    }
+
+    private String ndjsonEmail(String line) {
+        try {
+            JsonNode email = objectMapper.readTree(line).get("email");
+            return email != null && email.isTextual() ? email.asText() : null;
+        } catch (JsonProcessingException e) {
+            return null;
+        }
+    }
+
+    private static String timestamp(Timestamp value) {
+        return value == null ? null : value.toLocalDateTime().toString();
+    }
+
+    private static String csv(String value) {
+        if (value.indexOf(',') < 0 && value.indexOf('"') < 0 && value.indexOf('\n') < 0) {
+            return value;
+        }
+        return "\"" + value.replace("\"", "\"\"") + "\"";
+    }
+
+    /**
+     * Split one CSV line, honouring double-quoted fields.
+     */
+    static List<String> csvFields(String line) {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+        return fields;
+    }
+
+    private static int indexOfIgnoreCase(List<String> fields, String name) {
+        for (int i = 0; i < fields.size(); i++) {
+            if (fields.get(i).trim().equalsIgnoreCase(name)) {
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,241 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.entity.CityContent;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.repository.ChangeFingerprint;
+import com.honeyexplorer.repository.CityContentRepository;
+import com.honeyexplorer.repository.EventRepository;
+import com.honeyexplorer.repository.HoneyRepository;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.time.temporal.ChronoUnit;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * Builds sitemap.xml and keeps a precomputed, gzip-compressed copy in memory.
+ * The artifact is regenerated in the background only when a cheap
+ * count/max(updatedAt) fingerprint of the catalog tables changes, so crawler
+ * requests never touch the database.
+ */
+@Service
+@Transactional(readOnly = true)
+public class SitemapService {
+
+    private static final Logger log = LoggerFactory.getLogger(SitemapService.class);
+
+    private static final String BASE_URL = "https://rawhoneyguide.com";
+    private static final DateTimeFormatter DATE_FORMAT = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+
+    private final HoneyRepository honeyRepository;
+    private final LocalSourceRepository localSourceRepository;
+    private final EventRepository eventRepository;
+    private final CityContentRepository cityContentRepository;
+
+    // Not a monitor: regeneration queries the database, which would pin a virtual thread's carrier
+    private final ReentrantLock refreshLock = new ReentrantLock();
+    private volatile SitemapArtifact artifact;
+    private volatile String fingerprint;
+
+    public SitemapService(
+            HoneyRepository honeyRepository,
+            LocalSourceRepository localSourceRepository,
+            EventRepository eventRepository,
+            CityContentRepository cityContentRepository
+    ) {
+        this.honeyRepository = honeyRepository;
+        this.localSourceRepository = localSourceRepository;
+        this.eventRepository = eventRepository;
+        this.cityContentRepository = cityContentRepository;
+    }
+
+    /**
+     * Precomputed sitemap bytes with validators for conditional GET.
+     *
+     * @param xml          Uncompressed UTF-8 XML
+     * @param gzip         Gzip-compressed XML
+     * @param etag         Strong entity tag derived from the XML content (quoted)
+     * @param lastModified Time the content last changed, truncated to seconds
+     */
+    public record SitemapArtifact(byte[] xml, byte[] gzip, String etag, Instant lastModified) {}
+
+    /**
+     * Get the current sitemap artifact, building it on first use.
+     */
+    public SitemapArtifact current() {
+        SitemapArtifact current = artifact;
+        if (current == null) {
+            refreshLock.lock();
+            try {
+                current = artifact;
+                if (current == null) {
+                    refresh();
+                    current = artifact;
+                }
+            } finally {
+                refreshLock.unlock();
+            }
+        }
+        return current;
+    }
+
+    /**
+     * Regenerate the artifact if the catalog fingerprint has changed.
+     * Runs in the background so request threads only ever read the cached bytes.
+     */
+    @Scheduled(
+        initialDelayString = "${sitemap.refresh.initial-delay-ms:0}",
+        fixedDelayString = "${sitemap.refresh.interval-ms:60000}"
+    )
+    public void refresh() {
+        refreshLock.lock();
+        try {
+            regenerateIfChanged();
+        } finally {
+            refreshLock.unlock();
+        }
+    }
+
+    private void regenerateIfChanged() {
+        String latest = computeFingerprint();
+        if (artifact != null && latest.equals(fingerprint)) {
+            return;
+        }
+
+        byte[] xml = generateSitemap().getBytes(StandardCharsets.UTF_8);
+        String etag = "\"" + sha256Hex(xml).substring(0, 32) + "\"";
+
+        // Keep Last-Modified stable when a fingerprint change didn't alter the output
+        Instant lastModified = artifact != null && artifact.etag().equals(etag)
+            ? artifact.lastModified()
+            : Instant.now().truncatedTo(ChronoUnit.SECONDS);
+
+        artifact = new SitemapArtifact(xml, gzip(xml), etag, lastModified);
+        fingerprint = latest;
+        log.info("Regenerated sitemap: {} bytes ({} gzipped)", xml.length, artifact.gzip().length);
+    }
+
+    /**
+     * Build the sitemap XML from the catalog tables.
+     */
+    public String generateSitemap() {
+        StringBuilder xml = new StringBuilder();
+        xml.append("<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n");
+        xml.append("<urlset xmlns=\"http://www.sitemaps.org/schemas/sitemap/0.9\">\n");
+
+        // Static pages
+        addUrl(xml, "/", LocalDateTime.now(), "1.0", "daily");
+        addUrl(xml, "/browse", LocalDateTime.now(), "0.9", "daily");
+        addUrl(xml, "/local", LocalDateTime.now(), "0.8", "weekly");
+        addUrl(xml, "/events", LocalDateTime.now(), "0.8", "daily");
+
+        // Honey detail pages
+        List<Honey> honeys = honeyRepository.findAll();
+        for (Honey honey : honeys) {
+            if (honey.getSlug() != null && !honey.getSlug().isEmpty()) {
+                addUrl(xml, "/honey/" + honey.getSlug(), honey.getUpdatedAt(), "0.8", "weekly");
+            }
+        }
+
+        // Local source pages
+        List<LocalSource> sources = localSourceRepository.findByIsActiveTrue();
+        for (LocalSource source : sources) {
+            if (source.getSlug() != null && !source.getSlug().isEmpty()) {
+                addUrl(xml, "/local/" + source.getSlug(), source.getUpdatedAt(), "0.7", "weekly");
+            }
+        }
+
+        // Event pages
+        List<Event> events = eventRepository.findAll();
+        for (Event event : events) {
+            if (event.getSlug() != null && !event.getSlug().isEmpty()) {
+                addUrl(xml, "/events/" + event.getSlug(), event.getUpdatedAt(), "0.6", "weekly");
+            }
+        }
+
+        // City landing pages
+        List<CityContent> cities = cityContentRepository.findByValidatedTrue();
+        for (CityContent city : cities) {
+            addUrl(xml, "/honey-near/" + city.getSlug(), city.getUpdatedAt(), "0.7", "monthly");
+        }
+
+        xml.append("</urlset>");
+        return xml.toString();
+    }
+
+    /**
+     * Combine the per-table fingerprints with today's date, since the static
+     * pages carry the current date as their lastmod.
+     */
+    private String computeFingerprint() {
+        return String.join("|",
+            LocalDate.now().toString(),
+            describe(honeyRepository.fingerprint()),
+            describe(localSourceRepository.fingerprint()),
+            describe(eventRepository.fingerprint()),
+            describe(cityContentRepository.fingerprint())
+        );
+    }
+
+    private String describe(ChangeFingerprint fp) {
+        return fp.getCount() + "@" + fp.getLastUpdated();
+    }
+
+    private void addUrl(StringBuilder xml, String path, LocalDateTime lastMod, String priority, String changeFreq) {
+        xml.append("  <url>\n");
+        xml.append("    <loc>").append(escapeXml(BASE_URL + path)).append("</loc>\n");
+        if (lastMod != null) {
+            xml.append("    <lastmod>").append(lastMod.format(DATE_FORMAT)).append("</lastmod>\n");
+        }
+        xml.append("    <changefreq>").append(changeFreq).append("</changefreq>\n");
+        xml.append("    <priority>").append(priority).append("</priority>\n");
+        xml.append("  </url>\n");
+    }
+
+    private String escapeXml(String input) {
+        if (input == null) return "";
+        return input
+            .replace("&", "&amp;")
+            .replace("<", "&lt;")
+            .replace(">", "&gt;")
+            .replace("\"", "&quot;")
+            .replace("'", "&apos;");
+    }
+
+    private static byte[] gzip(byte[] data) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(data.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(data);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    private static String sha256Hex(byte[] data) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+}
@@ -0,0 +1,166 @@
+package com.honeyexplorer.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.config.WireFormatMappers;
+import com.honeyexplorer.dto.CompactLayout;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+import org.hibernate.Session;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.Collection;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+/**
+ * Writes large list responses as a JSON array, one element at a time.
+ *
+ * The entity stream is opened inside a read-only transaction on the response thread;
+ * with hibernate.jdbc.fetch_size set, the driver fetches rows in chunks instead of
+ * loading the whole result. Each entity is mapped, written through a JsonGenerator and
+ * detached, and the persistence context is cleared every fetch-size rows (for
+ * associations fetched along the way), so only a bounded number of rows is resident
+ * however long the list is. The output is the same JSON as returning the List, or the
+ * same CBOR/Smile when the client negotiated a binary {@link WireFormat}. Entity streams
+ * can also be written in the compact format, like a {@code CompactList} without "page".
+ */
+@Component
+public class StreamingJsonWriter {
+
+    @PersistenceContext
+    private EntityManager entityManager;
+
+    private final WireFormatMappers mappers;
+    private final TransactionTemplate readOnlyTransaction;
+    private final int clearInterval;
+
+    public StreamingJsonWriter(WireFormatMappers mappers,
+                               PlatformTransactionManager transactionManager,
+                               @Value("${spring.jpa.properties.hibernate.jdbc.fetch_size:256}") int clearInterval) {
+        this.mappers = mappers;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.clearInterval = clearInterval;
+    }
+
+    /**
+     * Stream entities from a query as an array of mapped DTOs.
+     *
+     * @param format Response encoding
+     * @param query  Opens the entity stream; called inside the transaction
+     * @param mapper Entity to DTO mapping, applied while the entity is still managed
+     */
+    public <E, D> ResponseEntity<StreamingResponseBody> entities(WireFormat format, Supplier<Stream<E>> query,
+                                                                 Function<E, D> mapper) {
+        return ok(format, out -> stream(format, out, query, mapper, JsonGenerator::writeStartArray,
+            (json, row) -> write(json, row), JsonGenerator::writeEndArray));
+    }
+
+    /**
+     * Stream entities from a query in the compact format: the layout's columns and
+     * dictionaries first, then one row per entity.
+     */
+    public <E, D extends Record> ResponseEntity<StreamingResponseBody> compactEntities(
+            WireFormat format, CompactLayout<D> layout, Supplier<Stream<E>> query, Function<E, D> mapper) {
+        return ok(format, out -> stream(format, out, query, mapper,
+            json -> {
+                json.writeStartObject();
+                layout.writeHeader(json);
+                json.writeArrayFieldStart("rows");
+            },
+            layout::writeRow,
+            json -> {
+                json.writeEndArray();
+                json.writeEndObject();
+            }));
+    }
+
+    /**
+     * Stream an already loaded list (e.g. from the catalog snapshot) the same way.
+     */
+    public <D> ResponseEntity<StreamingResponseBody> values(WireFormat format, Collection<D> values) {
+        StreamingResponseBody body = out -> unwrapping(() -> {
+            try (JsonGenerator json = generator(format, out)) {
+                json.writeStartArray();
+                values.forEach(value -> write(json, value));
+                json.writeEndArray();
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        });
+        return ok(format, body);
+    }
+
+    private <E, D> void stream(WireFormat format, OutputStream out, Supplier<Stream<E>> query, Function<E, D> mapper,
+                               Part open, RowWriter<D> row, Part close) throws IOException {
+        unwrapping(() -> readOnlyTransaction.executeWithoutResult(status -> {
+            entityManager.unwrap(Session.class).setDefaultReadOnly(true);
+            try (Stream<E> rows = query.get(); JsonGenerator json = generator(format, out)) {
+                open.write(json);
+                int[] written = {0};
+                rows.forEach(entity -> {
+                    try {
+                        row.write(json, mapper.apply(entity));
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                    entityManager.detach(entity);
+                    if (++written[0] % clearInterval == 0) {
+                        entityManager.clear();
+                    }
+                });
+                close.write(json);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }));
+    }
+
+    @FunctionalInterface
+    private interface Part {
+        void write(JsonGenerator json) throws IOException;
+    }
+
+    @FunctionalInterface
+    private interface RowWriter<D> {
+        void write(JsonGenerator json, D row) throws IOException;
+    }
+
+    private JsonGenerator generator(WireFormat format, OutputStream out) throws IOException {
+        // The container owns the response stream
+        return mappers.mapper(format).getFactory().createGenerator(out).disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+    }
+
+    private static void write(JsonGenerator json, Object value) {
+        try {
+            json.writeObject(value);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Run a write, rethrowing I/O failures (e.g. the client went away) as IOException.
+     */
+    private static void unwrapping(Runnable write) throws IOException {
+        try {
+            write.run();
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+    }
+
+    private static ResponseEntity<StreamingResponseBody> ok(WireFormat format, StreamingResponseBody body) {
+        return ResponseEntity.ok().contentType(format.mediaType()).body(body);
+    }
+}
@@ -0,0 +1,278 @@
+package com.honeyexplorer.snapshot;
+
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.HoneyDTO;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.image.ImageDerivatives.Format;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+import static com.honeyexplorer.snapshot.CatalogSnapshotWriter.*;
+
+/**
+ * Read-only, memory-mapped view of a catalog snapshot written by {@link CatalogSnapshotWriter}.
+ * Rows are decoded on demand from primitive columns; only the slug indexes live on the heap.
+ */
+public final class CatalogSnapshot {
+
+    private static final FloralSource[] FLORAL_SOURCES = FloralSource.values();
+    private static final HoneyType[] HONEY_TYPES = HoneyType.values();
+    private static final HoneyOrigin[] HONEY_ORIGINS = HoneyOrigin.values();
+
+    private final MappedByteBuffer buffer;
+    private final Instant createdAt;
+    private final int honeyCount;
+    private final int cityCount;
+    private final int stringPoolStart;
+
+    // Honey column offsets
+    private final int hIdMsb, hIdLsb, hSlug, hName, hDescription, hFloralSource, hType, hOrigin, hRegion,
+        hFlavorProfiles, hImageUrl, hThumbnailUrl, hSrcsetAvif, hSrcsetWebp, hBrand, hPriceMin, hPriceMax, hCertifications, hUmf, hMgo,
+        hFeatured, hPurchaseUrl;
+
+    // City column offsets
+    private final int cIdMsb, cIdLsb, cSlug, cCity, cState, cLatitude, cLongitude, cIntroText, cHoneyFacts,
+        cBuyingTips, cBestSeasons, cFaqJson, cValidated, cValidationScore, cNearbySources, cUpcomingEvents;
+
+    private final Map<String, Integer> honeyBySlug = new HashMap<>();
+    private final Map<String, Integer> cityBySlug = new HashMap<>();
+
+    private CatalogSnapshot(MappedByteBuffer buffer) throws IOException {
+        this.buffer = buffer;
+        if (buffer.getInt(0) != MAGIC || buffer.getInt(4) != VERSION) {
+            throw new IOException("Not a catalog snapshot (or unsupported version)");
+        }
+        this.createdAt = Instant.ofEpochMilli(buffer.getLong(8));
+        this.honeyCount = buffer.getInt(16);
+        this.cityCount = buffer.getInt(20);
+        int stringPoolSize = buffer.getInt(24);
+
+        int n = honeyCount;
+        int pos = HEADER_BYTES;
+        hIdMsb = pos;            pos += 8 * n;
+        hIdLsb = pos;            pos += 8 * n;
+        hSlug = pos;             pos += 4 * n;
+        hName = pos;             pos += 4 * n;
+        hDescription = pos;      pos += 4 * n;
+        hFloralSource = pos;     pos += n;
+        hType = pos;             pos += n;
+        hOrigin = pos;           pos += n;
+        hRegion = pos;           pos += 4 * n;
+        hFlavorProfiles = pos;   pos += 4 * n;
+        hImageUrl = pos;         pos += 4 * n;
+        hThumbnailUrl = pos;     pos += 4 * n;
+        hSrcsetAvif = pos;       pos += 4 * n;
+        hSrcsetWebp = pos;       pos += 4 * n;
+        hBrand = pos;            pos += 4 * n;
+        hPriceMin = pos;         pos += 4 * n;
+        hPriceMax = pos;         pos += 4 * n;
+        hCertifications = pos;   pos += 4 * n;
+        hUmf = pos;              pos += 4 * n;
+        hMgo = pos;              pos += 4 * n;
+        hFeatured = pos;         pos += n;
+        hPurchaseUrl = pos;      pos += 4 * n;
+
+        int m = cityCount;
+        cIdMsb = pos;            pos += 8 * m;
+        cIdLsb = pos;            pos += 8 * m;
+        cSlug = pos;             pos += 4 * m;
+        cCity = pos;             pos += 4 * m;
+        cState = pos;            pos += 4 * m;
+        cLatitude = pos;         pos += 8 * m;
+        cLongitude = pos;        pos += 8 * m;
+        cIntroText = pos;        pos += 4 * m;
+        cHoneyFacts = pos;       pos += 4 * m;
+        cBuyingTips = pos;       pos += 4 * m;
+        cBestSeasons = pos;      pos += 4 * m;
+        cFaqJson = pos;          pos += 4 * m;
+        cValidated = pos;        pos += m;
+        cValidationScore = pos;  pos += 4 * m;
+        cNearbySources = pos;    pos += 4 * m;
+        cUpcomingEvents = pos;   pos += 4 * m;
+
+        this.stringPoolStart = pos;
+        if (stringPoolStart + stringPoolSize != buffer.capacity()) {
+            throw new IOException("Catalog snapshot is truncated or corrupt");
+        }
+
+        for (int row = 0; row < honeyCount; row++) {
+            String slug = string(hSlug, row);
+            if (slug != null) {
+                honeyBySlug.put(slug, row);
+            }
+        }
+        for (int row = 0; row < cityCount; row++) {
+            String slug = string(cSlug, row);
+            if (slug != null) {
+                cityBySlug.put(slug, row);
+            }
+        }
+    }
+
+    /**
+     * Memory-map a snapshot file.
+     */
+    public static CatalogSnapshot open(Path path) throws IOException {
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            return new CatalogSnapshot(channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size()));
+        }
+    }
+
+    public Instant createdAt() {
+        return createdAt;
+    }
+
+    public int honeyCount() {
+        return honeyCount;
+    }
+
+    public Optional<HoneyDTO> findHoneyBySlug(String slug) {
+        Integer row = honeyBySlug.get(slug);
+        return row != null ? Optional.of(honey(row)) : Optional.empty();
+    }
+
+    public List<HoneyDTO> findFeaturedHoneys() {
+        List<HoneyDTO> featured = new ArrayList<>();
+        for (int row = 0; row < honeyCount; row++) {
+            if (buffer.get(hFeatured + row) == 1) {
+                featured.add(honey(row));
+            }
+        }
+        return featured;
+    }
+
+    public Optional<CityContentDTO> findCityBySlug(String slug) {
+        Integer row = cityBySlug.get(slug);
+        return row != null ? Optional.of(city(row)) : Optional.empty();
+    }
+
+    /**
+     * Validated cities as summary DTOs, ordered by city name.
+     */
+    public List<CityContentDTO> findValidatedCitySummaries() {
+        List<CityContentDTO> summaries = new ArrayList<>();
+        for (int row = 0; row < cityCount; row++) {
+            if (buffer.get(cValidated + row) == 1) {
+                CityContentDTO city = city(row);
+                summaries.add(new CityContentDTO(
+                    city.id(), city.city(), city.state(), city.slug(), city.latitude(), city.longitude(),
+                    null, null, null, null, null,
+                    city.validated(), city.validationScore(), 0, 0
+                ));
+            }
+        }
+        summaries.sort(Comparator.comparing(CityContentDTO::city));
+        return summaries;
+    }
+
+    private HoneyDTO honey(int row) {
+        FloralSource floralSource = FLORAL_SOURCES[buffer.get(hFloralSource + row)];
+        HoneyType type = HONEY_TYPES[buffer.get(hType + row)];
+        HoneyOrigin origin = HONEY_ORIGINS[buffer.get(hOrigin + row)];
+        return new HoneyDTO(
+            uuid(hIdMsb, hIdLsb, row),
+            string(hName, row),
+            string(hDescription, row),
+            floralSource.name(),
+            floralSource.getDisplayName(),
+            type.name(),
+            type.getDisplayName(),
+            origin.name(),
+            origin.getDisplayName(),
+            string(hRegion, row),
+            string(hFlavorProfiles, row),
+            string(hImageUrl, row),
+            string(hThumbnailUrl, row),
+            srcset(row),
+            string(hBrand, row),
+            decimal(buffer.getInt(hPriceMin + 4 * row), PRICE_SCALE),
+            decimal(buffer.getInt(hPriceMax + 4 * row), PRICE_SCALE),
+            string(hCertifications, row),
+            integer(hUmf, row),
+            integer(hMgo, row),
+            string(hSlug, row),
+            buffer.get(hFeatured + row) == 1,
+            string(hPurchaseUrl, row)
+        );
+    }
+
+    private CityContentDTO city(int row) {
+        byte validated = buffer.get(cValidated + row);
+        return new CityContentDTO(
+            uuid(cIdMsb, cIdLsb, row),
+            string(cCity, row),
+            string(cState, row),
+            string(cSlug, row),
+            coordinate(cLatitude, row),
+            coordinate(cLongitude, row),
+            string(cIntroText, row),
+            string(cHoneyFacts, row),
+            string(cBuyingTips, row),
+            string(cBestSeasons, row),
+            string(cFaqJson, row),
+            validated == NULL_BYTE ? null : validated == 1,
+            integer(cValidationScore, row),
+            buffer.getInt(cNearbySources + 4 * row),
+            buffer.getInt(cUpcomingEvents + 4 * row)
+        );
+    }
+
+    private UUID uuid(int msbColumn, int lsbColumn, int row) {
+        return new UUID(buffer.getLong(msbColumn + 8 * row), buffer.getLong(lsbColumn + 8 * row));
+    }
+
+    private Integer integer(int column, int row) {
+        int value = buffer.getInt(column + 4 * row);
+        return value == NULL_INT ? null : value;
+    }
+
+    private BigDecimal coordinate(int column, int row) {
+        long value = buffer.getLong(column + 8 * row);
+        return value == NULL_LONG ? null : BigDecimal.valueOf(value, COORDINATE_SCALE);
+    }
+
+    private static BigDecimal decimal(int value, int scale) {
+        return value == NULL_INT ? null : BigDecimal.valueOf(value, scale);
+    }
+
+    private Map<String, String> srcset(int row) {
+        String avif = string(hSrcsetAvif, row);
+        String webp = string(hSrcsetWebp, row);
+        if (avif == null && webp == null) {
+            return Map.of();
+        }
+        Map<String, String> srcset = new LinkedHashMap<>();
+        srcset.put(Format.AVIF.mimeType(), avif);
+        srcset.put(Format.WEBP.mimeType(), webp);
+        return srcset;
+    }
+
+    private String string(int column, int row) {
+        int offset = buffer.getInt(column + 4 * row);
+        if (offset == NULL_STRING) {
+            return null;
+        }
+        int start = stringPoolStart + offset;
+        int length = buffer.getInt(start);
+        byte[] utf8 = new byte[length];
+        buffer.get(start + 4, utf8);
+        return new String(utf8, StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,144 @@
+package com.honeyexplorer.snapshot;
+
+import com.honeyexplorer.cache.DataVersionChangedEvent;
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.HoneyDTO;
+import com.honeyexplorer.service.CityContentService;
+import com.honeyexplorer.service.HoneyService;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Service;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Serves read-mostly catalog data (honeys, city content) from a memory-mapped
+ * snapshot during cold start, before the database is warm.
+ *
+ * On startup the snapshot at catalog.snapshot.path is mapped if present and
+ * read endpoints answer from it. Once the application is ready a background
+ * thread warms the connection pool with real queries, switches reads back to
+ * the database and rewrites the snapshot from current data for the next start.
+ */
+@Service
+public class CatalogSnapshotService {
+
+    private static final Logger log = LoggerFactory.getLogger(CatalogSnapshotService.class);
+
+    private static final int WARMUP_ATTEMPTS = 5;
+    private static final long REWRITE_DELAY_MS = 10_000;
+
+    private final HoneyService honeyService;
+    private final CityContentService cityContentService;
+
+    @Value("${catalog.snapshot.enabled:false}")
+    private boolean enabled;
+
+    @Value("${catalog.snapshot.path:catalog.snapshot}")
+    private Path snapshotPath;
+
+    private volatile CatalogSnapshot snapshot;
+    private volatile boolean databaseReady;
+    private final AtomicBoolean rewriteScheduled = new AtomicBoolean();
+
+    public CatalogSnapshotService(HoneyService honeyService, CityContentService cityContentService) {
+        this.honeyService = honeyService;
+        this.cityContentService = cityContentService;
+    }
+
+    @PostConstruct
+    void load() {
+        if (!enabled || !Files.isReadable(snapshotPath)) {
+            return;
+        }
+        try {
+            snapshot = CatalogSnapshot.open(snapshotPath);
+            log.info("Mapped catalog snapshot {} ({} honeys, created {})",
+                snapshotPath, snapshot.honeyCount(), snapshot.createdAt());
+        } catch (IOException e) {
+            log.warn("Ignoring unreadable catalog snapshot {}: {}", snapshotPath, e.getMessage());
+        }
+    }
+
+    /**
+     * The snapshot to serve reads from, present only until the database is warm.
+     */
+    public Optional<CatalogSnapshot> serving() {
+        return databaseReady ? Optional.empty() : Optional.ofNullable(snapshot);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUpInBackground() {
+        if (!enabled) {
+            databaseReady = true;
+            return;
+        }
+        Thread.ofVirtual().name("catalog-snapshot-warmup").start(() -> {
+            for (int attempt = 1; attempt <= WARMUP_ATTEMPTS; attempt++) {
+                try {
+                    refresh();
+                    return;
+                } catch (Exception e) {
+                    // Keep serving the snapshot while the database is unavailable
+                    log.warn("Catalog snapshot refresh attempt {} failed: {}", attempt, e.getMessage());
+                    sleepQuietly(attempt * 5_000L);
+                }
+            }
+            databaseReady = true;
+        });
+    }
+
+    /**
+     * Rewrite the snapshot after catalog changes so the next cold start isn't stale.
+     * Changes arriving within a short window are coalesced into one rewrite.
+     */
+    @EventListener
+    public void onDataVersionChanged(DataVersionChangedEvent event) {
+        if (!enabled || !databaseReady || !rewriteScheduled.compareAndSet(false, true)) {
+            return;
+        }
+        Thread.ofVirtual().name("catalog-snapshot-rewrite").start(() -> {
+            sleepQuietly(REWRITE_DELAY_MS);
+            rewriteScheduled.set(false);
+            try {
+                refresh();
+            } catch (Exception e) {
+                log.warn("Catalog snapshot rewrite failed: {}", e.getMessage());
+            }
+        });
+    }
+
+    /**
+     * Query the database (warming the pool and Hibernate), switch reads to it,
+     * then persist a fresh snapshot.
+     */
+    public void refresh() throws IOException {
+        long started = System.nanoTime();
+        List<HoneyDTO> honeys = honeyService.findAllForSnapshot();
+        List<CityContentDTO> cities = cityContentService.findAllValidatedWithCounts();
+        databaseReady = true;
+        log.info("Database warm after {} ms, serving catalog reads from the database",
+            (System.nanoTime() - started) / 1_000_000);
+
+        CatalogSnapshotWriter.write(snapshotPath, honeys, cities);
+        log.info("Wrote catalog snapshot {} ({} honeys, {} cities, {} bytes)",
+            snapshotPath, honeys.size(), cities.size(), Files.size(snapshotPath));
+    }
+
+    private static void sleepQuietly(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
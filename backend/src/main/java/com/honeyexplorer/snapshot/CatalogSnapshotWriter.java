@@ -0,0 +1,204 @@
+package com.honeyexplorer.snapshot;
+
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.HoneyDTO;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.HoneyOrigin;
+import com.honeyexplorer.entity.enums.HoneyType;
+import com.honeyexplorer.image.ImageDerivatives.Format;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.ToIntFunction;
+import java.util.function.ToLongFunction;
+
+/**
+ * Writes the binary catalog snapshot read by {@link CatalogSnapshot}.
+ *
+ * Layout (big-endian):
+ * <pre>
+ * header   magic, version, createdAt, honeyCount, cityCount, stringPoolSize
+ * honeys   one contiguous column per field (long/int/byte arrays)
+ * cities   one contiguous column per field
+ * strings  deduplicated UTF-8 pool; string columns hold pool offsets (-1 for null)
+ * </pre>
+ * Column order must match {@link CatalogSnapshot}.
+ */
+public final class CatalogSnapshotWriter {
+
+    static final int MAGIC = 0x48584353; // "HXCS"
+    static final int VERSION = 2;
+    static final int HEADER_BYTES = 4 + 4 + 8 + 4 + 4 + 4;
+
+    static final int NULL_STRING = -1;
+    static final int NULL_INT = Integer.MIN_VALUE;
+    static final long NULL_LONG = Long.MIN_VALUE;
+    static final byte NULL_BYTE = -1;
+
+    /** Fixed decimal scales for primitive-encoded numeric columns. */
+    static final int PRICE_SCALE = 2;
+    static final int COORDINATE_SCALE = 6;
+
+    private CatalogSnapshotWriter() {}
+
+    /**
+     * Write a snapshot atomically (temp file + move) so readers never map a partial file.
+     */
+    public static void write(Path target, List<HoneyDTO> honeys, List<CityContentDTO> cities) throws IOException {
+        Path parent = target.toAbsolutePath().getParent();
+        Files.createDirectories(parent);
+        Path temp = Files.createTempFile(parent, "catalog", ".tmp");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(temp))) {
+            write(out, honeys, cities);
+        }
+        Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    static void write(OutputStream target, List<HoneyDTO> honeys, List<CityContentDTO> cities) throws IOException {
+        StringPool pool = new StringPool();
+        ByteArrayOutputStream columnBytes = new ByteArrayOutputStream();
+        DataOutputStream columns = new DataOutputStream(columnBytes);
+
+        // Honey columns
+        writeLongs(columns, honeys, h -> msb(h.id()));
+        writeLongs(columns, honeys, h -> lsb(h.id()));
+        writeStrings(columns, pool, honeys, HoneyDTO::slug);
+        writeStrings(columns, pool, honeys, HoneyDTO::name);
+        writeStrings(columns, pool, honeys, HoneyDTO::description);
+        writeBytes(columns, honeys, h -> (byte) FloralSource.valueOf(h.floralSource()).ordinal());
+        writeBytes(columns, honeys, h -> (byte) HoneyType.valueOf(h.type()).ordinal());
+        writeBytes(columns, honeys, h -> (byte) HoneyOrigin.valueOf(h.origin()).ordinal());
+        writeStrings(columns, pool, honeys, HoneyDTO::region);
+        writeStrings(columns, pool, honeys, HoneyDTO::flavorProfiles);
+        writeStrings(columns, pool, honeys, HoneyDTO::imageUrl);
+        writeStrings(columns, pool, honeys, HoneyDTO::thumbnailUrl);
+        writeStrings(columns, pool, honeys, h -> h.imageSrcset().get(Format.AVIF.mimeType()));
+        writeStrings(columns, pool, honeys, h -> h.imageSrcset().get(Format.WEBP.mimeType()));
+        writeStrings(columns, pool, honeys, HoneyDTO::brand);
+        writeInts(columns, honeys, h -> scaled(h.priceMin(), PRICE_SCALE));
+        writeInts(columns, honeys, h -> scaled(h.priceMax(), PRICE_SCALE));
+        writeStrings(columns, pool, honeys, HoneyDTO::certifications);
+        writeInts(columns, honeys, h -> h.umfRating() != null ? h.umfRating() : NULL_INT);
+        writeInts(columns, honeys, h -> h.mgoRating() != null ? h.mgoRating() : NULL_INT);
+        writeBytes(columns, honeys, h -> (byte) (h.featured() ? 1 : 0));
+        writeStrings(columns, pool, honeys, HoneyDTO::purchaseUrl);
+
+        // City columns
+        writeLongs(columns, cities, c -> msb(c.id()));
+        writeLongs(columns, cities, c -> lsb(c.id()));
+        writeStrings(columns, pool, cities, CityContentDTO::slug);
+        writeStrings(columns, pool, cities, CityContentDTO::city);
+        writeStrings(columns, pool, cities, CityContentDTO::state);
+        writeLongs(columns, cities, c -> scaledLong(c.latitude()));
+        writeLongs(columns, cities, c -> scaledLong(c.longitude()));
+        writeStrings(columns, pool, cities, CityContentDTO::introText);
+        writeStrings(columns, pool, cities, CityContentDTO::honeyFacts);
+        writeStrings(columns, pool, cities, CityContentDTO::buyingTips);
+        writeStrings(columns, pool, cities, CityContentDTO::bestSeasons);
+        writeStrings(columns, pool, cities, CityContentDTO::faqJson);
+        writeBytes(columns, cities, c -> c.validated() == null ? NULL_BYTE : (byte) (c.validated() ? 1 : 0));
+        writeInts(columns, cities, c -> c.validationScore() != null ? c.validationScore() : NULL_INT);
+        writeInts(columns, cities, CityContentDTO::nearbySourcesCount);
+        writeInts(columns, cities, CityContentDTO::upcomingEventsCount);
+        columns.flush();
+
+        DataOutputStream out = new DataOutputStream(target);
+        out.writeInt(MAGIC);
+        out.writeInt(VERSION);
+        out.writeLong(System.currentTimeMillis());
+        out.writeInt(honeys.size());
+        out.writeInt(cities.size());
+        out.writeInt(pool.size());
+        columnBytes.writeTo(out);
+        pool.writeTo(out);
+        out.flush();
+    }
+
+    private static <T> void writeLongs(DataOutputStream out, List<T> rows, ToLongFunction<T> value) throws IOException {
+        for (T row : rows) {
+            out.writeLong(value.applyAsLong(row));
+        }
+    }
+
+    private static <T> void writeInts(DataOutputStream out, List<T> rows, ToIntFunction<T> value) throws IOException {
+        for (T row : rows) {
+            out.writeInt(value.applyAsInt(row));
+        }
+    }
+
+    private static <T> void writeBytes(DataOutputStream out, List<T> rows, Function<T, Byte> value) throws IOException {
+        for (T row : rows) {
+            out.writeByte(value.apply(row));
+        }
+    }
+
+    private static <T> void writeStrings(DataOutputStream out, StringPool pool, List<T> rows, Function<T, String> value)
+            throws IOException {
+        for (T row : rows) {
+            out.writeInt(pool.offsetOf(value.apply(row)));
+        }
+    }
+
+    private static long msb(UUID id) {
+        return id != null ? id.getMostSignificantBits() : 0L;
+    }
+
+    private static long lsb(UUID id) {
+        return id != null ? id.getLeastSignificantBits() : 0L;
+    }
+
+    private static int scaled(BigDecimal value, int scale) {
+        return value != null ? value.movePointRight(scale).intValueExact() : NULL_INT;
+    }
+
+    private static long scaledLong(BigDecimal value) {
+        return value != null ? value.movePointRight(COORDINATE_SCALE).longValueExact() : NULL_LONG;
+    }
+
+    /**
+     * Deduplicated UTF-8 string pool; each entry is an int byte length followed by the bytes.
+     */
+    private static final class StringPool {
+
+        private final Map<String, Integer> offsets = new HashMap<>();
+        private final ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        private final DataOutputStream data = new DataOutputStream(bytes);
+
+        int offsetOf(String value) throws IOException {
+            if (value == null) {
+                return NULL_STRING;
+            }
+            Integer existing = offsets.get(value);
+            if (existing != null) {
+                return existing;
+            }
+            int offset = bytes.size();
+            byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+            data.writeInt(utf8.length);
+            data.write(utf8);
+            offsets.put(value, offset);
+            return offset;
+        }
+
+        int size() {
+            return bytes.size();
+        }
+
+        void writeTo(OutputStream out) throws IOException {
+            bytes.writeTo(out);
+        }
+    }
+}
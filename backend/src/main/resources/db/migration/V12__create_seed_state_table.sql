@@ -0,0 +1,6 @@
+-- Tracks which seed data has been applied so startup can skip re-seeding
+CREATE TABLE seed_state (
+    name VARCHAR(100) PRIMARY KEY,
+    checksum VARCHAR(64) NOT NULL,
+    seeded_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
@@ -0,0 +1,18 @@
+-- Content hashes let the incremental importer skip unchanged rows
+ALTER TABLE honeys ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE local_sources ADD COLUMN content_hash VARCHAR(64);
+ALTER TABLE events ADD COLUMN content_hash VARCHAR(64);
+
+-- Honey slugs become the upsert key, so they must be unique. Existing duplicates keep
+-- their oldest row on the slug; later copies get the start of their id appended
+UPDATE honeys h
+SET slug = h.slug || '-' || LEFT(CAST(h.id AS VARCHAR), 8)
+FROM (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY slug ORDER BY created_at, id) AS copy
+    FROM honeys
+    WHERE slug IS NOT NULL
+) d
+WHERE h.id = d.id AND d.copy > 1;
+
+DROP INDEX idx_honeys_slug;
+CREATE UNIQUE INDEX idx_honeys_slug ON honeys(slug);
@@ -0,0 +1,12 @@
+-- Monotonic per-type data versions shared by all nodes for cache invalidation
+CREATE TABLE data_versions (
+    data_type VARCHAR(50) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO data_versions (data_type) VALUES
+    ('HONEY'),
+    ('LOCAL_SOURCE'),
+    ('EVENT'),
+    ('CITY_CONTENT');
@@ -0,0 +1,3 @@
+-- Widths of the generated responsive image derivatives (comma-separated, e.g. '160,320,640')
+ALTER TABLE honeys ADD COLUMN image_derivatives VARCHAR(50);
+ALTER TABLE local_sources ADD COLUMN hero_image_derivatives VARCHAR(50);
@@ -0,0 +1,3 @@
+-- email already has a unique index from its UNIQUE constraint (V10); the extra
+-- non-unique index only doubled the index maintenance on every signup
+DROP INDEX IF EXISTS idx_newsletter_email;
@@ -0,0 +1,27 @@
+package com.honeyexplorer.cache;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class AcceptEncodingTest {
+
+    @Test
+    void acceptsGzip_whenListedWithNonZeroQuality() {
+        assertThat(AcceptEncoding.acceptsGzip("gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br, GZIP;q=0.5")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("x-gzip")).isTrue();
+        assertThat(AcceptEncoding.acceptsGzip("br, *")).isTrue();
+    }
+
+    @Test
+    void refusesGzip_whenAbsentOrQualityIsZero() {
+        assertThat(AcceptEncoding.acceptsGzip(null)).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("identity")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip; q=0.000, br")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("*, gzip;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("*;q=0")).isFalse();
+        assertThat(AcceptEncoding.acceptsGzip("gzip;q=abc")).isFalse();
+    }
+}
@@ -0,0 +1,135 @@
+package com.honeyexplorer.cache;
+
+import com.honeyexplorer.concurrent.ConcurrencyLimitingDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.sql.Connection;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class DataVersionRegistryTest {
+
+    private final List<Object> events = new ArrayList<>();
+    private final DataVersionRegistry registry = new DataVersionRegistry(
+        new StaticListableBeanFactory().getBeanProvider(DataVersionStore.class), events::add);
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void bump_advancesOnlyThatTypeAndPublishesEvent() {
+        registry.bump(DataType.HONEY);
+
+        assertThat(registry.version(DataType.HONEY)).isEqualTo(1);
+        assertThat(registry.version(DataType.EVENT)).isZero();
+        assertThat(events).containsExactly(new DataVersionChangedEvent(DataType.HONEY, 1, false));
+    }
+
+    @Test
+    void markChanged_withoutTransactionBumpsImmediately() {
+        registry.markChanged(DataType.CITY_CONTENT);
+
+        assertThat(registry.version(DataType.CITY_CONTENT)).isEqualTo(1);
+    }
+
+    @Test
+    void markChanged_bumpsOncePerTypeAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.markChanged(DataType.HONEY);
+        registry.markChanged(DataType.HONEY);
+        registry.markChanged(DataType.LOCAL_SOURCE);
+
+        assertThat(registry.version(DataType.HONEY)).isZero();
+
+        complete(TransactionSynchronization.STATUS_COMMITTED);
+
+        assertThat(registry.version(DataType.HONEY)).isEqualTo(1);
+        assertThat(registry.version(DataType.LOCAL_SOURCE)).isEqualTo(1);
+        assertThat(TransactionSynchronizationManager.hasResource(registry)).isFalse();
+    }
+
+    @Test
+    void markChanged_ignoresRolledBackChanges() {
+        TransactionSynchronizationManager.initSynchronization();
+        registry.markChanged(DataType.EVENT);
+
+        complete(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(registry.version(DataType.EVENT)).isZero();
+        assertThat(events).isEmpty();
+    }
+
+    @Test
+    void markChanged_persistsOnWritersConnectionWhenNoOtherPermitIsFree() {
+        PersistentSetup setup = new PersistentSetup();
+
+        // The writer holds the only permit until after completion
+        new TransactionTemplate(setup.transactionManager).executeWithoutResult(status -> {
+            setup.jdbcTemplate.update("UPDATE data_versions SET updated_at = updated_at");
+            setup.registry.markChanged(DataType.HONEY);
+            setup.registry.markChanged(DataType.EVENT);
+        });
+
+        assertThat(setup.registry.version(DataType.HONEY)).isEqualTo(1);
+        assertThat(setup.registry.version(DataType.EVENT)).isEqualTo(1);
+        assertThat(setup.store.loadAll()).containsEntry(DataType.HONEY, 1L).containsEntry(DataType.EVENT, 1L);
+        assertThat(setup.dataSource.available()).isEqualTo(1);
+    }
+
+    @Test
+    void bump_fallsBackLocallyWhenNoPermitAndWritesBackOnSync() throws Exception {
+        PersistentSetup setup = new PersistentSetup();
+
+        try (Connection held = setup.dataSource.getConnection()) {
+            assertThat(setup.registry.bump(DataType.CITY_CONTENT)).isEqualTo(1);
+        }
+        assertThat(setup.store.loadAll()).doesNotContainKey(DataType.CITY_CONTENT);
+
+        setup.registry.sync();
+
+        assertThat(setup.store.loadAll()).containsEntry(DataType.CITY_CONTENT, 1L);
+        assertThat(setup.registry.version(DataType.CITY_CONTENT)).isEqualTo(1);
+    }
+
+    /**
+     * Persistent registry on H2 behind a single-permit limiter with no nested reserve.
+     */
+    private class PersistentSetup {
+        final ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(
+            new DriverManagerDataSource("jdbc:h2:mem:versions-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""),
+            1, 0, 10, 200);
+        final JdbcTemplate jdbcTemplate = new JdbcTemplate(dataSource);
+        final DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        final DataVersionStore store = new DataVersionStore(jdbcTemplate, transactionManager);
+        final DataVersionRegistry registry;
+
+        PersistentSetup() {
+            jdbcTemplate.execute("CREATE TABLE data_versions (data_type VARCHAR(50) PRIMARY KEY,"
+                + " version BIGINT NOT NULL DEFAULT 0, updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP)");
+            StaticListableBeanFactory beans = new StaticListableBeanFactory();
+            beans.addBean("dataVersionStore", store);
+            registry = new DataVersionRegistry(beans.getBeanProvider(DataVersionStore.class), events::add);
+        }
+    }
+
+    private static void complete(int status) {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(sync -> sync.afterCompletion(status));
+    }
+}
@@ -0,0 +1,117 @@
+package com.honeyexplorer.cache;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.cache.SerializedResponseCache.SerializedBody;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.config.WireFormatMappers;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+import java.io.ByteArrayInputStream;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class SerializedResponseCacheTest {
+
+    private final DataVersionRegistry registry = new DataVersionRegistry(
+        new StaticListableBeanFactory().getBeanProvider(DataVersionStore.class), event -> {});
+    private final SerializedResponseCache cache = new SerializedResponseCache(
+        registry, new WireFormatMappers(new ObjectMapper(), Jackson2ObjectMapperBuilder.json()), 100, 64);
+    private final AtomicInteger loads = new AtomicInteger();
+
+    @Test
+    void hit_skipsLoadingAndSerialization() {
+        SerializedBody first = cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load).orElseThrow();
+        SerializedBody second = cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load).orElseThrow();
+
+        assertThat(loads).hasValue(1);
+        assertThat(second).isSameAs(first);
+        assertThat(new String(first.body())).isEqualTo("{\"name\":\"Manuka\"}");
+    }
+
+    @Test
+    void versionChange_rebuildsEntry() {
+        cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load);
+        cache.get(DataType.EVENT, "fair", WireFormat.JSON, this::load);
+
+        registry.bump(DataType.HONEY);
+        cache.onDataVersionChanged(new DataVersionChangedEvent(DataType.HONEY, 1, false));
+        assertThat(cache.size()).isEqualTo(1);
+
+        SerializedBody rebuilt = cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load).orElseThrow();
+        assertThat(loads).hasValue(3);
+        assertThat(rebuilt.version()).isEqualTo(1);
+    }
+
+    @Test
+    void notFound_isNotCached() {
+        assertThat(cache.get(DataType.HONEY, "missing", WireFormat.JSON, Optional::empty)).isEmpty();
+        assertThat(cache.size()).isZero();
+    }
+
+    @Test
+    void uncached_isNotStored() {
+        SerializedBody body = cache.uncached(DataType.HONEY, WireFormat.JSON, Map.of("name", "Snapshot"));
+
+        assertThat(new String(body.body())).isEqualTo("{\"name\":\"Snapshot\"}");
+        assertThat(cache.size()).isZero();
+        assertThat(cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load).orElseThrow().body())
+            .isEqualTo("{\"name\":\"Manuka\"}".getBytes());
+    }
+
+    @Test
+    void formats_areCachedSeparately() throws Exception {
+        SerializedBody json = cache.get(DataType.HONEY, "manuka", WireFormat.JSON, this::load).orElseThrow();
+        SerializedBody cbor = cache.get(DataType.HONEY, "manuka", WireFormat.CBOR, this::load).orElseThrow();
+
+        assertThat(loads).hasValue(2);
+        assertThat(cbor.body()).isNotEqualTo(json.body());
+        ObjectMapper cborMapper = Jackson2ObjectMapperBuilder.cbor().build();
+        assertThat(cborMapper.readValue(cbor.body(), new TypeReference<Map<String, String>>() {}))
+            .isEqualTo(Map.of("name", "Manuka"));
+
+        ResponseEntity<byte[]> response = SerializedResponseCache.respond(cbor, null, new MockHttpServletResponse());
+        assertThat(response.getHeaders().getContentType()).isEqualTo(MediaType.APPLICATION_CBOR);
+    }
+
+    @Test
+    void respond_sendsGzipOnlyWhenAcceptedAndWeakensEtag() throws Exception {
+        String description = "a".repeat(200);
+        SerializedBody json = cache.get(DataType.HONEY, "big", WireFormat.JSON,
+                () -> Optional.of(Map.of("description", description)))
+            .orElseThrow();
+        assertThat(json.gzip()).isNotNull();
+
+        MockHttpServletResponse plain = new MockHttpServletResponse();
+        plain.setHeader(HttpHeaders.ETAG, "\"abc\"");
+        ResponseEntity<byte[]> identity = SerializedResponseCache.respond(json, null, plain);
+        assertThat(identity.getBody()).isEqualTo(json.body());
+        assertThat(identity.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isNull();
+        assertThat(plain.getHeader(HttpHeaders.ETAG)).isEqualTo("\"abc\"");
+
+        MockHttpServletResponse gzipped = new MockHttpServletResponse();
+        gzipped.setHeader(HttpHeaders.ETAG, "\"abc\"");
+        ResponseEntity<byte[]> encoded = SerializedResponseCache.respond(json, "gzip, br", gzipped);
+        assertThat(encoded.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING)).isEqualTo("gzip");
+        assertThat(gzipped.getHeader(HttpHeaders.ETAG)).isEqualTo("W/\"abc\"");
+        assertThat(gzipped.getHeader(HttpHeaders.VARY)).isEqualTo(HttpHeaders.ACCEPT_ENCODING);
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(encoded.getBody()))) {
+            assertThat(in.readAllBytes()).isEqualTo(json.body());
+        }
+    }
+
+    private Optional<Map<String, String>> load() {
+        loads.incrementAndGet();
+        return Optional.of(Map.of("name", "Manuka"));
+    }
+}
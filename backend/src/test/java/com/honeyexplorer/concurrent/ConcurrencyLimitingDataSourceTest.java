@@ -0,0 +1,119 @@
+package com.honeyexplorer.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLTransientConnectionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.*;
+
+class ConcurrencyLimitingDataSourceTest {
+
+    private final DataSource target = mock(DataSource.class);
+
+    ConcurrencyLimitingDataSourceTest() throws Exception {
+        when(target.getConnection()).thenAnswer(invocation -> mock(Connection.class));
+    }
+
+    @Test
+    void close_releasesThePermitOnce() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 2, 0, 10, 100);
+
+        Connection connection = dataSource.getConnection();
+        assertThat(dataSource.available()).isEqualTo(1);
+
+        connection.close();
+        connection.close();
+        assertThat(dataSource.available()).isEqualTo(2);
+    }
+
+    @Test
+    void failedTargetConnection_releasesThePermit() throws Exception {
+        DataSource failing = mock(DataSource.class);
+        when(failing.getConnection()).thenThrow(new SQLTransientConnectionException("pool exhausted"));
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(failing, 1, 0, 10, 100);
+
+        assertThatThrownBy(dataSource::getConnection).hasMessage("pool exhausted");
+        assertThat(dataSource.available()).isEqualTo(1);
+    }
+
+    @Test
+    void noPermitWithinTimeout_isRejected() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 0, 10, 50);
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            CountDownLatch holding = new CountDownLatch(1);
+            CountDownLatch release = new CountDownLatch(1);
+            Future<?> holder = executor.submit(() -> {
+                try (Connection ignored = dataSource.getConnection()) {
+                    holding.countDown();
+                    release.await();
+                }
+                return null;
+            });
+            assertThat(holding.await(5, TimeUnit.SECONDS)).isTrue();
+
+            long started = System.nanoTime();
+            assertThatThrownBy(dataSource::getConnection).isInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("after 50 ms");
+            assertThat(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - started)).isGreaterThanOrEqualTo(50);
+
+            release.countDown();
+            holder.get(5, TimeUnit.SECONDS);
+        }
+        assertThat(dataSource.available()).isEqualTo(1);
+    }
+
+    @Test
+    void fullQueue_isRejectedImmediately() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 0, 1, 10_000);
+        Connection held = dataSource.getConnection();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<Connection> queued = executor.submit(() -> dataSource.getConnection());
+            for (int i = 0; i < 100 && dataSource.waiting() == 0; i++) {
+                Thread.sleep(10);
+            }
+            assertThat(dataSource.waiting()).isEqualTo(1);
+
+            Future<Connection> rejected = executor.submit(() -> dataSource.getConnection());
+            assertThatThrownBy(() -> rejected.get(1, TimeUnit.SECONDS))
+                .hasCauseInstanceOf(SQLTransientConnectionException.class)
+                .hasMessageContaining("already waiting");
+
+            held.close();
+            queued.get(5, TimeUnit.SECONDS).close();
+        }
+        assertThat(dataSource.available()).isEqualTo(1);
+    }
+
+    @Test
+    void nestedConnection_usesTheReserveWhenEveryPermitIsHeld() throws Exception {
+        ConcurrencyLimitingDataSource dataSource = new ConcurrencyLimitingDataSource(target, 1, 1, 10, 50);
+
+        try (Connection outer = dataSource.getConnection()) {
+            assertThat(dataSource.available()).isZero();
+            try (Connection inner = dataSource.getConnection()) {
+                // A second nested connection would need another reserved permit
+                assertThatThrownBy(dataSource::getConnection).hasMessageContaining("nested");
+            }
+            try (Connection inner = dataSource.getConnection()) {
+                assertThat(inner).isNotNull();
+            }
+        }
+
+        // With the outer connection closed, the next one is a first connection again
+        try (Connection first = dataSource.getConnection()) {
+            assertThat(dataSource.available()).isZero();
+        }
+        assertThat(dataSource.available()).isEqualTo(1);
+    }
+}
@@ -0,0 +1,93 @@
+package com.honeyexplorer.concurrent;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SingleFlightTest {
+
+    private final AtomicInteger executed = new AtomicInteger();
+    private final AtomicInteger coalesced = new AtomicInteger();
+    private final SingleFlight<String, String> flight = new SingleFlight<>(new SingleFlight.Listener() {
+        @Override
+        public void onExecuted() {
+            executed.incrementAndGet();
+        }
+
+        @Override
+        public void onCoalesced() {
+            coalesced.incrementAndGet();
+        }
+    });
+
+    @Test
+    void concurrentCallsForSameKeyShareOneExecution() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger loads = new AtomicInteger();
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            Future<String> leader = executor.submit(() -> flight.execute("manuka", () -> {
+                leaderStarted.countDown();
+                await(release);
+                return "result-" + loads.incrementAndGet();
+            }));
+            leaderStarted.await(5, TimeUnit.SECONDS);
+
+            List<Future<String>> followers = new ArrayList<>();
+            for (int i = 0; i < 10; i++) {
+                followers.add(executor.submit(() -> flight.execute("manuka", () -> "result-" + loads.incrementAndGet())));
+            }
+            while (coalesced.get() < 10) {
+                Thread.onSpinWait();
+            }
+            release.countDown();
+
+            assertThat(leader.get()).isEqualTo("result-1");
+            for (Future<String> follower : followers) {
+                assertThat(follower.get()).isEqualTo("result-1");
+            }
+        }
+        assertThat(loads).hasValue(1);
+        assertThat(executed).hasValue(1);
+        assertThat(flight.inFlight()).isZero();
+    }
+
+    @Test
+    void sequentialCallsExecuteAgain() {
+        AtomicInteger loads = new AtomicInteger();
+
+        flight.execute("clover", () -> String.valueOf(loads.incrementAndGet()));
+        flight.execute("clover", () -> String.valueOf(loads.incrementAndGet()));
+
+        assertThat(loads).hasValue(2);
+        assertThat(coalesced).hasValue(0);
+    }
+
+    @Test
+    void failureIsPropagatedAndNotRemembered() {
+        assertThatThrownBy(() -> flight.execute("broken", () -> {
+            throw new IllegalStateException("db down");
+        })).isInstanceOf(IllegalStateException.class);
+
+        assertThat(flight.execute("broken", () -> "recovered")).isEqualTo("recovered");
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            latch.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
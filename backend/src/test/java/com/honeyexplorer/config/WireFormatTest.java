@@ -0,0 +1,32 @@
+package com.honeyexplorer.config;
+
+import org.junit.jupiter.api.Test;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class WireFormatTest {
+
+    @Test
+    void negotiate_defaultsToJson() {
+        assertThat(WireFormat.negotiate(null)).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("*/*")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("text/html, application/xhtml+xml")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("application/x-protobuf")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("not a media type;;")).isEqualTo(WireFormat.JSON);
+    }
+
+    @Test
+    void negotiate_picksBinaryFormats() {
+        assertThat(WireFormat.negotiate("application/cbor")).isEqualTo(WireFormat.CBOR);
+        assertThat(WireFormat.negotiate("application/x-jackson-smile, */*")).isEqualTo(WireFormat.SMILE);
+        assertThat(WireFormat.negotiate("application/json;q=0.5, application/cbor")).isEqualTo(WireFormat.CBOR);
+    }
+
+    @Test
+    void negotiate_respectsQualityAndOrder() {
+        assertThat(WireFormat.negotiate("application/cbor;q=0.5, */*")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("application/json, application/cbor")).isEqualTo(WireFormat.JSON);
+        assertThat(WireFormat.negotiate("application/cbor;q=0.8, application/x-jackson-smile;q=0.9"))
+            .isEqualTo(WireFormat.SMILE);
+    }
+}
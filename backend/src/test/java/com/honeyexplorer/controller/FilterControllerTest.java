@@ -1,12 +1,16 @@
 package com.honeyexplorer.controller;
 
+import com.honeyexplorer.cache.DataVersionRegistry;
 import com.honeyexplorer.entity.enums.FloralSource;
 import com.honeyexplorer.entity.enums.HoneyOrigin;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import static org.hamcrest.Matchers.*;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
@@ -17,6 +21,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
  * Uses MockMvc for lightweight HTTP testing.
  */
 @WebMvcTest(FilterController.class)
+@Import(DataVersionRegistry.class)
 class FilterControllerTest {
 
     @Autowired
@@ -88,4 +93,23 @@ class FilterControllerTest {
                 // All certifications should have count 0
                 .andExpect(jsonPath("$.certifications[*].count", everyItem(is(0))));
     }
+
+    @Test
+    void filterOptions_setsEtagAndCacheControl() throws Exception {
+        mockMvc.perform(get("/api/filters/options"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("\"[0-9a-f]{32}\"")))
+                .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("stale-while-revalidate=")));
+    }
+
+    @Test
+    void filterOptions_matchingIfNoneMatchReturns304() throws Exception {
+        MvcResult first = mockMvc.perform(get("/api/filters/options")).andReturn();
+        String etag = first.getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get("/api/filters/options").header(HttpHeaders.IF_NONE_MATCH, "W/" + etag))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string(HttpHeaders.ETAG, etag))
+                .andExpect(content().string(""));
+    }
 }
@@ -0,0 +1,89 @@
+package com.honeyexplorer.controller;
+
+import com.honeyexplorer.cache.DataType;
+import com.honeyexplorer.cache.DataVersionRegistry;
+import com.honeyexplorer.cache.SerializedResponseCache;
+import com.honeyexplorer.cache.SerializedResponseCache.SerializedBody;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.service.HoneyService;
+import com.honeyexplorer.snapshot.CatalogSnapshotService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.transaction.CannotCreateTransactionException;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Optional;
+
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.matchesPattern;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for the cache headers and format negotiation of the honey detail endpoint.
+ */
+@WebMvcTest(HoneyController.class)
+@Import(DataVersionRegistry.class)
+class HoneyControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private HoneyService honeyService;
+
+    @MockitoBean
+    private CatalogSnapshotService catalogSnapshotService;
+
+    @MockitoBean
+    private SerializedResponseCache serializedResponseCache;
+
+    @Test
+    void knownSlug_isCacheable() throws Exception {
+        byte[] json = "{\"slug\":\"manuka\"}".getBytes(StandardCharsets.UTF_8);
+        when(serializedResponseCache.get(eq(DataType.HONEY), eq("manuka"), eq(WireFormat.JSON), any()))
+            .thenReturn(Optional.of(new SerializedBody(1, WireFormat.JSON, json, new byte[] {1, 2, 3})));
+
+        mockMvc.perform(get("/api/honeys/manuka").header(HttpHeaders.ACCEPT_ENCODING, "gzip"))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.ETAG, matchesPattern("W/\"[0-9a-f]{32}\"")))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("max-age=300")));
+    }
+
+    @Test
+    void unknownSlug_isNotCached() throws Exception {
+        when(serializedResponseCache.get(eq(DataType.HONEY), eq("missing"), any(), any()))
+            .thenReturn(Optional.empty());
+
+        mockMvc.perform(get("/api/honeys/missing"))
+            .andExpect(status().isNotFound())
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void databaseBusy_isNotCached() throws Exception {
+        when(serializedResponseCache.get(eq(DataType.HONEY), eq("manuka"), any(), any()))
+            .thenThrow(new CannotCreateTransactionException("pool exhausted"));
+
+        mockMvc.perform(get("/api/honeys/manuka"))
+            .andExpect(status().isServiceUnavailable())
+            .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"))
+            .andExpect(header().doesNotExist(HttpHeaders.ETAG))
+            .andExpect(header().doesNotExist(HttpHeaders.CACHE_CONTROL));
+    }
+
+    @Test
+    void acceptAdmittingNoWireFormat_isNotAcceptable() throws Exception {
+        mockMvc.perform(get("/api/honeys/manuka").header(HttpHeaders.ACCEPT, "application/x-protobuf"))
+            .andExpect(status().isNotAcceptable());
+    }
+}
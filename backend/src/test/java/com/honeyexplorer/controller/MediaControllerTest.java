@@ -0,0 +1,125 @@
+package com.honeyexplorer.controller;
+
+import com.honeyexplorer.service.ImageStorage.StoredImage;
+import com.honeyexplorer.service.LocalImageStorageService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.head;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for MediaController range, caching and sendfile handling.
+ */
+class MediaControllerTest {
+
+    private static final byte[] IMAGE = "RIFF....WEBPVP8 pretend image bytes".getBytes(StandardCharsets.US_ASCII);
+
+    @TempDir
+    Path mediaRoot;
+
+    private LocalImageStorageService storage;
+    private MockMvc mockMvc;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        storage = new LocalImageStorageService(mediaRoot, "/api/media", 4);
+        mockMvc = MockMvcBuilders.standaloneSetup(new MediaController(storage)).build();
+    }
+
+    @Test
+    void contentAddressedImage_isServedAsImmutable() throws Exception {
+        StoredImage stored = storage.storeImage(IMAGE, "honeys", "image/webp");
+
+        mockMvc.perform(get(stored.url()))
+            .andExpect(status().isOk())
+            .andExpect(content().contentType("image/webp"))
+            .andExpect(content().bytes(IMAGE))
+            .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(IMAGE.length)))
+            .andExpect(header().string(HttpHeaders.ACCEPT_RANGES, "bytes"))
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, containsString("immutable")))
+            .andExpect(header().string(HttpHeaders.ETAG, "\"" + stored.key().substring(7, 71) + "\""));
+    }
+
+    @Test
+    void mutableImage_isRevalidatedByContentHash() throws Exception {
+        String url = storage.uploadImage(IMAGE, "honeys/manuka.webp", "image/webp");
+        String etag = mockMvc.perform(get(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CACHE_CONTROL, "no-cache, public"))
+            .andReturn().getResponse().getHeader(HttpHeaders.ETAG);
+
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isNotModified())
+            .andExpect(content().bytes(new byte[0]));
+
+        storage.uploadImage("changed".getBytes(StandardCharsets.US_ASCII), "honeys/manuka.webp", "image/webp");
+        mockMvc.perform(get(url).header(HttpHeaders.IF_NONE_MATCH, etag))
+            .andExpect(status().isOk())
+            .andExpect(content().string("changed"));
+    }
+
+    @Test
+    void rangeRequest_returnsPartialContent() throws Exception {
+        String url = storage.uploadImage(IMAGE, "sources/farm.webp", "image/webp");
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=4-11"))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes 4-11/" + IMAGE.length))
+            .andExpect(content().bytes(Arrays.copyOfRange(IMAGE, 4, 12)));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=-5"))
+            .andExpect(status().isPartialContent())
+            .andExpect(content().bytes(Arrays.copyOfRange(IMAGE, IMAGE.length - 5, IMAGE.length)));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=1000-"))
+            .andExpect(status().isRequestedRangeNotSatisfiable())
+            .andExpect(header().string(HttpHeaders.CONTENT_RANGE, "bytes */" + IMAGE.length));
+
+        mockMvc.perform(get(url).header(HttpHeaders.RANGE, "bytes=4-11").header(HttpHeaders.IF_RANGE, "\"stale\""))
+            .andExpect(status().isOk())
+            .andExpect(content().bytes(IMAGE));
+    }
+
+    @Test
+    void sendfileCapableConnector_getsFileHandOffInsteadOfBody() throws Exception {
+        String url = storage.uploadImage(IMAGE, "honeys/clover.webp", "image/webp");
+
+        var result = mockMvc.perform(get(url)
+                .header(HttpHeaders.RANGE, "bytes=2-9")
+                .requestAttr(MediaController.SENDFILE_SUPPORT, true))
+            .andExpect(status().isPartialContent())
+            .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, "8"))
+            .andExpect(content().bytes(new byte[0]))
+            .andReturn();
+
+        var request = result.getRequest();
+        assertThat(request.getAttribute(MediaController.SENDFILE_FILENAME))
+            .isEqualTo(mediaRoot.resolve("honeys/clover.webp").toAbsolutePath().toString());
+        assertThat(request.getAttribute(MediaController.SENDFILE_START)).isEqualTo(2L);
+        assertThat(request.getAttribute(MediaController.SENDFILE_END)).isEqualTo(10L);
+    }
+
+    @Test
+    void headAndMissingAndTraversal() throws Exception {
+        String url = storage.uploadImage(IMAGE, "honeys/sage.webp", "image/webp");
+
+        mockMvc.perform(head(url))
+            .andExpect(status().isOk())
+            .andExpect(header().string(HttpHeaders.CONTENT_LENGTH, String.valueOf(IMAGE.length)))
+            .andExpect(content().bytes(new byte[0]));
+        mockMvc.perform(get("/api/media/honeys/missing.webp")).andExpect(status().isNotFound());
+        mockMvc.perform(get("/api/media/honeys/..%2F..%2Fetc%2Fpasswd")).andExpect(status().isNotFound());
+    }
+}
@@ -0,0 +1,69 @@
+package com.honeyexplorer.controller;
+
+import com.honeyexplorer.cache.DataVersionRegistry;
+import com.honeyexplorer.service.NewsletterTransferService;
+import com.honeyexplorer.service.NewsletterTransferService.Format;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for the export's concurrency cap and per-endpoint timeout.
+ */
+@WebMvcTest(value = NewsletterAdminController.class, properties = {
+    "newsletter.admin.token=secret",
+    "newsletter.transfer.export-timeout-ms=1234"
+})
+@Import(DataVersionRegistry.class)
+class NewsletterAdminControllerTest {
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private NewsletterTransferService transferService;
+
+    @Test
+    void secondConcurrentExport_isRejected() throws Exception {
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(transferService.export(any(), eq(Format.CSV))).thenAnswer(invocation -> {
+            started.countDown();
+            release.await(5, TimeUnit.SECONDS);
+            return 0L;
+        });
+
+        MvcResult first = mockMvc.perform(get("/api/admin/newsletter/subscribers")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+            .andExpect(request().asyncStarted())
+            .andReturn();
+        assertThat(first.getRequest().getAsyncContext().getTimeout()).isEqualTo(1234);
+        assertThat(started.await(5, TimeUnit.SECONDS)).isTrue();
+
+        mockMvc.perform(get("/api/admin/newsletter/subscribers")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+            .andExpect(status().isTooManyRequests());
+
+        release.countDown();
+        mockMvc.perform(asyncDispatch(first)).andExpect(status().isOk());
+        mockMvc.perform(get("/api/admin/newsletter/subscribers")
+                .header(HttpHeaders.AUTHORIZATION, "Bearer secret"))
+            .andExpect(request().asyncStarted());
+    }
+}
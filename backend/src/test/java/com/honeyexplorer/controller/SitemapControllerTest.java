@@ -0,0 +1,92 @@
+package com.honeyexplorer.controller;
+
+import com.honeyexplorer.cache.DataVersionRegistry;
+import com.honeyexplorer.service.SitemapService;
+import com.honeyexplorer.service.SitemapService.SitemapArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.http.HttpHeaders;
+import org.springframework.test.web.servlet.MockMvc;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.util.zip.GZIPOutputStream;
+
+import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.*;
+
+/**
+ * Controller tests for SitemapController conditional GET handling.
+ */
+@WebMvcTest(SitemapController.class)
+@Import(DataVersionRegistry.class)
+class SitemapControllerTest {
+
+    private static final String XML = "<?xml version=\"1.0\" encoding=\"UTF-8\"?>\n<urlset></urlset>";
+    private static final Instant LAST_MODIFIED = Instant.parse("2026-01-15T10:00:00Z");
+
+    @Autowired
+    private MockMvc mockMvc;
+
+    @MockitoBean
+    private SitemapService sitemapService;
+
+    private byte[] gzipped;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(XML.getBytes(StandardCharsets.UTF_8));
+        }
+        gzipped = out.toByteArray();
+        when(sitemapService.current()).thenReturn(new SitemapArtifact(
+            XML.getBytes(StandardCharsets.UTF_8), gzipped, "\"abc123\"", LAST_MODIFIED));
+    }
+
+    @Test
+    void sitemap_returnsXmlWithValidators() throws Exception {
+        mockMvc.perform(get("/sitemap.xml"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(header().exists(HttpHeaders.LAST_MODIFIED))
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(content().string(XML));
+    }
+
+    @Test
+    void sitemap_returnsGzipWhenAccepted() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip, deflate"))
+                .andExpect(status().isOk())
+                .andExpect(header().string(HttpHeaders.CONTENT_ENCODING, "gzip"))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123-gzip\""))
+                .andExpect(content().bytes(gzipped));
+    }
+
+    @Test
+    void sitemap_returnsIdentityWhenGzipIsRefused() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.ACCEPT_ENCODING, "gzip;q=0, identity"))
+                .andExpect(status().isOk())
+                .andExpect(header().doesNotExist(HttpHeaders.CONTENT_ENCODING))
+                .andExpect(header().string(HttpHeaders.ETAG, "\"abc123\""))
+                .andExpect(content().string(XML));
+    }
+
+    @Test
+    void sitemap_returnsNotModifiedForMatchingEtag() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.IF_NONE_MATCH, "\"abc123\""))
+                .andExpect(status().isNotModified());
+    }
+
+    @Test
+    void sitemap_returnsNotModifiedWhenUnchangedSince() throws Exception {
+        mockMvc.perform(get("/sitemap.xml").header(HttpHeaders.IF_MODIFIED_SINCE, "Thu, 15 Jan 2026 10:00:00 GMT"))
+                .andExpect(status().isNotModified());
+    }
+}
@@ -0,0 +1,74 @@
+package com.honeyexplorer.dto;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import com.honeyexplorer.entity.enums.FloralSource;
+import com.honeyexplorer.entity.enums.SourceType;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CompactListTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void honeyLayout_dropsDisplayColumnsAndEncodesEnumsAsIndexes() throws Exception {
+        HoneyDTO honey = new HoneyDTO(UUID.fromString("00000000-0000-0000-0000-000000000001"), "Manuka UMF 10+", null,
+            "MANUKA", "Manuka", "RAW", "Raw", "NEW_ZEALAND", "New Zealand", null, null, null, null,
+            Map.of("image/webp", "a.webp 320w"), "Comvita", new BigDecimal("29.99"), null, null, 10, null,
+            "manuka-umf-10", true, null);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+            CompactList.of(CompactLayout.HONEY, new PageImpl<>(List.of(honey), PageRequest.of(0, 24), 30))));
+
+        List<String> columns = objectMapper.convertValue(json.get("columns"), new TypeReference<List<String>>() {});
+        assertThat(columns).contains("floralSource", "type", "origin", "imageSrcset")
+            .doesNotContain("floralSourceDisplay", "typeDisplay", "originDisplay");
+        assertThat(json.get("dictionaries").get("floralSource")).hasSize(FloralSource.values().length);
+
+        JsonNode row = json.get("rows").get(0);
+        assertThat(row).hasSize(columns.size());
+        int floralSource = row.get(columns.indexOf("floralSource")).asInt();
+        JsonNode option = json.get("dictionaries").get("floralSource").get(floralSource);
+        assertThat(option.get("value").asText()).isEqualTo("MANUKA");
+        assertThat(option.get("displayName").asText()).isEqualTo(FloralSource.MANUKA.getDisplayName());
+        assertThat(row.get(columns.indexOf("name")).asText()).isEqualTo("Manuka UMF 10+");
+        assertThat(row.get(columns.indexOf("priceMin")).decimalValue()).isEqualByComparingTo("29.99");
+        assertThat(row.get(columns.indexOf("imageSrcset")).get("image/webp").asText()).isEqualTo("a.webp 320w");
+
+        assertThat(json.get("page").get("totalElements").asLong()).isEqualTo(30);
+        assertThat(json.get("page").get("totalPages").asInt()).isEqualTo(2);
+    }
+
+    @Test
+    void unknownOrMissingCode_isNull() throws Exception {
+        LocalSourceDTO source = new LocalSourceDTO(null, "Hive", null, null, null, null, null, null, null, null,
+            null, null, null, null, null, null, null, null, null, null, true, "hive", null);
+
+        JsonNode json = objectMapper.readTree(objectMapper.writeValueAsString(
+            CompactList.of(CompactLayout.LOCAL_SOURCE, List.of(source))));
+
+        assertThat(json.has("page")).isFalse();
+        assertThat(json.get("dictionaries").get("sourceType")).hasSize(SourceType.values().length);
+        List<String> columns = CompactLayout.LOCAL_SOURCE.columnNames();
+        assertThat(json.get("rows").get(0).get(columns.indexOf("sourceType")).isNull()).isTrue();
+    }
+
+    @Test
+    void dictionaryForMissingComponent_isRejected() {
+        assertThatThrownBy(() -> CompactLayout.of(LocalSourceDTO.class,
+            CompactLayout.dictionary("kind", "kindDisplay", SourceType.values(), SourceType::getDisplayName)))
+            .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,98 @@
+package com.honeyexplorer.query;
+
+import com.honeyexplorer.config.JpaAuditingConfig;
+import com.honeyexplorer.dto.EventDTO;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.entity.enums.EventType;
+import com.honeyexplorer.entity.enums.SourceType;
+import com.honeyexplorer.repository.EventRepository;
+import com.honeyexplorer.repository.EventSpecification;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static com.honeyexplorer.query.QueryBudget.assertMaxStatements;
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * Guards event browse against N+1 selects on the lazy localSource association.
+ * Schema comes from the entities rather than the PostgreSQL migrations.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop"
+})
+@Import(JpaAuditingConfig.class)
+class EventQueryBudgetTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @BeforeEach
+    void createEventsAcrossSources() {
+        for (int s = 0; s < 4; s++) {
+            LocalSource source = new LocalSource();
+            source.setName("Apiary " + s);
+            source.setSourceType(SourceType.BEEKEEPER);
+            source.setAddress(s + " Hive Lane");
+            source.setLatitude(30.0 + s);
+            source.setLongitude(-97.0);
+            source.setSlug("apiary-" + s);
+            entityManager.persist(source);
+            for (int e = 0; e < 2; e++) {
+                Event event = new Event();
+                event.setName("Market " + s + "-" + e);
+                event.setEventType(EventType.values()[0]);
+                event.setStartDate(LocalDate.now().plusDays(s * 2 + e));
+                event.setAddress(s + " Hive Lane");
+                event.setState("TX");
+                event.setSlug("market-" + s + "-" + e);
+                event.setLocalSource(source);
+                entityManager.persist(event);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+        entityManager.getEntityManager().getEntityManagerFactory().getCache().evictAll();
+    }
+
+    @Test
+    void browsePageFetchesLocalSourcesWithEvents() {
+        List<EventDTO> events = assertMaxStatements(2, () -> eventRepository.findAll(
+                EventSpecification.withFilters(null, null, null, null, null, true),
+                PageRequest.of(0, 6, Sort.by("startDate")))
+            .map(EventDTO::from)
+            .getContent());
+
+        assertThat(events).hasSize(6).allSatisfy(event -> assertThat(event.localSourceName()).startsWith("Apiary"));
+    }
+
+    @Test
+    void upcomingAndStateFindersUseOneStatement() {
+        assertMaxStatements(1, () -> eventRepository.findUpcoming(LocalDate.now()).stream().map(EventDTO::from).toList());
+        assertMaxStatements(1, () -> eventRepository.findByStateAndIsActiveTrue("TX").stream().map(EventDTO::from).toList());
+    }
+
+    @Test
+    void budgetFailureListsRepeatedStatements() {
+        assertThatThrownBy(() -> assertMaxStatements(1, () -> eventRepository.findAll().stream()
+                .map(EventDTO::from)
+                .toList()))
+            .isInstanceOf(AssertionError.class)
+            .hasMessageContaining("SQL statements but 5 ran")
+            .hasMessageContaining("4x select");
+    }
+}
@@ -0,0 +1,27 @@
+package com.honeyexplorer.query;
+
+import java.util.function.Supplier;
+
+/**
+ * Test assertions on the number of SQL statements a block of code prepares.
+ * Flush and clear the persistence context (and evict the second-level cache)
+ * beforehand, or lazy loads are served without touching the database.
+ */
+public final class QueryBudget {
+
+    private QueryBudget() {}
+
+    /**
+     * Run the action and fail if it prepares more than {@code maxStatements} statements.
+     */
+    public static <T> T assertMaxStatements(int maxStatements, Supplier<T> action) {
+        try (QueryRecording recording = QueryRecording.start()) {
+            T result = action.get();
+            if (recording.count() > maxStatements) {
+                throw new AssertionError(String.format("Expected at most %d SQL statements but %d ran:%n%s",
+                    maxStatements, recording.count(), recording.summary()));
+            }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package com.honeyexplorer.repository;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Insert-if-absent against H2, using the same MERGE path as the dev profile.
+ */
+class NewsletterSubscriptionWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private NewsletterSubscriptionWriterImpl writer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource(
+            "jdbc:h2:mem:newsletter-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("""
+            CREATE TABLE newsletter_subscriptions (
+                id UUID PRIMARY KEY,
+                email VARCHAR(255) NOT NULL UNIQUE,
+                confirmed BOOLEAN NOT NULL DEFAULT FALSE,
+                subscribed_at TIMESTAMP,
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL,
+                last_verified_at TIMESTAMP,
+                verification_source VARCHAR(255),
+                is_verified BOOLEAN DEFAULT FALSE
+            )""");
+        writer = new NewsletterSubscriptionWriterImpl(jdbcTemplate);
+    }
+
+    @Test
+    void insertIfAbsent_insertsOnlyOnce() {
+        assertThat(writer.insertIfAbsent("bee@example.com")).isTrue();
+        assertThat(writer.insertIfAbsent("bee@example.com")).isFalse();
+        assertThat(writer.insertIfAbsent("wasp@example.com")).isTrue();
+
+        List<String> emails = new ArrayList<>();
+        writer.forEachEmail(emails::add);
+        assertThat(emails).containsExactlyInAnyOrder("bee@example.com", "wasp@example.com");
+    }
+
+    @Test
+    void concurrentSignupsForSameEmail_insertExactlyOneRow() throws Exception {
+        List<Callable<Boolean>> signups = new ArrayList<>();
+        for (int i = 0; i < 16; i++) {
+            signups.add(() -> writer.insertIfAbsent("race@example.com"));
+        }
+
+        int inserted = 0;
+        try (ExecutorService executor = Executors.newFixedThreadPool(8)) {
+            for (Future<Boolean> result : executor.invokeAll(signups)) {
+                inserted += result.get() ? 1 : 0;
+            }
+        }
+
+        assertThat(inserted).isEqualTo(1);
+        assertThat(jdbcTemplate.queryForObject(
+            "SELECT COUNT(*) FROM newsletter_subscriptions", Integer.class)).isEqualTo(1);
+    }
+}
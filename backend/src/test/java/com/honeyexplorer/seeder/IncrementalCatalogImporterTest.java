@@ -0,0 +1,120 @@
+package com.honeyexplorer.seeder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.seeder.IncrementalCatalogImporter.ImportReport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.core.io.FileSystemResource;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class IncrementalCatalogImporterTest {
+
+    @TempDir
+    Path dir;
+
+    private JdbcTemplate jdbcTemplate;
+    private IncrementalCatalogImporter importer;
+    private Path honeysFile;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:import-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE honeys (
+                id UUID PRIMARY KEY,
+                slug VARCHAR(255) UNIQUE,
+                name VARCHAR(255) NOT NULL,
+                description TEXT,
+                floral_source VARCHAR(50) NOT NULL,
+                type VARCHAR(50) NOT NULL,
+                origin VARCHAR(50) NOT NULL,
+                region VARCHAR(255),
+                flavor_profiles TEXT,
+                image_url VARCHAR(500),
+                thumbnail_url VARCHAR(500),
+                brand VARCHAR(255),
+                price_min DECIMAL(10, 2),
+                price_max DECIMAL(10, 2),
+                certifications TEXT,
+                umf_rating INTEGER,
+                mgo_rating INTEGER,
+                featured BOOLEAN,
+                purchase_url VARCHAR(500),
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL,
+                last_verified_at TIMESTAMP,
+                verification_source VARCHAR(100),
+                is_verified BOOLEAN,
+                content_hash VARCHAR(64)
+            )""");
+
+        honeysFile = dir.resolve("honeys.json");
+        BulkSeedWriter bulkSeedWriter = mock(BulkSeedWriter.class);
+        when(bulkSeedWriter.resolve("honeys.json")).thenReturn(new FileSystemResource(honeysFile));
+        importer = new IncrementalCatalogImporter(
+            jdbcTemplate, new DataSourceTransactionManager(dataSource), new ObjectMapper(), bulkSeedWriter);
+        ReflectionTestUtils.setField(importer, "batchSize", 2);
+    }
+
+    @Test
+    void importHoneys_insertsThenUpdatesOnlyChangedRows() throws Exception {
+        writeHoneys(honey("clover", "Clover Honey", "9.99"), honey("manuka", "Manuka Honey", "39.00"),
+            honey("acacia", "Acacia Honey", "12.50"));
+
+        assertThat(importer.importHoneys()).isEqualTo(new ImportReport("honeys", 3, 0, 0));
+        assertThat(count()).isEqualTo(3);
+        UUID cloverId = jdbcTemplate.queryForObject("SELECT id FROM honeys WHERE slug = 'clover'", UUID.class);
+        String acaciaHash = hash("acacia");
+
+        // Same content at a different scale is unchanged; a new price is a change
+        writeHoneys(honey("clover", "Clover Honey", "9.990"), honey("manuka", "Manuka Honey", "42.00"),
+            honey("acacia", "Acacia Honey", "12.50"), honey("tupelo", "Tupelo Honey", "18.00"));
+
+        assertThat(importer.importHoneys()).isEqualTo(new ImportReport("honeys", 1, 1, 2));
+        assertThat(count()).isEqualTo(4);
+        assertThat(jdbcTemplate.queryForObject("SELECT price_min FROM honeys WHERE slug = 'manuka'", String.class))
+            .isEqualTo("42.00");
+        assertThat(jdbcTemplate.queryForObject("SELECT id FROM honeys WHERE slug = 'clover'", UUID.class))
+            .isEqualTo(cloverId);
+        assertThat(hash("acacia")).isEqualTo(acaciaHash);
+
+        // A row edited outside the importer has no hash and is rewritten from the feed
+        jdbcTemplate.update("UPDATE honeys SET name = 'Edited', content_hash = NULL WHERE slug = 'acacia'");
+        assertThat(importer.importHoneys()).isEqualTo(new ImportReport("honeys", 0, 1, 3));
+        assertThat(jdbcTemplate.queryForObject("SELECT name FROM honeys WHERE slug = 'acacia'", String.class))
+            .isEqualTo("Acacia Honey");
+        assertThat(hash("acacia")).isEqualTo(acaciaHash);
+    }
+
+    private void writeHoneys(String... honeys) throws Exception {
+        Files.writeString(honeysFile, "[" + String.join(",", honeys) + "]");
+    }
+
+    private static String honey(String slug, String name, String priceMin) {
+        return """
+            {"slug": "%s", "name": "%s", "floralSource": "CLOVER", "type": "RAW", "origin": "USA", "priceMin": %s}
+            """.formatted(slug, name, priceMin);
+    }
+
+    private int count() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM honeys", Integer.class);
+    }
+
+    private String hash(String slug) {
+        return jdbcTemplate.queryForObject("SELECT content_hash FROM honeys WHERE slug = ?", String.class, slug);
+    }
+}
@@ -0,0 +1,58 @@
+package com.honeyexplorer.seeder;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class SeedJsonReaderTest {
+
+    private final ObjectMapper objectMapper = new ObjectMapper().registerModule(new JavaTimeModule());
+
+    @Test
+    void forEach_streamsEveryRecordInArray() throws IOException {
+        String json = """
+            [
+              {"name": "Clover Honey", "floralSource": "CLOVER", "type": "RAW", "origin": "USA", "slug": "clover"},
+              {"name": "Manuka Honey", "floralSource": "MANUKA", "type": "RAW", "origin": "NEW_ZEALAND", "featured": true}
+            ]
+            """;
+        List<HoneySeedDto> records = new ArrayList<>();
+
+        int count = SeedJsonReader.forEach(objectMapper, stream(json), HoneySeedDto.class, records::add);
+
+        assertThat(count).isEqualTo(2);
+        assertThat(records).extracting(HoneySeedDto::name).containsExactly("Clover Honey", "Manuka Honey");
+        assertThat(records.get(1).isFeatured()).isTrue();
+    }
+
+    @Test
+    void forEach_readsBundledSeedFiles() throws IOException {
+        try (InputStream events = getClass().getResourceAsStream("/seed-data/events.json")) {
+            int count = SeedJsonReader.forEach(objectMapper, events, EventSeedDto.class, dto -> {
+                assertThat(dto.name()).isNotBlank();
+                assertThat(dto.startDate()).isNotNull();
+            });
+            assertThat(count).isPositive();
+        }
+    }
+
+    @Test
+    void forEach_rejectsNonArrayInput() {
+        assertThatThrownBy(() -> SeedJsonReader.forEach(objectMapper, stream("{\"name\": \"x\"}"), HoneySeedDto.class, dto -> {}))
+            .isInstanceOf(IOException.class);
+    }
+
+    private static InputStream stream(String json) {
+        return new ByteArrayInputStream(json.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,108 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.config.R2ClientConfig;
+import com.honeyexplorer.image.ImageDerivatives;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.assertj.core.api.Assertions.entry;
+
+class ImageDerivativeServiceTest {
+
+    private static final String BUCKET_NAME = "test-bucket";
+    private static final String PUBLIC_URL = "https://cdn.example.com";
+
+    @TempDir
+    Path tempDir;
+
+    private S3Stub stub;
+    private S3AsyncClient asyncClient;
+    private ImageDerivativeService derivativeService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new S3Stub(0);
+        asyncClient = R2ClientConfig.asyncClient(stub.endpoint(), "access", "secret", 4, 8 << 20, 16 << 20);
+        ImageStorageService storageService = new ImageStorageService(null, asyncClient);
+        ReflectionTestUtils.setField(storageService, "bucketName", BUCKET_NAME);
+        ReflectionTestUtils.setField(storageService, "publicUrl", PUBLIC_URL);
+        ReflectionTestUtils.setField(storageService, "maxConcurrency", 4);
+
+        // Stand-in encoders: copy the resized PNG so the stored derivative can be inspected
+        derivativeService = new ImageDerivativeService(storageService, null, null, null, 2, 10,
+            "cp {in} {out}", "cp {in} {out}", "false");
+    }
+
+    @AfterEach
+    void tearDown() {
+        derivativeService.shutdown();
+        asyncClient.close();
+        stub.close();
+    }
+
+    @Test
+    void generate_storesEachLadderWidthThatFitsInEachFormat() throws Exception {
+        Path original = image("manuka.png", 700, 350);
+
+        List<Integer> widths = derivativeService.generate(original, "honeys/manuka.png").get(30, TimeUnit.SECONDS);
+
+        assertThat(widths).containsExactly(160, 320, 640);
+        for (int width : widths) {
+            for (ImageDerivatives.Format format : ImageDerivatives.Format.values()) {
+                byte[] stored = stub.object(BUCKET_NAME, ImageDerivatives.key("honeys/manuka.png", width, format));
+                BufferedImage derivative = ImageIO.read(new ByteArrayInputStream(stored));
+                assertThat(derivative.getWidth()).isEqualTo(width);
+                assertThat(derivative.getHeight()).isEqualTo(width / 2);
+            }
+        }
+        assertThat(stub.object(BUCKET_NAME, "honeys/manuka-1280w.webp")).isNull();
+    }
+
+    @Test
+    void generate_failsWhenTheOriginalCannotBeDecoded() throws IOException {
+        Path original = Files.writeString(tempDir.resolve("broken.webp"), "not an image");
+
+        assertThatThrownBy(() -> derivativeService.generate(original, "honeys/broken.webp").get(30, TimeUnit.SECONDS))
+            .isInstanceOf(ExecutionException.class)
+            .hasStackTraceContaining("false exited with 1");
+    }
+
+    @Test
+    void srcset_listsDerivativeUrlsPerFormat() {
+        assertThat(ImageDerivatives.srcset(PUBLIC_URL + "/honeys/manuka.webp", "160,320"))
+            .containsExactly(
+                entry("image/avif",
+                    PUBLIC_URL + "/honeys/manuka-160w.avif 160w, " + PUBLIC_URL + "/honeys/manuka-320w.avif 320w"),
+                entry("image/webp",
+                    PUBLIC_URL + "/honeys/manuka-160w.webp 160w, " + PUBLIC_URL + "/honeys/manuka-320w.webp 320w"));
+        assertThat(ImageDerivatives.srcset(PUBLIC_URL + "/honeys/manuka.webp", null)).isEmpty();
+    }
+
+    private Path image(String name, int width, int height) throws IOException {
+        BufferedImage image = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        for (int x = 0; x < width; x++) {
+            for (int y = 0; y < height; y++) {
+                image.setRGB(x, y, (x * 255 / width) << 16 | (y * 255 / height) << 8);
+            }
+        }
+        Path file = tempDir.resolve(name);
+        ImageIO.write(image, "png", file.toFile());
+        return file;
+    }
+}
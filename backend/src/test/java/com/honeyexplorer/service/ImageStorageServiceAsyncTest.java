@@ -0,0 +1,155 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.config.R2ClientConfig;
+import com.honeyexplorer.service.ImageStorage.ImageUpload;
+import com.honeyexplorer.service.ImageStorage.StoredImage;
+import com.honeyexplorer.service.ImageStorage.UploadResult;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.test.util.ReflectionTestUtils;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
+import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ImageStorageServiceAsyncTest {
+
+    private static final String BUCKET_NAME = "test-bucket";
+    private static final String PUBLIC_URL = "https://cdn.example.com";
+    private static final long MB = 1024 * 1024;
+    private static final int MAX_CONCURRENCY = 3;
+
+    @TempDir
+    Path tempDir;
+
+    private S3Stub stub;
+    private S3Client client;
+    private S3AsyncClient asyncClient;
+    private ImageStorageService imageStorageService;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        stub = new S3Stub(50);
+        client = R2ClientConfig.client(stub.endpoint(), "access", "secret");
+        asyncClient = R2ClientConfig.asyncClient(stub.endpoint(), "access", "secret", MAX_CONCURRENCY, 5 * MB, 8 * MB);
+        imageStorageService = newService();
+    }
+
+    private ImageStorageService newService() {
+        ImageStorageService service = new ImageStorageService(client, asyncClient);
+        ReflectionTestUtils.setField(service, "bucketName", BUCKET_NAME);
+        ReflectionTestUtils.setField(service, "publicUrl", PUBLIC_URL);
+        ReflectionTestUtils.setField(service, "maxConcurrency", MAX_CONCURRENCY);
+        return service;
+    }
+
+    @AfterEach
+    void tearDown() {
+        client.close();
+        asyncClient.close();
+        stub.close();
+    }
+
+    @Test
+    void uploadImageAsync_smallFile_storesObjectAndReturnsCdnUrl() throws Exception {
+        Path file = randomFile("manuka.webp", 64 * 1024);
+
+        String url = imageStorageService.uploadImageAsync(file, "honeys/manuka.webp", "image/webp")
+                .get(10, TimeUnit.SECONDS);
+
+        assertThat(url).isEqualTo(PUBLIC_URL + "/honeys/manuka.webp");
+        assertThat(stub.object(BUCKET_NAME, "honeys/manuka.webp")).isEqualTo(Files.readAllBytes(file));
+        assertThat(stub.partRequests()).isZero();
+    }
+
+    @Test
+    void uploadImageAsync_largeFile_usesMultipartUpload() throws Exception {
+        Path file = randomFile("hero.avif", (int) (12 * MB));
+
+        imageStorageService.uploadImageAsync(file, "cities/hero.avif", "image/avif").get(30, TimeUnit.SECONDS);
+
+        assertThat(stub.partRequests()).isEqualTo(3);
+        assertThat(stub.object(BUCKET_NAME, "cities/hero.avif")).isEqualTo(Files.readAllBytes(file));
+    }
+
+    @Test
+    void uploadImagesAsync_boundsConcurrencyAndReportsEachObject() throws Exception {
+        List<ImageUpload> uploads = new ArrayList<>();
+        for (int i = 0; i < 12; i++) {
+            uploads.add(new ImageUpload(randomFile("honey-" + i + ".webp", 16 * 1024), "honeys/honey-" + i + ".webp", "image/webp"));
+        }
+        uploads.add(5, new ImageUpload(randomFile("denied.webp", 1024), "honeys/denied.webp", "image/webp"));
+        uploads.add(new ImageUpload(tempDir.resolve("missing.webp"), "honeys/missing.webp", "image/webp"));
+
+        List<UploadResult> results = imageStorageService.uploadImagesAsync(uploads).get(30, TimeUnit.SECONDS);
+
+        assertThat(results).extracting(UploadResult::key).containsExactlyElementsOf(
+                uploads.stream().map(ImageUpload::key).toList());
+        assertThat(results).filteredOn(UploadResult::succeeded).hasSize(12)
+                .allSatisfy(result -> {
+                    assertThat(result.url()).isEqualTo(PUBLIC_URL + "/" + result.key());
+                    assertThat(result.bytes()).isEqualTo(16 * 1024);
+                });
+        assertThat(results.get(5).error()).isInstanceOf(S3Exception.class);
+        assertThat(results.get(13).succeeded()).isFalse();
+        assertThat(stub.maxInFlight()).isLessThanOrEqualTo(MAX_CONCURRENCY);
+    }
+
+    @Test
+    void storeImage_identicalBytes_uploadOnceUnderDigestKey() throws Exception {
+        byte[] data = Files.readAllBytes(randomFile("clover.webp", 32 * 1024));
+        String expectedKey = "honeys/" + HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(data)) + ".webp";
+
+        StoredImage first = imageStorageService.storeImage(data, "honeys", "image/webp");
+        StoredImage repeated = imageStorageService.storeImage(data, "honeys", "image/webp");
+        // A fresh instance has an empty digest index, so it has to ask the bucket
+        StoredImage afterRestart = newService().storeImage(data, "honeys", "image/webp");
+
+        assertThat(first.key()).isEqualTo(expectedKey);
+        assertThat(first.url()).isEqualTo(PUBLIC_URL + "/" + expectedKey);
+        assertThat(first.uploaded()).isTrue();
+        assertThat(repeated).isEqualTo(new StoredImage(expectedKey, first.url(), false));
+        assertThat(afterRestart).isEqualTo(new StoredImage(expectedKey, first.url(), false));
+        assertThat(stub.putRequests()).isEqualTo(1);
+        assertThat(stub.object(BUCKET_NAME, expectedKey)).isEqualTo(data);
+    }
+
+    @Test
+    void storeImageAsync_fileAndStreamOfSameContent_shareOneObject() throws Exception {
+        Path file = randomFile("sage.webp", 48 * 1024);
+
+        StoredImage fromFile = imageStorageService.storeImageAsync(file, "sources", "image/webp").get(10, TimeUnit.SECONDS);
+        StoredImage fromStream;
+        try (InputStream in = Files.newInputStream(file)) {
+            fromStream = newService().storeImage(in, "sources", "image/webp");
+        }
+        Path changed = randomFile("sage-v2.webp", 48 * 1024 + 1);
+        StoredImage changedImage = imageStorageService.storeImageAsync(changed, "sources", "image/webp").get(10, TimeUnit.SECONDS);
+
+        assertThat(fromFile.uploaded()).isTrue();
+        assertThat(fromStream).isEqualTo(new StoredImage(fromFile.key(), fromFile.url(), false));
+        assertThat(changedImage.uploaded()).isTrue();
+        assertThat(changedImage.key()).isNotEqualTo(fromFile.key());
+        assertThat(stub.putRequests()).isEqualTo(2);
+    }
+
+    private Path randomFile(String name, int size) throws IOException {
+        byte[] bytes = new byte[size];
+        new Random(size).nextBytes(bytes);
+        return Files.write(tempDir.resolve(name), bytes);
+    }
+}
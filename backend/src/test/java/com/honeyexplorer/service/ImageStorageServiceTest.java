@@ -8,6 +8,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.test.util.ReflectionTestUtils;
 import software.amazon.awssdk.core.sync.RequestBody;
+import software.amazon.awssdk.services.s3.S3AsyncClient;
 import software.amazon.awssdk.services.s3.S3Client;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
@@ -26,6 +27,9 @@ class ImageStorageServiceTest {
     @Mock
     private S3Client r2Client;
 
+    @Mock
+    private S3AsyncClient r2AsyncClient;
+
     private ImageStorageService imageStorageService;
 
     private static final String BUCKET_NAME = "test-bucket";
@@ -33,7 +37,7 @@ class ImageStorageServiceTest {
 
     @BeforeEach
     void setUp() {
-        imageStorageService = new ImageStorageService(r2Client);
+        imageStorageService = new ImageStorageService(r2Client, r2AsyncClient);
         ReflectionTestUtils.setField(imageStorageService, "bucketName", BUCKET_NAME);
         ReflectionTestUtils.setField(imageStorageService, "publicUrl", PUBLIC_URL);
     }
@@ -0,0 +1,73 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.cache.BloomFilter;
+import com.honeyexplorer.repository.NewsletterRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.support.StaticListableBeanFactory;
+
+import java.util.function.Consumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+class NewsletterServiceTest {
+
+    private final NewsletterRepository repository = mock(NewsletterRepository.class);
+    private final NewsletterService service = new NewsletterService(
+        repository, new StaticListableBeanFactory().getBeanProvider(NewsletterSignupBuffer.class), 1000, 1e-6);
+
+    @Test
+    void repeatSubmission_isAnsweredWithoutTheDatabase() {
+        when(repository.insertIfAbsent("bee@example.com")).thenReturn(true);
+
+        assertThat(service.subscribe("  Bee@Example.com ")).isTrue();
+        assertThat(service.subscribe("bee@example.com")).isFalse();
+        assertThat(service.subscribe("BEE@EXAMPLE.COM")).isFalse();
+
+        verify(repository, times(1)).insertIfAbsent(any());
+    }
+
+    @Test
+    void addressSubscribedElsewhere_fallsThroughToInsertOnce() {
+        when(repository.insertIfAbsent("hive@example.com")).thenReturn(false);
+
+        assertThat(service.subscribe("hive@example.com")).isFalse();
+        assertThat(service.subscribe("hive@example.com")).isFalse();
+
+        verify(repository, times(1)).insertIfAbsent("hive@example.com");
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void loadedSubscribers_areRecognised() {
+        doAnswer(invocation -> {
+            Consumer<String> action = invocation.getArgument(0);
+            action.accept("comb@example.com");
+            return null;
+        }).when(repository).forEachEmail(any(Consumer.class));
+
+        service.loadSubscribersNow();
+
+        assertThat(service.subscribe("comb@example.com")).isFalse();
+        verify(repository, never()).insertIfAbsent(any());
+    }
+
+    @Test
+    void bloomFilter_hasNoFalseNegativesAndFewFalsePositives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            filter.add("member-" + i + "@example.com");
+        }
+        int falsePositives = 0;
+        for (int i = 0; i < 10_000; i++) {
+            assertThat(filter.mightContain("member-" + i + "@example.com")).isTrue();
+            falsePositives += filter.mightContain("stranger-" + i + "@example.com") ? 1 : 0;
+        }
+
+        assertThat(falsePositives).isLessThan(200);
+        assertThat(filter.saturated()).isFalse();
+        filter.add("one-too-many@example.com");
+        assertThat(filter.saturated()).isTrue();
+    }
+}
@@ -0,0 +1,134 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.repository.NewsletterRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.QueryTimeoutException;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class NewsletterSignupBufferTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void signupsAreBatchedAndLogIsTruncatedOnceFlushed() throws Exception {
+        NewsletterRepository repository = mock(NewsletterRepository.class);
+        List<String> inserted = recordInserts(repository);
+        Path logPath = dir.resolve("signups.log");
+        NewsletterSignupBuffer buffer = new NewsletterSignupBuffer(repository, logPath, 200, 100, false);
+        buffer.start();
+
+        for (int i = 0; i < 5; i++) {
+            buffer.enqueue("bee" + i + "@example.com");
+        }
+        awaitFlushed(buffer);
+
+        verify(repository, times(1)).insertAllIfAbsent(anyList());
+        assertThat(inserted).containsExactly(
+            "bee0@example.com", "bee1@example.com", "bee2@example.com", "bee3@example.com", "bee4@example.com");
+        awaitEmpty(logPath);
+        buffer.shutdown();
+    }
+
+    @Test
+    void unflushedSignupsAreReplayedAfterRestart() throws Exception {
+        NewsletterRepository down = mock(NewsletterRepository.class);
+        when(down.insertAllIfAbsent(anyList())).thenThrow(new QueryTimeoutException("database down"));
+        Path logPath = dir.resolve("signups.log");
+        NewsletterSignupBuffer first = new NewsletterSignupBuffer(down, logPath, 50, 100, false);
+        first.start();
+        first.enqueue("queen@example.com");
+        first.enqueue("drone@example.com");
+        first.shutdown();
+        // A crash mid-append leaves a torn final line
+        Files.writeString(logPath, "worker@exa", StandardOpenOption.APPEND);
+
+        NewsletterRepository up = mock(NewsletterRepository.class);
+        List<String> inserted = recordInserts(up);
+        NewsletterSignupBuffer second = new NewsletterSignupBuffer(up, logPath, 50, 100, false);
+        second.start();
+        awaitFlushed(second);
+
+        assertThat(inserted).containsExactly("queen@example.com", "drone@example.com");
+        awaitEmpty(logPath);
+        second.shutdown();
+    }
+
+    @Test
+    void batchCutOffBeforeItsCheckpointIsReplayedAfterRestart() throws Exception {
+        NewsletterRepository dying = mock(NewsletterRepository.class);
+        List<String> insertedBeforeCrash = new ArrayList<>();
+        CountDownLatch killed = new CountDownLatch(1);
+        when(dying.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            insertedBeforeCrash.addAll(invocation.getArgument(0));
+            killed.countDown();
+            // Not a DataAccessException: the flusher dies between the insert and its checkpoint
+            throw new IllegalStateException("killed");
+        });
+        Path logPath = dir.resolve("signups.log");
+        NewsletterSignupBuffer first = new NewsletterSignupBuffer(dying, logPath, 50, 100, false);
+        first.start();
+        first.enqueue("queen@example.com");
+        first.enqueue("drone@example.com");
+        assertThat(killed.await(5, TimeUnit.SECONDS)).isTrue();
+        first.enqueue("worker@example.com");
+        // No shutdown: the process is gone
+
+        NewsletterRepository up = mock(NewsletterRepository.class);
+        List<String> inserted = recordInserts(up);
+        NewsletterSignupBuffer second = new NewsletterSignupBuffer(up, logPath, 50, 100, false);
+        second.start();
+        awaitFlushed(second);
+
+        assertThat(insertedBeforeCrash).isNotEmpty();
+        assertThat(inserted).containsExactly("queen@example.com", "drone@example.com", "worker@example.com");
+        awaitEmpty(logPath);
+        second.shutdown();
+    }
+
+    @Test
+    void relativePath_isRefusedWhenAnAbsoluteOneIsRequired() {
+        NewsletterRepository repository = mock(NewsletterRepository.class);
+
+        assertThatThrownBy(() -> new NewsletterSignupBuffer(
+            repository, Path.of("journal/newsletter-signups.log"), 50, 100, true))
+            .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static List<String> recordInserts(NewsletterRepository repository) {
+        List<String> inserted = new ArrayList<>();
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<String> emails = invocation.getArgument(0);
+            inserted.addAll(emails);
+            return emails.size();
+        });
+        return inserted;
+    }
+
+    private static void awaitFlushed(NewsletterSignupBuffer buffer) throws InterruptedException {
+        for (int i = 0; i < 100 && buffer.pending() > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(buffer.pending()).isZero();
+    }
+
+    private static void awaitEmpty(Path logPath) throws Exception {
+        for (int i = 0; i < 100 && Files.size(logPath) > 0; i++) {
+            Thread.sleep(20);
+        }
+        assertThat(Files.size(logPath)).isZero();
+    }
+}
@@ -0,0 +1,112 @@
+package com.honeyexplorer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.dto.SubscriberImportResult;
+import com.honeyexplorer.repository.NewsletterRepository;
+import com.honeyexplorer.service.NewsletterTransferService.Format;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+class NewsletterTransferServiceTest {
+
+    private final NewsletterRepository repository = mock(NewsletterRepository.class);
+    private final List<List<String>> batches = new ArrayList<>();
+    private JdbcTemplate jdbcTemplate;
+    private NewsletterTransferService service;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:transfer-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("""
+            CREATE TABLE newsletter_subscriptions (
+                id UUID PRIMARY KEY,
+                email VARCHAR(255) NOT NULL UNIQUE,
+                confirmed BOOLEAN NOT NULL DEFAULT FALSE,
+                subscribed_at TIMESTAMP,
+                created_at TIMESTAMP NOT NULL,
+                updated_at TIMESTAMP NOT NULL
+            )""");
+        service = new NewsletterTransferService(repository, new ObjectMapper(),
+            dataSource, new DataSourceTransactionManager(dataSource), 2);
+
+        // Every email counts as new except ones already "in the database"
+        when(repository.insertAllIfAbsent(anyList())).thenAnswer(invocation -> {
+            List<String> emails = invocation.getArgument(0);
+            batches.add(emails);
+            return (int) emails.stream().filter(e -> !e.equals("existing@example.com")).count();
+        });
+    }
+
+    @Test
+    void export_streamsCsvAndNdjson() throws Exception {
+        jdbcTemplate.update("INSERT INTO newsletter_subscriptions VALUES "
+            + "(RANDOM_UUID(), 'a@example.com', TRUE, TIMESTAMP '2026-01-02 03:04:05', TIMESTAMP '2026-01-02 03:04:05', NOW()), "
+            + "(RANDOM_UUID(), 'b@example.com', FALSE, NULL, TIMESTAMP '2026-02-03 04:05:06', NOW())");
+
+        ByteArrayOutputStream csv = new ByteArrayOutputStream();
+        assertThat(service.export(csv, Format.CSV)).isEqualTo(2);
+        assertThat(csv.toString(StandardCharsets.UTF_8)).isEqualTo("""
+            email,confirmed,subscribed_at,created_at
+            a@example.com,true,2026-01-02T03:04:05,2026-01-02T03:04:05
+            b@example.com,false,,2026-02-03T04:05:06
+            """);
+
+        ByteArrayOutputStream ndjson = new ByteArrayOutputStream();
+        service.export(ndjson, Format.NDJSON);
+        assertThat(ndjson.toString(StandardCharsets.UTF_8)).isEqualTo("""
+            {"email":"a@example.com","confirmed":true,"subscribedAt":"2026-01-02T03:04:05","createdAt":"2026-01-02T03:04:05"}
+            {"email":"b@example.com","confirmed":false,"subscribedAt":null,"createdAt":"2026-02-03T04:05:06"}
+            """);
+    }
+
+    @Test
+    void importCsv_dedupesWithinBatchesAndCountsOutcomes() throws Exception {
+        String upload = """
+            name,email
+            Ann,Ann@Example.com
+            Ann again,ann@example.com
+            "Smith, Bo",bo@example.com
+            Nobody,not-an-email
+            Old,existing@example.com
+            """;
+
+        SubscriberImportResult result = service.importFrom(
+            new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), Format.CSV);
+
+        assertThat(batches).containsExactly(
+            List.of("ann@example.com", "bo@example.com"),
+            List.of("existing@example.com"));
+        assertThat(result).isEqualTo(new SubscriberImportResult(5, 2, 2, 1));
+    }
+
+    @Test
+    void importNdjson_readsEmailField() throws Exception {
+        String upload = """
+            {"email":"c@example.com"}
+            {"name":"no email"}
+            not json
+            """;
+
+        SubscriberImportResult result = service.importFrom(
+            new ByteArrayInputStream(upload.getBytes(StandardCharsets.UTF_8)), Format.NDJSON);
+
+        assertThat(batches).containsExactly(List.of("c@example.com"));
+        assertThat(result).isEqualTo(new SubscriberImportResult(3, 1, 0, 2));
+    }
+}
@@ -0,0 +1,195 @@
+package com.honeyexplorer.service;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Minimal in-process S3-compatible server for upload tests: path-style PutObject,
+ * HeadObject and the multipart upload calls, objects kept in memory.
+ *
+ * Keys containing "denied" are rejected with 403. Every request is held for
+ * latencyMillis so concurrent uploads overlap and can be counted.
+ */
+class S3Stub implements AutoCloseable {
+
+    private final HttpServer server;
+    private final long latencyMillis;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> uploads = new ConcurrentHashMap<>();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final AtomicInteger maxInFlight = new AtomicInteger();
+    private final AtomicInteger partRequests = new AtomicInteger();
+    private final AtomicInteger putRequests = new AtomicInteger();
+
+    S3Stub(long latencyMillis) throws IOException {
+        this.latencyMillis = latencyMillis;
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.setExecutor(Executors.newVirtualThreadPerTaskExecutor());
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    URI endpoint() {
+        return URI.create("http://127.0.0.1:" + server.getAddress().getPort());
+    }
+
+    byte[] object(String bucket, String key) {
+        return objects.get(bucket + "/" + key);
+    }
+
+    int maxInFlight() {
+        return maxInFlight.get();
+    }
+
+    int partRequests() {
+        return partRequests.get();
+    }
+
+    int putRequests() {
+        return putRequests.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        int current = inFlight.incrementAndGet();
+        maxInFlight.accumulateAndGet(current, Math::max);
+        try {
+            Thread.sleep(latencyMillis);
+            route(exchange);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            respond(exchange, 500, "");
+        } finally {
+            inFlight.decrementAndGet();
+            exchange.close();
+        }
+    }
+
+    private void route(HttpExchange exchange) throws IOException {
+        String path = exchange.getRequestURI().getPath().substring(1);
+        String query = exchange.getRequestURI().getRawQuery();
+        Map<String, String> params = params(query);
+        byte[] body = body(exchange);
+
+        if (path.contains("denied")) {
+            respond(exchange, 403, "<Error><Code>AccessDenied</Code><Message>Access Denied</Message></Error>");
+            return;
+        }
+        String method = exchange.getRequestMethod();
+        if (method.equals("PUT") && params.containsKey("partNumber")) {
+            partRequests.incrementAndGet();
+            uploads.get(params.get("uploadId")).put(Integer.parseInt(params.get("partNumber")), body);
+            exchange.getResponseHeaders().add("ETag", "\"" + UUID.randomUUID() + "\"");
+            respond(exchange, 200, "");
+        } else if (method.equals("PUT")) {
+            putRequests.incrementAndGet();
+            objects.put(path, body);
+            exchange.getResponseHeaders().add("ETag", "\"" + UUID.randomUUID() + "\"");
+            respond(exchange, 200, "");
+        } else if (method.equals("HEAD")) {
+            byte[] object = objects.get(path);
+            if (object == null) {
+                exchange.sendResponseHeaders(404, -1);
+            } else {
+                exchange.getResponseHeaders().add("Content-Length", String.valueOf(object.length));
+                exchange.sendResponseHeaders(200, -1);
+            }
+        } else if (method.equals("POST") && params.containsKey("uploads")) {
+            String uploadId = UUID.randomUUID().toString();
+            uploads.put(uploadId, new TreeMap<>());
+            String[] bucketAndKey = path.split("/", 2);
+            respond(exchange, 200, "<InitiateMultipartUploadResult><Bucket>" + bucketAndKey[0] + "</Bucket><Key>"
+                + bucketAndKey[1] + "</Key><UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+        } else if (method.equals("POST") && params.containsKey("uploadId")) {
+            ByteArrayOutputStream object = new ByteArrayOutputStream();
+            for (byte[] part : uploads.remove(params.get("uploadId")).values()) {
+                object.writeBytes(part);
+            }
+            objects.put(path, object.toByteArray());
+            respond(exchange, 200, "<CompleteMultipartUploadResult><ETag>\"" + UUID.randomUUID()
+                + "\"</ETag></CompleteMultipartUploadResult>");
+        } else if (method.equals("DELETE") && params.containsKey("uploadId")) {
+            uploads.remove(params.get("uploadId"));
+            respond(exchange, 204, null);
+        } else {
+            respond(exchange, 400, "<Error><Code>NotImplemented</Code></Error>");
+        }
+    }
+
+    /**
+     * Read the request body, decoding aws-chunked framing when the payload is streamed.
+     */
+    private static byte[] body(HttpExchange exchange) throws IOException {
+        byte[] raw;
+        try (InputStream in = exchange.getRequestBody()) {
+            raw = in.readAllBytes();
+        }
+        String contentSha = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (contentSha == null || !contentSha.startsWith("STREAMING-")) {
+            return raw;
+        }
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, lineEnd + 2, size);
+            position = lineEnd + 2 + size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private static int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        return bytes.length;
+    }
+
+    private static Map<String, String> params(String query) {
+        Map<String, String> params = new ConcurrentHashMap<>();
+        if (query != null) {
+            for (String pair : query.split("&")) {
+                String[] parts = pair.split("=", 2);
+                params.put(parts[0], parts.length > 1 ? parts[1] : "");
+            }
+        }
+        return params;
+    }
+
+    private static void respond(HttpExchange exchange, int status, String body) throws IOException {
+        if (body == null) {
+            exchange.sendResponseHeaders(status, -1);
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(status, bytes.length == 0 ? -1 : bytes.length);
+        if (bytes.length > 0) {
+            exchange.getResponseBody().write(bytes);
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package com.honeyexplorer.service;
+
+import com.honeyexplorer.entity.Honey;
+import com.honeyexplorer.repository.ChangeFingerprint;
+import com.honeyexplorer.repository.CityContentRepository;
+import com.honeyexplorer.repository.EventRepository;
+import com.honeyexplorer.repository.HoneyRepository;
+import com.honeyexplorer.repository.LocalSourceRepository;
+import com.honeyexplorer.service.SitemapService.SitemapArtifact;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.zip.GZIPInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.*;
+
+class SitemapServiceTest {
+
+    private static final LocalDateTime JAN = LocalDateTime.of(2026, 1, 15, 10, 0);
+
+    private final HoneyRepository honeyRepository = mock(HoneyRepository.class);
+    private final LocalSourceRepository localSourceRepository = mock(LocalSourceRepository.class);
+    private final EventRepository eventRepository = mock(EventRepository.class);
+    private final CityContentRepository cityContentRepository = mock(CityContentRepository.class);
+    private final SitemapService service = new SitemapService(
+        honeyRepository, localSourceRepository, eventRepository, cityContentRepository);
+
+    @BeforeEach
+    void setUp() {
+        when(honeyRepository.fingerprint()).thenReturn(fingerprint(1, JAN));
+        when(localSourceRepository.fingerprint()).thenReturn(fingerprint(0, null));
+        when(eventRepository.fingerprint()).thenReturn(fingerprint(0, null));
+        when(cityContentRepository.fingerprint()).thenReturn(fingerprint(0, null));
+        when(honeyRepository.findAll()).thenReturn(List.of(honey("manuka", JAN)));
+    }
+
+    @Test
+    void unchangedFingerprint_skipsRegeneration() throws Exception {
+        SitemapArtifact first = service.current();
+        service.refresh();
+        service.refresh();
+
+        assertThat(service.current()).isSameAs(first);
+        verify(honeyRepository, times(1)).findAll();
+        assertThat(new String(first.xml(), StandardCharsets.UTF_8)).contains("/honey/manuka");
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(first.gzip()))) {
+            assertThat(in.readAllBytes()).isEqualTo(first.xml());
+        }
+    }
+
+    @Test
+    void changedFingerprint_regeneratesAndKeepsValidatorsWhenOutputIsTheSame() {
+        SitemapArtifact first = service.current();
+
+        // A row changed without affecting the sitemap (e.g. a price edit on the same day)
+        when(honeyRepository.fingerprint()).thenReturn(fingerprint(1, JAN.plusHours(1)));
+        service.refresh();
+        SitemapArtifact same = service.current();
+        assertThat(same).isNotSameAs(first);
+        assertThat(same.etag()).isEqualTo(first.etag());
+        assertThat(same.lastModified()).isEqualTo(first.lastModified());
+
+        when(honeyRepository.fingerprint()).thenReturn(fingerprint(2, JAN.plusDays(1)));
+        when(honeyRepository.findAll()).thenReturn(List.of(honey("manuka", JAN), honey("clover", JAN.plusDays(1))));
+        service.refresh();
+        SitemapArtifact changed = service.current();
+        assertThat(changed.etag()).isNotEqualTo(first.etag());
+        assertThat(new String(changed.xml(), StandardCharsets.UTF_8)).contains("/honey/clover");
+        verify(honeyRepository, times(3)).findAll();
+    }
+
+    private static Honey honey(String slug, LocalDateTime updatedAt) {
+        Honey honey = new Honey();
+        honey.setSlug(slug);
+        honey.setUpdatedAt(updatedAt);
+        return honey;
+    }
+
+    private static ChangeFingerprint fingerprint(long count, LocalDateTime lastUpdated) {
+        return new ChangeFingerprint() {
+            @Override
+            public long getCount() {
+                return count;
+            }
+
+            @Override
+            public LocalDateTime getLastUpdated() {
+                return lastUpdated;
+            }
+        };
+    }
+}
@@ -0,0 +1,125 @@
+package com.honeyexplorer.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.honeyexplorer.config.JpaAuditingConfig;
+import com.honeyexplorer.config.WireFormat;
+import com.honeyexplorer.config.WireFormatMappers;
+import com.honeyexplorer.dto.EventDTO;
+import com.honeyexplorer.entity.Event;
+import com.honeyexplorer.entity.LocalSource;
+import com.honeyexplorer.entity.enums.EventType;
+import com.honeyexplorer.entity.enums.SourceType;
+import com.honeyexplorer.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.io.ByteArrayOutputStream;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * Checks that streamed list responses match the JSON of the equivalent List when the
+ * stream is longer than the persistence-context clear interval.
+ */
+@DataJpaTest(properties = {
+    "spring.flyway.enabled=false",
+    "spring.jpa.hibernate.ddl-auto=create-drop",
+    "spring.jpa.properties.hibernate.jdbc.fetch_size=3"
+})
+@Import({JpaAuditingConfig.class, StreamingJsonWriter.class, StreamingJsonWriterTest.Mappers.class})
+class StreamingJsonWriterTest {
+
+    @TestConfiguration
+    static class Mappers {
+        @Bean
+        WireFormatMappers wireFormatMappers() {
+            return new WireFormatMappers(Jackson2ObjectMapperBuilder.json().build(), Jackson2ObjectMapperBuilder.json());
+        }
+    }
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private StreamingJsonWriter streamingJsonWriter;
+
+    @Autowired
+    private WireFormatMappers mappers;
+
+    @BeforeEach
+    void createEvents() {
+        LocalDate month = LocalDate.of(2026, 5, 1);
+        for (int s = 0; s < 3; s++) {
+            LocalSource source = new LocalSource();
+            source.setName("Apiary " + s);
+            source.setSourceType(SourceType.BEEKEEPER);
+            source.setAddress(s + " Hive Lane");
+            source.setLatitude(30.0 + s);
+            source.setLongitude(-97.0);
+            source.setSlug("apiary-" + s);
+            entityManager.persist(source);
+            for (int e = 0; e < 4; e++) {
+                Event event = new Event();
+                event.setName("Market " + s + "-" + e);
+                event.setEventType(EventType.values()[0]);
+                event.setStartDate(month.plusDays(s * 4 + e));
+                event.setAddress(s + " Hive Lane");
+                event.setState("TX");
+                event.setSlug("market-" + s + "-" + e);
+                event.setLocalSource(source);
+                entityManager.persist(event);
+            }
+        }
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    @Test
+    void calendarStream_matchesListJsonAcrossClears() throws Exception {
+        List<EventDTO> expected;
+        try (Stream<Event> events = eventRepository.streamByMonth(2026, 5)) {
+            expected = events.map(EventDTO::from).toList();
+        }
+        entityManager.clear();
+        assertThat(expected).hasSize(12).allSatisfy(event -> assertThat(event.localSourceName()).startsWith("Apiary"));
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamingJsonWriter.entities(WireFormat.JSON, () -> eventRepository.streamByMonth(2026, 5), EventDTO::from)
+            .getBody()
+            .writeTo(out);
+
+        ObjectMapper json = mappers.mapper(WireFormat.JSON);
+        assertThat(out.toString()).isEqualTo(json.writeValueAsString(expected));
+    }
+
+    @Test
+    void binaryStream_decodesToTheListDocument() throws Exception {
+        List<EventDTO> expected;
+        try (Stream<Event> events = eventRepository.streamByMonth(2026, 5)) {
+            expected = events.map(EventDTO::from).toList();
+        }
+        entityManager.clear();
+
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        streamingJsonWriter.entities(WireFormat.CBOR, () -> eventRepository.streamByMonth(2026, 5), EventDTO::from)
+            .getBody()
+            .writeTo(out);
+
+        // A streamed CBOR array is indefinite-length, so compare the decoded documents
+        ObjectMapper cbor = mappers.mapper(WireFormat.CBOR);
+        assertThat(cbor.readTree(out.toByteArray())).isEqualTo(cbor.readTree(cbor.writeValueAsBytes(expected)));
+    }
+}
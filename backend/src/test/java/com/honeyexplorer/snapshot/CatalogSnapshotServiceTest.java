@@ -0,0 +1,69 @@
+package com.honeyexplorer.snapshot;
+
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.HoneyDTO;
+import com.honeyexplorer.service.CityContentService;
+import com.honeyexplorer.service.HoneyService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+class CatalogSnapshotServiceTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final HoneyService honeyService = mock(HoneyService.class);
+    private final CityContentService cityContentService = mock(CityContentService.class);
+    private final CatalogSnapshotService service = new CatalogSnapshotService(honeyService, cityContentService);
+    private Path snapshotPath;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        snapshotPath = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(snapshotPath, List.of(honey("snapshot-era")), List.of());
+        ReflectionTestUtils.setField(service, "enabled", true);
+        ReflectionTestUtils.setField(service, "snapshotPath", snapshotPath);
+        service.load();
+    }
+
+    @Test
+    void refresh_handsReadsOverToTheDatabaseAndRewritesTheSnapshot() throws Exception {
+        assertThat(service.serving()).hasValueSatisfying(snapshot ->
+            assertThat(snapshot.findHoneyBySlug("snapshot-era")).isPresent());
+
+        when(honeyService.findAllForSnapshot()).thenReturn(List.of(honey("snapshot-era"), honey("added")));
+        when(cityContentService.findAllValidatedWithCounts()).thenReturn(List.<CityContentDTO>of());
+        service.refresh();
+
+        assertThat(service.serving()).isEmpty();
+        CatalogSnapshot rewritten = CatalogSnapshot.open(snapshotPath);
+        assertThat(rewritten.honeyCount()).isEqualTo(2);
+        assertThat(rewritten.findHoneyBySlug("added")).isPresent();
+    }
+
+    @Test
+    void failedRefresh_keepsServingTheSnapshot() {
+        when(honeyService.findAllForSnapshot()).thenThrow(new DataAccessResourceFailureException("pool cold"));
+
+        assertThatThrownBy(service::refresh).isInstanceOf(DataAccessResourceFailureException.class);
+        assertThat(service.serving()).isPresent();
+    }
+
+    private static HoneyDTO honey(String slug) {
+        return new HoneyDTO(UUID.randomUUID(), slug, null, "CLOVER", "Clover", "RAW", "Raw", "USA", "USA",
+            null, null, null, null, Map.of(), null, null, null, null, null, null, slug, false, null);
+    }
+}
@@ -0,0 +1,81 @@
+package com.honeyexplorer.snapshot;
+
+import com.honeyexplorer.dto.CityContentDTO;
+import com.honeyexplorer.dto.HoneyDTO;
+import com.honeyexplorer.image.ImageDerivatives;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class CatalogSnapshotTest {
+
+    @TempDir
+    Path tempDir;
+
+    private final HoneyDTO manuka = new HoneyDTO(
+        UUID.randomUUID(), "Manuka Honey", "Rich and earthy", "MANUKA", "Manuka", "RAW", "Raw",
+        "NEW_ZEALAND", "New Zealand", "Waikato", "earthy,herbal", "https://cdn.example.com/manuka.jpg", null,
+        ImageDerivatives.srcset("https://cdn.example.com/manuka.jpg", "160,320"),
+        "Comvita", new BigDecimal("24.99"), new BigDecimal("89.50"), "UMF", 15, 514, "manuka-honey", true, null
+    );
+
+    private final HoneyDTO clover = new HoneyDTO(
+        UUID.randomUUID(), "Clover Honey", null, "CLOVER", "Clover", "RAW", "Raw",
+        "USA", "USA", null, "mild,floral", null, null, Map.of(),
+        null, null, null, null, null, null, "clover-honey", false, "https://example.com/buy"
+    );
+
+    private final CityContentDTO austin = new CityContentDTO(
+        UUID.randomUUID(), "Austin", "TX", "austin-tx", new BigDecimal("30.267153"), new BigDecimal("-97.743061"),
+        "Intro", "Facts", "Tips", "Spring", "[]", true, 92, 14, 3
+    );
+
+    @Test
+    void roundTripsHoneysAndCities() throws IOException {
+        Path file = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(file, List.of(manuka, clover), List.of(austin));
+
+        CatalogSnapshot snapshot = CatalogSnapshot.open(file);
+
+        assertThat(snapshot.honeyCount()).isEqualTo(2);
+        assertThat(snapshot.findHoneyBySlug("manuka-honey")).contains(manuka);
+        assertThat(snapshot.findHoneyBySlug("clover-honey")).contains(clover);
+        assertThat(snapshot.findHoneyBySlug("missing")).isEmpty();
+        assertThat(snapshot.findFeaturedHoneys()).containsExactly(manuka);
+        assertThat(snapshot.findCityBySlug("austin-tx")).contains(austin);
+    }
+
+    @Test
+    void citySummariesOmitLongFormContent() throws IOException {
+        Path file = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(file, List.of(), List.of(austin));
+
+        List<CityContentDTO> summaries = CatalogSnapshot.open(file).findValidatedCitySummaries();
+
+        assertThat(summaries).singleElement().satisfies(city -> {
+            assertThat(city.slug()).isEqualTo("austin-tx");
+            assertThat(city.introText()).isNull();
+        });
+    }
+
+    @Test
+    void rejectsTruncatedFile() throws IOException {
+        Path file = tempDir.resolve("catalog.snapshot");
+        CatalogSnapshotWriter.write(file, List.of(manuka), List.of(austin));
+        byte[] bytes = Files.readAllBytes(file);
+        Files.write(file, Arrays.copyOf(bytes, bytes.length - 10));
+
+        assertThatThrownBy(() -> CatalogSnapshot.open(file)).isInstanceOf(IOException.class);
+    }
+}
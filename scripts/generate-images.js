@@ -1,6 +1,7 @@
 import 'dotenv/config';
 import { fal } from '@fal-ai/client';
-import { S3Client, PutObjectCommand, HeadObjectCommand } from '@aws-sdk/client-s3';
+import { S3Client, PutObjectCommand, HeadObjectCommand, CopyObjectCommand } from '@aws-sdk/client-s3';
+import { createHash } from 'crypto';
 import { readFile, writeFile } from 'fs/promises';
 import { fileURLToPath } from 'url';
 import { dirname, join } from 'path';
@@ -159,13 +160,29 @@ async function generateImage(prompt, aspectRatio = '4:5') {
   }
 }
 
+// SHA-256 of each image uploaded this run -> the key it was stored under
+const uploadedDigests = new Map();
+
 async function uploadToR2(buffer, key) {
-  await s3Client.send(new PutObjectCommand({
-    Bucket: process.env.R2_BUCKET_NAME,
-    Key: key,
-    Body: buffer,
-    ContentType: 'image/webp',
-  }));
+  const digest = createHash('sha256').update(buffer).digest('hex');
+  const existingKey = uploadedDigests.get(digest);
+  if (existingKey) {
+    // Identical bytes are already in the bucket: copy server-side instead of re-uploading
+    await s3Client.send(new CopyObjectCommand({
+      Bucket: process.env.R2_BUCKET_NAME,
+      Key: key,
+      CopySource: `${process.env.R2_BUCKET_NAME}/${existingKey}`,
+    }));
+  } else {
+    await s3Client.send(new PutObjectCommand({
+      Bucket: process.env.R2_BUCKET_NAME,
+      Key: key,
+      Body: buffer,
+      ContentType: 'image/webp',
+      Metadata: { sha256: digest },
+    }));
+    uploadedDigests.set(digest, key);
+  }
   return `${process.env.R2_PUBLIC_URL}/${key}`;
 }
 